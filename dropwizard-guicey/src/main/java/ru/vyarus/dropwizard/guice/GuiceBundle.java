@@ -163,10 +163,17 @@ public final class GuiceBundle implements ConfiguredBundle<Configuration> {
 
         // process guicey bundles
         runner.runBundles();
-        // register all manual and classpath scan extensions (bundles may register more extensions)
-        runner.registerExtensions();
-        // prepare guice modules for injector creation
-        runner.prepareModules();
+        if (runner.isPipeline()) {
+            // prepare guice modules and record them in background
+            runner.prepareModules();
+            // register all manual and classpath scan extensions (in parallel with modules recording)
+            runner.registerExtensions();
+        } else {
+            // register all manual and classpath scan extensions (bundles may register more extensions)
+            runner.registerExtensions();
+            // prepare guice modules for injector creation
+            runner.prepareModules();
+        }
         // create injector
         runner.createInjector(injectorFactory,
                 runner.analyzeAndRepackageBindings());
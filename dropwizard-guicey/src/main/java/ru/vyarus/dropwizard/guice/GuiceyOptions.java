@@ -48,6 +48,58 @@ public enum GuiceyOptions implements Option {
      */
     ScanProtectedClasses(Boolean.class, false),
 
+    /**
+     * Use compile-time classpath scan index (generated with
+     * {@link ru.vyarus.dropwizard.guice.module.installer.scanner.index.ScanIndexProcessor}) instead of package
+     * traversal. Index is used only if it is present for all locations of scanned package, otherwise usual
+     * traversal is performed. Disabled by default.
+     * <p>
+     * IMPORTANT: index contains only classes, compiled by javac (annotation processor does not see groovy or
+     * kotlin sources), and scanner trusts index completely, so enable option only when all extensions are
+     * java classes.
+     */
+    UseScanIndex(Boolean.class, false),
+
+    /**
+     * Classpath scan without loading all found classes: class files are analyzed (with ASM) and only classes
+     * which could be recognized as installers, commands or extensions are loaded (and loaded without
+     * initialization). This avoids loading (and static initialization) of classes like DTOs and entities.
+     * Disabled by default.
+     * <p>
+     * Possible extensions are detected by installer hints
+     * ({@link ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller#getMatchHints()}). If at least one
+     * registered installer does not declare hints, all classes would be loaded for extensions recognition (but
+     * filtering would still work for installers and commands search).
+     */
+    ScanBytecodeFilter(Boolean.class, false),
+
+    /**
+     * Parallel classpath scan: scanned packages, package locations (jars and directories) and directory subtrees
+     * are traversed in dedicated fork-join pool (created only for scan) and found classes are loaded in parallel
+     * (classes are initialized sequentially, exactly as with sequential scan). Classes order is the same as for
+     * sequential scan, so extensions registration order is not affected.
+     * Disabled by default.
+     * <p>
+     * Could speed up scan for large packages (or packages spread across many jars) on multi-core machines.
+     */
+    ScanParallel(Boolean.class, false),
+
+    /**
+     * Startup cache file path. When specified, classpath scan results (installers, commands and extensions,
+     * found by classpath scan) are stored into file and used on next startup instead of classpath scan
+     * (only found classes are loaded). Disabled by default.
+     * <p>
+     * Cache is keyed by classpath fingerprint: scanned packages, custom options values, classpath jars and
+     * directories (size and modification date), so new deployment would automatically invalidate it.
+     * Cache file should not be located inside classpath directories. Custom option values must have stable
+     * {@code toString()} implementation (otherwise cache would be always invalidated).
+     * <p>
+     * Cache usage (hit or miss) is shown in stats and startup time reports.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.installer.scanner.cache.StartupCache
+     */
+    StartupCache(String.class, null),
+
     /**
      * Enables commands search in classpath and dynamic installation. Requires auto scan mode.
      * Disabled by default.
@@ -84,6 +136,43 @@ public enum GuiceyOptions implements Option {
      */
     BindConfigurationByPath(Boolean.class, true),
 
+    /**
+     * Bind only configuration paths, actually required by injection points (e.g.
+     * {@code @Inject @Config("path.to.value") Integer value}), instead of binding all configuration paths.
+     * Reduces injector bindings count (and so injector creation time) for large configurations.
+     * Disabled by default.
+     * <p>
+     * Required paths are resolved from guice modules bindings (including just-in-time bindings, reachable from
+     * declared bindings), extensions and application class. Requires {@link #AnalyzeGuiceModules} enabled
+     * (otherwise all paths are bound). Paths, requested only directly from injector (e.g.
+     * {@code injector.getInstance(Key.get(Integer.class, new ConfigImpl("path")))}) or used in not analyzed
+     * classes, would not be bound: use {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree} for such
+     * cases instead.
+     * <p>
+     * Custom qualifier bindings, unique sub configuration objects and root configuration types are always bound.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigPathsCollector
+     */
+    BindConfigurationPathsOnDemand(Boolean.class, false),
+
+    /**
+     * Maximum configuration introspection depth: deeper configuration objects would not be introspected (objects
+     * on max depth are still bound, but not their properties). Useful for huge nested configurations (where
+     * deep paths are not used for bindings anyway). 0 means no limit.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+     */
+    ConfigIntrospectionMaxDepth(Integer.class, 0),
+
+    /**
+     * Maximum introspected configuration paths count: when limit reached, introspection stops (remaining paths
+     * would not be available for binding and in {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree}).
+     * 0 means no limit.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+     */
+    ConfigIntrospectionMaxPaths(Integer.class, 0),
+
     /**
      * Track transitive dropwizard bundles registration. Affects only dropwizard bundles registered through
      * guicey api ({@link GuiceBundle.Builder#dropwizardBundles(ConfiguredBundle[])} (direct registration) and
@@ -141,6 +230,20 @@ public enum GuiceyOptions implements Option {
      */
     AnalyzePrivateGuiceModules(Boolean.class, true),
 
+    /**
+     * Run independent run phase steps concurrently: user guice modules and overriding modules are recorded
+     * (with guice SPI, like in {@link #AnalyzeGuiceModules}) in background threads, while the main thread performs
+     * extensions registration. Injector creation starts as soon as recorded bindings are analyzed.
+     * <p>
+     * Disabled by default because modules configuration ({@code configure()} methods) is performed in a different
+     * thread, concurrently with extensions registration: modules must not rely on thread-bound state (e.g.
+     * {@link ru.vyarus.dropwizard.guice.module.context.SharedConfigurationState#getStartupInstance()}) or modify
+     * shared state, used by extensions registration. Modules with access to bootstrap or environment
+     * ({@link ru.vyarus.dropwizard.guice.module.support.DropwizardAwareModule}) are always recorded in the main
+     * thread. Background recording time is shown in startup time report.
+     */
+    RunPhasePipeline(Boolean.class, false),
+
     /**
      * Guice injector stage used for injector creation.
      * Production by default.
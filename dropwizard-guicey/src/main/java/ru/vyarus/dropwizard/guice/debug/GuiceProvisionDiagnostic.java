@@ -4,6 +4,7 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import com.google.inject.AbstractModule;
 import com.google.inject.Binding;
 import com.google.inject.matcher.Matchers;
@@ -46,13 +47,17 @@ import java.time.Duration;
  *     // generate report after measured actions
  *     logger.info("Guice provision time {}", report.renderReport());
  * </code></pre>
+ * Report records each provision and so should not be used for long measurements. For production use
+ * {@link GuiceProvisionProfiler} (aggregated and sampled data).
  *
  * @author Vyacheslav Rusakov
  * @since 24.03.2025
  */
 public class GuiceProvisionDiagnostic implements GuiceyBundle {
     private final Logger logger = LoggerFactory.getLogger(GuiceProvisionDiagnostic.class);
-    private final ListMultimap<Binding<?>, Duration> data = LinkedListMultimap.create();
+    // synchronized because beans could be created concurrently
+    private final ListMultimap<Binding<?>, Duration> data =
+            Multimaps.synchronizedListMultimap(LinkedListMultimap.create());
 
     private final boolean printStartupReport;
 
@@ -87,14 +92,16 @@ public class GuiceProvisionDiagnostic implements GuiceyBundle {
      * @return recorded provision data
      */
     public ListMultimap<Binding<?>, Duration> getRecordedData() {
-        return LinkedListMultimap.create(data);
+        synchronized (data) {
+            return LinkedListMultimap.create(data);
+        }
     }
 
     /**
      * @return generated report for collected data
      */
     public String renderReport() {
-        return new GuiceProvisionRenderer().render(LinkedListMultimap.create(data));
+        return new GuiceProvisionRenderer().render(getRecordedData());
     }
 
     /**
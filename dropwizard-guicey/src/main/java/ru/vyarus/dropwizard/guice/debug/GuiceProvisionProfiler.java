@@ -0,0 +1,213 @@
+package ru.vyarus.dropwizard.guice.debug;
+
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.matcher.Matchers;
+import com.google.inject.spi.ProvisionListener;
+import ru.vyarus.dropwizard.guice.debug.profiler.ProvisionProfilerTask;
+import ru.vyarus.dropwizard.guice.debug.profiler.ProvisionStats;
+import ru.vyarus.dropwizard.guice.debug.report.guice.util.GuiceModelUtils;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime guice beans provision profiler. Unlike {@link GuiceProvisionDiagnostic} (which records each provision
+ * and so suitable only for startup or short measurements), profiler could be used in production: data is
+ * aggregated per binding with lock-free counters and bounded latency reservoirs.
+ * <ul>
+ *  <li>All provisions are counted, but only sampled provisions are measured (sampling rate configured in
+ *  constructor; 1 means measure everything)
+ *  <li>Latency distribution of each binding is exposed in dropwizard metrics as timer
+ *  {@code guice.provision.[binding key]}
+ *  <li>Number of tracked bindings is limited; provisions of other bindings are only counted as overflow
+ *  <li>Admin task {@code guice-provision-profile} prints report ({@code POST /tasks/guice-provision-profile})
+ *  or resets collected data ({@code POST /tasks/guice-provision-profile?reset=true})
+ * </ul>
+ * <pre><code>
+ *     GuiceBundle.builder()
+ *          .bundles(new GuiceProvisionProfiler(0.1, 500))
+ * </code></pre>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class GuiceProvisionProfiler implements GuiceyBundle {
+
+    /**
+     * Metric names prefix.
+     */
+    public static final String METRICS_PREFIX = "guice.provision";
+
+    private final double samplingRate;
+    private final int maxBindings;
+    private final Map<Binding<?>, ProvisionStats> stats = new ConcurrentHashMap<>();
+    private final LongAdder overflow = new LongAdder();
+    private MetricRegistry metrics;
+
+    /**
+     * Create profiler measuring all provisions for up to 1000 bindings.
+     */
+    public GuiceProvisionProfiler() {
+        this(1, 1000);
+    }
+
+    /**
+     * Create profiler.
+     *
+     * @param samplingRate part of measured provisions (0 - 1]
+     * @param maxBindings  maximum number of tracked bindings
+     */
+    public GuiceProvisionProfiler(final double samplingRate, final int maxBindings) {
+        Preconditions.checkArgument(samplingRate > 0 && samplingRate <= 1,
+                "Sampling rate must be in (0, 1] range: %s", samplingRate);
+        Preconditions.checkArgument(maxBindings > 0, "Max bindings must be positive: %s", maxBindings);
+        this.samplingRate = samplingRate;
+        this.maxBindings = maxBindings;
+    }
+
+    @Override
+    public void run(final GuiceyEnvironment environment) throws Exception {
+        metrics = environment.environment().metrics();
+        environment.modules(new ProfilerModule(this));
+        environment.environment().admin().addTask(new ProvisionProfilerTask(this));
+    }
+
+    /**
+     * @return collected statistics per binding
+     */
+    public Map<Binding<?>, ProvisionStats> getStats() {
+        return Map.copyOf(stats);
+    }
+
+    /**
+     * @return provisions count of not tracked bindings (after max bindings limit reached)
+     */
+    public long getOverflowCount() {
+        return overflow.sum();
+    }
+
+    /**
+     * Reset collected data (including registered metrics).
+     */
+    public void reset() {
+        stats.clear();
+        overflow.reset();
+        if (metrics != null) {
+            metrics.removeMatching(MetricFilter.startsWith(METRICS_PREFIX + "."));
+        }
+    }
+
+    /**
+     * Report sorted by overall (estimated) provision time. Time values are computed for sampled provisions only.
+     *
+     * @return generated report for collected data
+     */
+    @SuppressWarnings("checkstyle:MultipleStringLiterals")
+    public String renderReport() {
+        final List<ProvisionStats> values = new ArrayList<>(stats.values());
+        values.sort(Comparator.comparingLong(ProvisionStats::getEstimatedTime).reversed()
+                .thenComparing(ProvisionStats::getKey));
+        final StringBuilder res = new StringBuilder(
+                String.format("%n%n\t%-10s %-10s %-10s %-10s %-10s %-10s %s%n",
+                        "count", "sampled", "mean", "p95", "p99", "max", "binding"));
+        for (ProvisionStats stat : values) {
+            final Snapshot snapshot = stat.getSnapshot();
+            res.append(String.format("\t%-10s %-10s %-10s %-10s %-10s %-10s %s%n",
+                    stat.getCount(), stat.getSampledCount(), ms(snapshot.getMean()),
+                    ms(snapshot.get95thPercentile()), ms(snapshot.get99thPercentile()), ms(snapshot.getMax()),
+                    stat.getKey()));
+        }
+        final long overflowCount = overflow.sum();
+        if (overflowCount > 0) {
+            res.append(String.format("%n\t%s provisions of not tracked bindings (max %s bindings)%n",
+                    overflowCount, maxBindings));
+        }
+        return res.toString();
+    }
+
+    private void record(final Binding<?> binding, final long nanos) {
+        final ProvisionStats stat = stats(binding);
+        if (stat == null) {
+            overflow.increment();
+        } else {
+            stat.record(nanos);
+        }
+    }
+
+    private void count(final Binding<?> binding) {
+        final ProvisionStats stat = stats(binding);
+        if (stat == null) {
+            overflow.increment();
+        } else {
+            stat.count();
+        }
+    }
+
+    private ProvisionStats stats(final Binding<?> binding) {
+        ProvisionStats res = stats.get(binding);
+        // limit could be slightly exceeded under concurrent registration, which is not important
+        if (res == null && stats.size() < maxBindings) {
+            res = stats.computeIfAbsent(binding, b -> {
+                final String key = GuiceModelUtils.renderKey(b.getKey());
+                return new ProvisionStats(key, metrics != null
+                        ? metrics.timer(MetricRegistry.name(METRICS_PREFIX, key))
+                        : new Timer());
+            });
+        }
+        return res;
+    }
+
+    private boolean sample() {
+        return samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    private static String ms(final double nanos) {
+        return String.format("%.3f ms", nanos / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Module registers provision listener (could be used directly for standalone injectors).
+     */
+    public static class ProfilerModule extends AbstractModule {
+        private final GuiceProvisionProfiler profiler;
+
+        /**
+         * Create module.
+         *
+         * @param profiler profiler
+         */
+        public ProfilerModule(final GuiceProvisionProfiler profiler) {
+            this.profiler = profiler;
+        }
+
+        @Override
+        protected void configure() {
+            bindListener(Matchers.any(), new ProvisionListener() {
+                @Override
+                public <T> void onProvision(final ProvisionInvocation<T> provision) {
+                    if (profiler.sample()) {
+                        final long start = System.nanoTime();
+                        provision.provision();
+                        profiler.record(provision.getBinding(), System.nanoTime() - start);
+                    } else {
+                        profiler.count(provision.getBinding());
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ru.vyarus.dropwizard.guice.debug.profiler;
+
+import io.dropwizard.servlets.tasks.Task;
+import ru.vyarus.dropwizard.guice.debug.GuiceProvisionProfiler;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin task for {@link GuiceProvisionProfiler}: prints collected provision statistics
+ * ({@code POST /tasks/guice-provision-profile}) and resets collected data
+ * ({@code POST /tasks/guice-provision-profile?reset=true}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ProvisionProfilerTask extends Task {
+
+    /**
+     * Task name.
+     */
+    public static final String NAME = "guice-provision-profile";
+
+    private final GuiceProvisionProfiler profiler;
+
+    /**
+     * Create task.
+     *
+     * @param profiler profiler
+     */
+    public ProvisionProfilerTask(final GuiceProvisionProfiler profiler) {
+        super(NAME);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void execute(final Map<String, List<String>> parameters, final PrintWriter output) throws Exception {
+        final List<String> reset = parameters.get("reset");
+        if (reset != null && (reset.isEmpty() || Boolean.parseBoolean(reset.get(0)))) {
+            profiler.reset();
+            output.println("Guice provision profile reset");
+        } else {
+            output.println(profiler.renderReport());
+        }
+        output.flush();
+    }
+}
@@ -0,0 +1,90 @@
+package ru.vyarus.dropwizard.guice.debug.profiler;
+
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Provision statistics for one guice binding. All provisions are counted, but only sampled provisions are
+ * measured. Latency distribution is recorded with dropwizard {@link Timer} (bounded reservoir), so memory usage
+ * does not depend on provisions count.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ProvisionStats {
+
+    private final String key;
+    private final Timer timer;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sampledTime = new LongAdder();
+
+    /**
+     * Create stats.
+     *
+     * @param key   binding key (rendered)
+     * @param timer timer to record sampled provisions into
+     */
+    public ProvisionStats(final String key, final Timer timer) {
+        this.key = key;
+        this.timer = timer;
+    }
+
+    /**
+     * Count not sampled provision.
+     */
+    public void count() {
+        count.increment();
+    }
+
+    /**
+     * Record sampled provision.
+     *
+     * @param nanos provision time
+     */
+    public void record(final long nanos) {
+        count.increment();
+        sampledTime.add(nanos);
+        timer.update(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return binding key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return all provisions count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return measured (sampled) provisions count
+     */
+    public long getSampledCount() {
+        return timer.getCount();
+    }
+
+    /**
+     * @return latency distribution of sampled provisions (nanoseconds)
+     */
+    public Snapshot getSnapshot() {
+        return timer.getSnapshot();
+    }
+
+    /**
+     * Overall provisions time, estimated from sampled provisions (exact when all provisions measured).
+     *
+     * @return estimated overall provisions time (nanoseconds)
+     */
+    public long getEstimatedTime() {
+        final long sampled = getSampledCount();
+        return sampled == 0 ? 0 : (long) ((double) sampledTime.sum() * getCount() / sampled);
+    }
+}
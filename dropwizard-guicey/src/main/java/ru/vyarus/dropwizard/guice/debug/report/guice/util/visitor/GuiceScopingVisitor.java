@@ -10,6 +10,7 @@ import com.google.inject.servlet.SessionScoped;
 import com.google.inject.spi.DefaultBindingScopingVisitor;
 import com.google.inject.spi.LinkedKeyBinding;
 import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton;
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.ParallelEagerInitializer;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
 import ru.vyarus.dropwizard.guice.module.support.scope.Prototype;
 
@@ -54,6 +55,10 @@ public class GuiceScopingVisitor
         if (ServletScopes.SESSION.equals(scope)) {
             res = SessionScoped.class;
         }
+        if (ParallelEagerInitializer.LAZY_SINGLETON.equals(scope)) {
+            // instantiated by guicey just after injector creation
+            res = EagerSingleton.class;
+        }
         // not supporting custom scopes
         return res;
     }
@@ -5,17 +5,22 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import org.eclipse.jetty.util.component.LifeCycle;
+import ru.vyarus.dropwizard.guice.module.installer.feature.managed.ParallelManagedGroup;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EventListener;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Managed objects tracker for startup time report. Replaces managed objects list inside
  * {@link io.dropwizard.lifecycle.setup.LifecycleEnvironment} to wrap existing and future managed (and lifecycle)
  * objects (to be able to track start and stop executions).
+ * <p>
+ * For {@link ParallelManagedGroup}, start and stop times of each grouped object are also recorded.
  *
  * @author Vyacheslav Rusakov
  * @since 10.03.2025
@@ -97,11 +102,14 @@ public class ManagedTracker extends ArrayList<LifeCycle> {
         private final LifeCycle object;
         private final boolean managed;
         private final Class<?> type;
+        private final ParallelManagedGroup group;
 
         LifeCycleTracker(final LifeCycle object) {
             this.object = object;
             managed = object instanceof JettyManaged;
             type = managed ? ((JettyManaged) object).getManaged().getClass() : object.getClass();
+            group = managed && ((JettyManaged) object).getManaged() instanceof ParallelManagedGroup
+                    ? (ParallelManagedGroup) ((JettyManaged) object).getManaged() : null;
         }
 
         @Override
@@ -110,6 +118,9 @@ public class ManagedTracker extends ArrayList<LifeCycle> {
             object.start();
             start.getManagedTimes().put(type, timer.stop().elapsed());
             start.getManagedTypes().put(type, managed ? "managed" : "lifecycle");
+            if (group != null) {
+                record(group.getStartTimes(), start.getManagedTimes(), start.getManagedTypes());
+            }
         }
 
         @Override
@@ -118,6 +129,18 @@ public class ManagedTracker extends ArrayList<LifeCycle> {
             object.stop();
             stop.getManagedTimes().put(type, timer.stop().elapsed());
             stop.getManagedTypes().put(type, managed ? "managed" : "lifecycle");
+            if (group != null) {
+                record(group.getStopTimes(), stop.getManagedTimes(), stop.getManagedTypes());
+            }
+        }
+
+        private void record(final Map<Class<?>, Duration> groupTimes,
+                            final Map<Class, Duration> times,
+                            final Map<Class, String> types) {
+            groupTimes.forEach((grouped, duration) -> {
+                times.put(grouped, duration);
+                types.put(grouped, "parallel");
+            });
         }
 
         @Override
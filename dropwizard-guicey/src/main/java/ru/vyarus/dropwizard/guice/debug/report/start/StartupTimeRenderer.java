@@ -78,7 +78,8 @@ public class StartupTimeRenderer {
             res.append(line(shift + 2, className, duration));
         });
 
-        res.append(line(shift + 1, "Classpath scan", info.getStats().duration(Stat.ScanTime)))
+        res.append(line(shift + 1, "Classpath scan", null, info.getStats().duration(Stat.ScanTime),
+                        getStartupCacheMarker(info)))
 
                 .append(line(shift + 1, "Commands processing", info.getStats().duration(Stat.CommandTime)));
         info.getStats().getDetailedStats(DetailStat.Command).forEach((type, duration) ->
@@ -117,8 +118,13 @@ public class StartupTimeRenderer {
                                 final StringBuilder res) {
         // same as info.getStats().duration(Stat.RunTime) but slightly more accurate
         res.append(line(shift, GuiceBundle.class.getSimpleName(), duration))
-                .append(line(shift + 1, "Configuration analysis", info.getStats().duration(Stat.ConfigurationAnalysis)))
-                .append(line(shift + 1, "Guicey bundles run", info.getStats().duration(Stat.GuiceyBundleRunTime)));
+                .append(line(shift + 1, "Configuration analysis", info.getStats().duration(Stat.ConfigurationAnalysis)));
+        // cache is process-wide, so saved time appears only for repeated introspections (e.g. in tests)
+        final Duration introspectionSaved = info.getStats().duration(Stat.ConfigIntrospectionSavedTime);
+        if (!introspectionSaved.isZero()) {
+            res.append(line(shift + 2, "Introspection cache (saved time)", introspectionSaved));
+        }
+        res.append(line(shift + 1, "Guicey bundles run", info.getStats().duration(Stat.GuiceyBundleRunTime)));
 
         // here order would be correct because there is no transitive bundles installation
         info.getStats().getDetailedStats(DetailStat.BundleRun).forEach((type, time) ->
@@ -126,9 +132,10 @@ public class StartupTimeRenderer {
 
         final Duration bindingsAnalysisTime = info.getStats().duration(Stat.BindingsAnalysisTime);
         res.append(line(shift + 1, "Guice modules processing", info.getStats().duration(Stat.ModulesProcessingTime)))
-                .append(line(shift + 2, "Bindings resolution", info.getStats().duration(Stat.BindingsResolutionTime)))
+                .append(line(shift + 2, "Bindings resolution", info.getStats().duration(Stat.BindingsResolutionTime)));
+        printPipeline(shift + 2, info, res);
 
-                .append(line(shift + 1, "Installers time", info.getStats().duration(Stat.InstallersTime)
+        res.append(line(shift + 1, "Installers time", info.getStats().duration(Stat.InstallersTime)
                         .minus(info.getInitInstallersTime())
                         .plus(info.getStats().duration(Stat.ExtensionsInstallationTime))))
                 .append(line(shift + 2, "Extensions registration", info.getStats()
@@ -146,6 +153,12 @@ public class StartupTimeRenderer {
                 res.append(tab(shift + 2)).append(String.format("%-35s: %s%n", val[0], val[1]));
             }
         });
+        final Map<Class<?>, Duration> eager = info.getStats().getDetailedStats(DetailStat.EagerSingleton);
+        if (!eager.isEmpty()) {
+            res.append(line(shift + 2, "Eager singletons (parallel)",
+                    info.getStats().duration(Stat.EagerSingletonsTime)));
+            eager.forEach((type, time) -> res.append(line(shift + 3, RenderUtils.getClassName(type), time)));
+        }
 
         res.append(line(shift + 1, "Listeners time", info.getRunListenersTime()));
         info.getStats().getDetailedStats(DetailStat.Listener).forEach((type, time) -> {
@@ -155,6 +168,20 @@ public class StartupTimeRenderer {
         });
     }
 
+    private void printPipeline(final int shift,
+                               final StartupTimeInfo info,
+                               final StringBuilder res) {
+        final Duration modules = info.getStats().duration(Stat.ModulesRecordingTime);
+        final Duration overrides = info.getStats().duration(Stat.OverridingModulesRecordingTime);
+        // background recording performed in parallel with extensions registration
+        if (!modules.isZero()) {
+            res.append(line(shift, "Modules recording (background)", modules));
+        }
+        if (!overrides.isZero()) {
+            res.append(line(shift, "Overriding modules recording (background)", overrides));
+        }
+    }
+
     private void printGuiceyWeb(final int shift,
                                 final StartupTimeInfo info,
                                 final StringBuilder res) {
@@ -185,6 +212,16 @@ public class StartupTimeRenderer {
         });
     }
 
+    private String getStartupCacheMarker(final StartupTimeInfo info) {
+        String res = null;
+        if (info.getStats().count(Stat.StartupCacheMissCount) > 0) {
+            res = " (startup cache miss)";
+        } else if (info.getStats().count(Stat.StartupCacheHitCount) > 0) {
+            res = " (startup cache hit)";
+        }
+        return res;
+    }
+
     private String line(final int shift,
                         final String name,
                         final Duration duration) {
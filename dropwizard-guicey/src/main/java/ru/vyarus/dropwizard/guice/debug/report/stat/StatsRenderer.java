@@ -73,7 +73,21 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
             final TreeNode node = root.child("[%.2g%%] CLASSPATH scanned in %s",
                     scan / percent, info.getStats().humanTime(ScanTime));
             final int classes = info.getStats().count(ScanClassesCount);
-            node.child("scanned %s classes", classes);
+            final int indexed = info.getStats().count(ScanIndexedClassesCount);
+            if (indexed > 0) {
+                node.child("scanned %s classes (%s from index)", classes, indexed);
+            } else {
+                node.child("scanned %s classes", classes);
+            }
+            if (info.getStats().count(StartupCacheMissCount) > 0) {
+                node.child("startup cache miss (cache updated)");
+            } else if (info.getStats().count(StartupCacheHitCount) > 0) {
+                node.child("startup cache hit (classpath scan avoided)");
+            }
+            final int loaded = info.getStats().count(ScanLoadedClassesCount);
+            if (loaded > 0) {
+                node.child("loaded %s classes after bytecode filtering", loaded);
+            }
             final int recognized = info.getData().getItems(Filters.fromScan()).size();
             node.child("recognized %s classes (%.2g%% of scanned)",
                     recognized, recognized / (classes / 100f));
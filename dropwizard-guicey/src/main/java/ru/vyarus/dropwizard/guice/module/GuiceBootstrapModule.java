@@ -75,6 +75,6 @@ public class GuiceBootstrapModule<T extends Configuration> extends DropwizardAwa
     private void bindEnvironment() {
         bind(Bootstrap.class).toInstance(bootstrap());
         bind(Environment.class).toInstance(environment());
-        install(new ConfigBindingModule(configuration(), configurationTree()));
+        install(new ConfigBindingModule(configuration(), configurationTree(), context.getRequiredConfigPaths()));
     }
 }
@@ -7,30 +7,42 @@ import io.dropwizard.core.cli.Command;
 import io.dropwizard.core.setup.Bootstrap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.bundle.GuiceyBundleLookup;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.context.option.internal.OptionHolder;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.installer.CoreInstallersBundle;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.internal.CommandSupport;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder;
 import ru.vyarus.dropwizard.guice.module.installer.option.WithOptions;
 import ru.vyarus.dropwizard.guice.module.installer.order.OrderComparator;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassVisitor;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.cache.StartupCache;
 import ru.vyarus.dropwizard.guice.module.installer.util.BundleSupport;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.InstanceUtils;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ScanBytecodeFilter;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ScanParallel;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.ScanPackages;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.ScanProtectedClasses;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.SearchCommands;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.UseCoreInstallers;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.UseScanIndex;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.BundleResolutionTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.BundleTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ConfigurationTime;
@@ -39,6 +51,7 @@ import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.GuiceyBundleIn
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.GuiceyTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.InstallersResolutionTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.InstallersTime;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanTime;
 
 /**
  * Guicey initialization logic performed under dropwizard configuration phase.
@@ -67,7 +80,12 @@ public class GuiceyInitializer {
 
     private final Bootstrap bootstrap;
     private final ConfigurationContext context;
-    private final ClasspathScanner scanner;
+    private final Set<String> packages;
+    private final StartupCache cache;
+    // classes, recognized from classpath scan (for startup cache)
+    private final Set<Class<?>> recognized = new LinkedHashSet<>();
+    private ClasspathScanner scanner;
+    private boolean cacheHit;
 
     /**
      * Create initializer.
@@ -83,16 +101,20 @@ public class GuiceyInitializer {
 
         this.bootstrap = bootstrap;
         this.context = context;
-        final String[] packages = context.option(ScanPackages);
-        final boolean acceptProtected = context.option(ScanProtectedClasses);
+        final String[] scanPackages = context.option(ScanPackages);
         // configuration shortcut for all packages starting from application location
-        if (packages.length == 1 && APP_PKG.equals(packages[0])) {
-            packages[0] = bootstrap.getApplication().getClass().getPackage().getName();
+        if (scanPackages.length == 1 && APP_PKG.equals(scanPackages[0])) {
+            scanPackages[0] = bootstrap.getApplication().getClass().getPackage().getName();
         }
+        this.packages = Sets.newHashSet(Arrays.asList(scanPackages));
+        final String cacheFile = context.option(GuiceyOptions.StartupCache);
+        this.cache = !packages.isEmpty() && cacheFile != null ? createCache(Paths.get(cacheFile)) : null;
         // classpath scan performed immediately (if required)
-        this.scanner = packages.length > 0
-                ? new ClasspathScanner(
-                Sets.newHashSet(Arrays.asList(packages)), acceptProtected, context.stat()) : null;
+        if (cacheHit) {
+            logger.debug("Classpath scan results loaded from startup cache: {}", cacheFile);
+        } else if (!packages.isEmpty()) {
+            this.scanner = createScanner();
+        }
     }
 
     /**
@@ -124,6 +146,7 @@ public class GuiceyInitializer {
                     "Commands search could not be performed, because auto scan was not activated");
 
             final List<Command> installed = CommandSupport.registerCommands(bootstrap, scanner, context);
+            installed.forEach(cmd -> recognized.add(cmd.getClass()));
             context.lifecycle().commandsResolved(installed);
         }
     }
@@ -150,13 +173,32 @@ public class GuiceyInitializer {
         final StatTimer timer = context.stat().timer(ExtensionsRecognitionTime);
         final ExtensionsHolder holder = context.getExtensionsHolder();
         if (scanner != null) {
+            if (cacheHit && !isCachedInstallers(holder.getInstallers())) {
+                // cached extensions could be recognized by different installers
+                logger.debug("Installers changed since startup cache creation: perform classpath scan");
+                cache.miss();
+                cacheHit = false;
+                scanner = createScanner();
+            }
+            final boolean storeCache = cache != null && !cacheHit;
             final List<Class<?>> extensions = new ArrayList<>();
             scanner.scan(type -> {
                 // detect by installer - if installer found for sure it is an extension
-                if (context.isAcceptableAutoScanClass(type) && holder.acceptScanCandidate(type)) {
-                    extensions.add(type);
+                if (context.isAcceptableAutoScanClass(type)) {
+                    if (holder.acceptScanCandidate(type)) {
+                        extensions.add(type);
+                        recognized.add(type);
+                    }
+                } else if (storeCache && holder.findInstaller(type) != null) {
+                    // filters could depend on environment, so filtered extensions are also cached
+                    // (filters applied to cached classes)
+                    recognized.add(type);
                 }
-            });
+            }, getExtensionHints(holder.getInstallers()));
+            if (storeCache) {
+                cache.store(recognized, holder.getInstallers().stream()
+                        .map(FeatureInstaller::getClass).collect(Collectors.toList()));
+            }
             // fire event with detected extensions, but they are not registered yet
             context.lifecycle().classpathExtensionsResolved(extensions);
         }
@@ -194,9 +236,10 @@ public class GuiceyInitializer {
                         installers.add((Class<? extends FeatureInstaller>) type);
                     }
                 }
-            });
+            }, MatchHints.types(FeatureInstaller.class));
             // sort to unify registration order on different systems
             installers.sort(Comparator.comparing(Class::getName));
+            recognized.addAll(installers);
             context.registerInstallersFromScan(installers);
         }
         final List<Class<? extends FeatureInstaller>> installers = context.getEnabledInstallers();
@@ -229,5 +272,70 @@ public class GuiceyInitializer {
         return installers;
     }
 
+    /**
+     * Startup cache validation and loading time is a part of classpath scan time.
+     *
+     * @param file cache file
+     * @return startup cache
+     */
+    @SuppressWarnings("unchecked")
+    private StartupCache createCache(final Path file) {
+        final StatTimer timer = context.stat().timer(ScanTime);
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        // custom options could affect classpath scan (value toString must be stable)
+        final List<String> options = new ArrayList<>();
+        for (Object option : context.options().getOptions()) {
+            final OptionHolder holder = context.options().getHolder((Enum) option);
+            if (holder.isSet()) {
+                options.add(holder.toString());
+            }
+        }
+        options.sort(Comparator.naturalOrder());
+        final StartupCache res = new StartupCache(file, packages, options, loader, context.stat());
+        final List<String> classes = res.load();
+        if (classes != null) {
+            // classes loaded (and initialized) in cached order, exactly as during classpath scan
+            final ClasspathScanner cached = new ClasspathScanner(packages, classes, loader, context.stat());
+            if (cached.isResolved()) {
+                res.hit();
+                cacheHit = true;
+                scanner = cached;
+            } else {
+                logger.debug("Startup cache is outdated: not all cached classes could be loaded");
+                res.miss();
+            }
+        }
+        timer.stop();
+        return res;
+    }
+
+    private ClasspathScanner createScanner() {
+        return new ClasspathScanner(packages, context.option(ScanProtectedClasses), context.option(UseScanIndex),
+                context.option(ScanBytecodeFilter), context.option(ScanParallel), context.stat());
+    }
+
+    private boolean isCachedInstallers(final List<FeatureInstaller> installers) {
+        return cache.getInstallers().equals(installers.stream()
+                .map(installer -> installer.getClass().getName()).collect(Collectors.toList()));
+    }
 
+    /**
+     * Extension hints are used only for classpath scan with bytecode filtering.
+     *
+     * @param installers registered installers
+     * @return combined installer hints or null if at least one installer does not declare hints
+     */
+    private MatchHints getExtensionHints(final List<FeatureInstaller> installers) {
+        MatchHints res = null;
+        for (FeatureInstaller installer : installers) {
+            final MatchHints hints = installer.getMatchHints();
+            if (hints == null) {
+                logger.debug("Installer {} does not declare match hints: all scanned classes would be "
+                        + "checked for extensions", installer.getClass().getName());
+                return null;
+            }
+            res = res == null ? hints : res.or(hints);
+        }
+        return res;
+    }
 }
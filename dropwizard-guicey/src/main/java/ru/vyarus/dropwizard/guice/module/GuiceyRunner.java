@@ -2,16 +2,21 @@ package ru.vyarus.dropwizard.guice.module;
 
 import com.google.inject.Injector;
 import com.google.inject.Module;
+import com.google.inject.Stage;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.injector.InjectorFactory;
 import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.context.stat.DetailStat;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingletonInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.ParallelEagerInitializer;
 import ru.vyarus.dropwizard.guice.module.installer.internal.CommandSupport;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsSupport;
+import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesRecorder;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesSupport;
 import ru.vyarus.dropwizard.guice.module.installer.util.BundleSupport;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
@@ -21,8 +26,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.InjectorStage;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.RunPhasePipeline;
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.ParallelEagerSingletons;
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.ParallelEagerSingletonsThreads;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.BundleTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.CommandTime;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.EagerSingletonsTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ExtensionsInstallationTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ExtensionsRecognitionTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.GuiceyBundleRunTime;
@@ -41,6 +50,8 @@ import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.RunTime;
 public class GuiceyRunner {
 
     private final ConfigurationContext context;
+    private final boolean pipeline;
+    private ModulesRecorder recorder;
     private Injector injector;
 
     /**
@@ -58,6 +69,18 @@ public class GuiceyRunner {
 
         context.runPhaseStarted(configuration, environment);
         this.context = context;
+        this.pipeline = context.option(RunPhasePipeline);
+    }
+
+    /**
+     * When pipeline is enabled, guice modules are prepared before extensions registration in order to record
+     * modules in background (in parallel with extensions registration).
+     *
+     * @return true if run phase pipeline enabled
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#RunPhasePipeline
+     */
+    public boolean isPipeline() {
+        return pipeline;
     }
 
     /**
@@ -110,13 +133,16 @@ public class GuiceyRunner {
     }
 
     /**
-     * Prepare guice modules for injector creation.
+     * Prepare guice modules for injector creation. In pipeline mode, starts modules recording in background.
      */
     public void prepareModules() {
         final StatTimer timer = context.stat().timer(ModulesProcessingTime);
         // dropwizard specific bindings and jersey integration
         context.registerModules(new GuiceBootstrapModule<>(context));
         ModulesSupport.configureModules(context);
+        if (pipeline) {
+            recorder = new ModulesRecorder(context);
+        }
         timer.stop();
     }
 
@@ -137,7 +163,7 @@ public class GuiceyRunner {
      * @return modules to use
      */
     public Iterable<Module> analyzeAndRepackageBindings() {
-        final Iterable<Module> res = ModulesSupport.prepareModules(context);
+        final Iterable<Module> res = ModulesSupport.prepareModules(context, recorder);
         context.finalizeConfiguration();
         context.lifecycle().extensionsResolved(context.getEnabledExtensions(), context.getDisabledExtensions());
         return res;
@@ -161,9 +187,37 @@ public class GuiceyRunner {
                 context.option(InjectorStage), modules);
         context.stat().getGuiceStats().resetStatsLogger();
         InjectorLookup.registerInjector(context.getBootstrap().getApplication(), injector);
+        initializeEagerSingletons();
         timer.stop();
     }
 
+    /**
+     * Parallel eager singletons instantiation (when enabled).
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingGenericException", "PMD.AvoidThrowingRawExceptionTypes"})
+    private void initializeEagerSingletons() {
+        final List<Class<?>> eager = context.getExtensionsHolder().getExtensions(EagerSingletonInstaller.class);
+        // option checked only when eager singletons present to not mark it as used in options report
+        if (eager == null || eager.isEmpty() || !context.option(ParallelEagerSingletons)
+                || context.option(InjectorStage) == Stage.TOOL) {
+            return;
+        }
+        final StatTimer timer = context.stat().timer(EagerSingletonsTime);
+        final ParallelEagerInitializer initializer =
+                new ParallelEagerInitializer(context.option(ParallelEagerSingletonsThreads));
+        try {
+            initializer.initialize(injector, eager);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to instantiate eager singletons", ex);
+        } finally {
+            initializer.getTimes().forEach((type, time) ->
+                    context.stat().detailTime(DetailStat.EagerSingleton, type, time));
+            timer.stop();
+        }
+    }
+
     /**
      * Execute extensions installation (by type and instance).
      */
@@ -64,6 +64,8 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.BindConfigurationByPath;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ConfigIntrospectionMaxDepth;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ConfigIntrospectionMaxPaths;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.BundleTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.DropwizardBundleInitTime;
 
@@ -97,6 +99,7 @@ public final class ConfigurationContext {
     private Bootstrap bootstrapProxy;
     private Configuration configuration;
     private ConfigurationTree configurationTree;
+    private Set<String> requiredConfigPaths;
     private Environment environment;
     private ExtensionsHolder extensionsHolder;
     private List<GuiceyBundle> initOrder;
@@ -827,8 +830,11 @@ public final class ConfigurationContext {
     public void runPhaseStarted(final Configuration configuration, final Environment environment) {
         this.configuration = configuration;
         final StatTimer timer = stat().timer(Stat.ConfigurationAnalysis);
-        this.configurationTree = ConfigTreeBuilder
-                .build(bootstrap, configuration, option(BindConfigurationByPath));
+        this.configurationTree = ConfigTreeBuilder.build(bootstrap, configuration,
+                option(BindConfigurationByPath),
+                option(ConfigIntrospectionMaxDepth),
+                option(ConfigIntrospectionMaxPaths),
+                stat());
         timer.stop();
         this.environment = environment;
         // register in shared state just in case
@@ -965,6 +971,23 @@ public final class ConfigurationContext {
         return configurationTree;
     }
 
+    /**
+     * Required paths are resolved only when
+     * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BindConfigurationPathsOnDemand} enabled.
+     *
+     * @return configuration paths, required by injection points or null to bind all paths
+     */
+    public Set<String> getRequiredConfigPaths() {
+        return requiredConfigPaths;
+    }
+
+    /**
+     * @param paths configuration paths, required by injection points
+     */
+    public void setRequiredConfigPaths(final Set<String> paths) {
+        this.requiredConfigPaths = paths;
+    }
+
     /**
      * @return dropwizard environment object
      */
@@ -2,6 +2,8 @@ package ru.vyarus.dropwizard.guice.module.context.option.internal;
 
 import ru.vyarus.dropwizard.guice.module.context.option.Option;
 
+import java.util.Arrays;
+
 /**
  * Holds used options (set or read) info.
  *
@@ -50,7 +52,7 @@ public final class OptionHolder<T> {
 
     @Override
     public String toString() {
-        return option + " = " + value;
+        return option + " = " + (value instanceof Object[] ? Arrays.deepToString((Object[]) value) : value);
     }
 
     /**
@@ -26,5 +26,9 @@ public enum DetailStat {
     /**
      * Listeners of type processing.
      */
-    Listener
+    Listener,
+    /**
+     * Eager singleton instantiation time (only for parallel eager singletons instantiation).
+     */
+    EagerSingleton
 }
@@ -43,9 +43,41 @@ public enum Stat {
      */
     ScanTime(true),
     /**
-     * Count of classes loaded during classpath scan.
+     * Count of classes loaded during classpath scan (all classes from scanned packages, visible by modifiers).
+     * With bytecode filtering, count of analyzed class files.
      */
     ScanClassesCount(false),
+    /**
+     * Count of scanned classes, accepted for installers, commands and extensions recognition (not inner and not
+     * annotated with {@link ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner}).
+     * With bytecode filtering, only loaded classes are counted. Part of {@link #ScanClassesCount}.
+     */
+    ScanAcceptedClassesCount(false),
+    /**
+     * Count of classes loaded from compile-time scan index (without packages traversal). Part of
+     * {@link #ScanClassesCount}.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.installer.scanner.index.ScanIndexProcessor
+     */
+    ScanIndexedClassesCount(false),
+    /**
+     * Count of classes actually loaded by classpath scanner when bytecode filtering is enabled
+     * ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanBytecodeFilter}). In this case, {@link #ScanClassesCount}
+     * shows count of analyzed class files. Note that with bytecode filtering classes are loaded during installers,
+     * commands and extensions search and so loading time is not a part of {@link #ScanTime}.
+     */
+    ScanLoadedClassesCount(false),
+    /**
+     * Startup cache hit: classpath scan results were loaded from cache file
+     * ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#StartupCache}). In this case, {@link #ScanTime} shows
+     * cache validation and loading time and {@link #ScanClassesCount} shows count of cached classes.
+     */
+    StartupCacheHitCount(false),
+    /**
+     * Startup cache miss: cache file not exists or outdated (classpath scan performed and cache file updated).
+     * Could be also counted after cache hit if cached extensions could not be used (due to changed installers).
+     */
+    StartupCacheMissCount(false),
     /**
      * Bundles resolution, creation, initialization and run time (combined from both configuration and run phases).
      * Also includes dropwizard bundles initialization time (for bundles registered through guicey api).
@@ -92,6 +124,16 @@ public enum Stat {
      * Time of configuration object parsing (to bind later by value). Part of {@link #RunTime}.
      */
     ConfigurationAnalysis(true),
+    /**
+     * Count of configuration types with introspection metadata taken from cache (types already introspected
+     * before in the same JVM, for example, by previous test application). Part of {@link #ConfigurationAnalysis}.
+     */
+    ConfigIntrospectionCacheHits(false),
+    /**
+     * Configuration types introspection time saved by introspection metadata cache. Computed as
+     * sum of initial introspection time for all types, taken from cache.
+     */
+    ConfigIntrospectionSavedTime(true),
     /**
      * Time of guicey bundles run execution. Part of {@link #BundleTime} and {@link #RunTime}.
      */
@@ -131,6 +173,17 @@ public enum Stat {
      * ({@link #InjectorCreationTime}).
      */
     BindingsResolutionTime(true),
+    /**
+     * User guice modules recording time in background thread. Collected only when run phase pipeline
+     * enabled ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#RunPhasePipeline}). In this case
+     * {@link #BindingsResolutionTime} shows only main thread waiting time.
+     */
+    ModulesRecordingTime(true),
+    /**
+     * Overriding guice modules recording time in background thread. Collected only when run phase
+     * pipeline enabled ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#RunPhasePipeline}).
+     */
+    OverridingModulesRecordingTime(true),
 
     /**
      * Time of parsed bindings analysis. Part of {@link #ExtensionsRecognitionTime}.
@@ -140,6 +193,12 @@ public enum Stat {
      * Guice injector creation time. Part of {@link #RunTime}.
      */
     InjectorCreationTime(true),
+    /**
+     * Parallel eager singletons instantiation time (only when
+     * {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#ParallelEagerSingletons} enabled).
+     * Part of {@link #InjectorCreationTime}.
+     */
+    EagerSingletonsTime(true),
     /**
      * Time spent installing extensions with registered installers.
      * Part of {@link #RunTime}.
@@ -50,7 +50,7 @@ public final class StatsInfo {
     public Duration duration(final Stat name) {
         name.requiresTimer();
         final Stopwatch stopwatch = tracker.getTimers().get(name);
-        return stopwatch == null ? Duration.ZERO : stopwatch.elapsed();
+        return stopwatch == null ? tracker.getTimes().getOrDefault(name, Duration.ZERO) : stopwatch.elapsed();
     }
 
     /**
@@ -64,7 +64,12 @@ public final class StatsInfo {
         name.requiresTimer();
         Preconditions.checkState(name.isTimer(), "Stat %s is not timer stat", name);
         final Stopwatch stopwatch = tracker.getTimers().get(name);
-        return stopwatch == null ? "0" : stopwatch.toString();
+        if (stopwatch == null) {
+            final Duration time = tracker.getTimes().get(name);
+            // same format as in stopwatch
+            return time == null ? "0" : String.format("%.4g ms", time.toNanos() / 1_000_000d);
+        }
+        return stopwatch.toString();
     }
 
     /**
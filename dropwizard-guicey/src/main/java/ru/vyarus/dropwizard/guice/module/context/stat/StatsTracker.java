@@ -27,6 +27,10 @@ public final class StatsTracker {
     private final Map<Stat, Integer> counters = Maps.newEnumMap(Stat.class);
     private final GuiceStatsTracker guiceStats = new GuiceStatsTracker();
     private final Map<DetailStat, Map<Class<?>, Stopwatch>> detailStats = Maps.newEnumMap(DetailStat.class);
+    // already measured detail times (measured in other threads)
+    private final Map<DetailStat, Map<Class<?>, Duration>> detailTimes = Maps.newEnumMap(DetailStat.class);
+    // computed times (not measured with stopwatch)
+    private final Map<Stat, Duration> times = Maps.newEnumMap(Stat.class);
 
     /**
      * Create tracker.
@@ -52,6 +56,32 @@ public final class StatsTracker {
         return watch;
     }
 
+    /**
+     * Register time, measured outside of tracker (e.g. in other thread). Stat must not be measured before.
+     *
+     * @param name     statistic name
+     * @param measured stopped stopwatch (ignored if null)
+     */
+    public void timer(final Stat name, final Stopwatch measured) {
+        if (measured != null) {
+            Preconditions.checkState(!measured.isRunning(), "Stopwatch for %s is still running", name);
+            Preconditions.checkState(timers.putIfAbsent(name, new StatTimer(measured)) == null,
+                    "Timer %s was already measured", name);
+        }
+    }
+
+    /**
+     * Record computed time (not measured directly with stopwatch). Sums with previous values of the same stat.
+     *
+     * @param name     statistic name
+     * @param duration computed time
+     */
+    public void time(final Stat name, final Duration duration) {
+        name.requiresTimer();
+        Preconditions.checkState(!timers.containsKey(name), "Timer %s is measured with stopwatch", name);
+        times.merge(name, duration, Duration::plus);
+    }
+
     /**
      * Stop running timer.
      *
@@ -73,6 +103,19 @@ public final class StatsTracker {
                 .computeIfAbsent(type, aClass -> Stopwatch.createUnstarted()).start();
     }
 
+    /**
+     * Record already measured detail time (for measurements performed in other threads). Sums with previous
+     * measurements of the same type.
+     *
+     * @param name     detail name
+     * @param type     target type
+     * @param duration measured time
+     */
+    public void detailTime(final DetailStat name, final Class<?> type, final Duration duration) {
+        detailTimes.computeIfAbsent(name, detailStat -> new LinkedHashMap<>())
+                .merge(type, duration, Duration::plus);
+    }
+
     /**
      * Inserts value for first call and sum values for consequent calls.
      *
@@ -121,17 +164,30 @@ public final class StatsTracker {
                 .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getStopwatch()));
     }
 
+    /**
+     * @return computed times map (stats not measured with stopwatch)
+     */
+    public Map<Stat, Duration> getTimes() {
+        return times;
+    }
+
     /**
      * @param name detail stat name
      * @return detail stats
      */
     public Map<Class<?>, Duration> getDetails(final DetailStat name) {
         final Map<Class<?>, Stopwatch> details = detailStats.get(name);
-        if (details == null) {
+        final Map<Class<?>, Duration> times = detailTimes.get(name);
+        if (details == null && times == null) {
             return Collections.emptyMap();
         }
         final Map<Class<?>, Duration> res = new LinkedHashMap<>();
-        details.forEach((type, stopwatch) -> res.put(type, stopwatch.elapsed()));
+        if (details != null) {
+            details.forEach((type, stopwatch) -> res.put(type, stopwatch.elapsed()));
+        }
+        if (times != null) {
+            times.forEach((type, duration) -> res.merge(type, duration, Duration::plus));
+        }
         return res;
     }
 
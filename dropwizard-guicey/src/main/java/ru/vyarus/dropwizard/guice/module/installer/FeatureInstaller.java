@@ -64,4 +64,19 @@ public interface FeatureInstaller {
     default List<String> getRecognizableSigns() {
         return Collections.singletonList("<no information provided>");
     }
+
+    /**
+     * Optional cheap pre-matching keys (required supertypes or marker annotations). When declared, they are used
+     * to avoid {@link #matches(Class)} calls for classes which could not be extensions (and, with bytecode
+     * filtering enabled ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#ScanBytecodeFilter}), to avoid loading
+     * such classes during classpath scan).
+     * <p>
+     * Hints must not be more restrictive than {@link #matches(Class)} logic. Do not declare hints if they could not
+     * be properly described.
+     *
+     * @return installer match hints or null if installer matching logic could not be expressed with hints
+     */
+    default MatchHints getMatchHints() {
+        return null;
+    }
 }
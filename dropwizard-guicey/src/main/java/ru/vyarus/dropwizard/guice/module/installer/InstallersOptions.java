@@ -97,7 +97,43 @@ public enum InstallersOptions implements Option {
      * When disabled, only extensions annotated with {@link jakarta.ws.rs.ext.Provider} would be recognized
      * (legacy guicey behaviour).
      */
-    JerseyExtensionsRecognizedByType(Boolean.class, true);
+    JerseyExtensionsRecognizedByType(Boolean.class, true),
+    /**
+     * Measure provision time of guice-managed jersey extensions (instances, requested by jersey through guice
+     * "bridge" factories). For each extension, dropwizard metrics timer {@code <extension class>.provision}
+     * is registered (and {@code <factory class>.supply} for guice-managed jersey factories). Useful for
+     * request-scoped resources, where instance creation is performed for each request.
+     * <p>
+     * Disabled by default to avoid measuring overhead.
+     */
+    JerseyComponentsProvisionTimer(Boolean.class, false),
+    /**
+     * Start and stop managed objects (installed by
+     * {@link ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller}) in parallel. Managed object
+     * starts only after its dependencies (declared with
+     * {@link ru.vyarus.dropwizard.guice.module.installer.feature.managed.DependsOn} or injected managed objects)
+     * and stops in reverse order. All managed objects are registered in dropwizard lifecycle as one
+     * {@link ru.vyarus.dropwizard.guice.module.installer.feature.managed.ParallelManagedGroup} object.
+     */
+    ParallelManagedStart(Boolean.class, false),
+    /**
+     * Threads count for parallel managed objects start and stop (see {@link #ParallelManagedStart}).
+     * 0 means available processors count.
+     */
+    ParallelManagedThreads(Integer.class, 0),
+    /**
+     * Instantiate eager singletons (installed by
+     * {@link ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingletonInstaller}) in parallel,
+     * just after injector creation (instead of serial instantiation by guice). Dependencies between eager
+     * singletons are resolved from injector bindings. Application startup fails if any singleton creation fails.
+     * See {@link ru.vyarus.dropwizard.guice.module.installer.feature.eager.ParallelEagerInitializer}.
+     */
+    ParallelEagerSingletons(Boolean.class, false),
+    /**
+     * Threads count for parallel eager singletons instantiation (see {@link #ParallelEagerSingletons}).
+     * 0 means available processors count.
+     */
+    ParallelEagerSingletonsThreads(Integer.class, 0);
 
     private final Class<?> type;
     private final Object value;
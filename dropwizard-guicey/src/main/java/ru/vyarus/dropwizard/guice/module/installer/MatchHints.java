@@ -0,0 +1,96 @@
+package ru.vyarus.dropwizard.guice.module.installer;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableSet;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Cheap extension pre-matching keys, declared by installer (see {@link FeatureInstaller#getMatchHints()}).
+ * Hints describe a necessary (but not sufficient) condition for extension recognition: class could be recognized
+ * by installer only if it is assignable to one of declared types OR annotated with one of declared annotations.
+ * Annotation is searched on class, its superclasses and implemented interfaces; also annotation could be
+ * declared as meta annotation (annotation on annotation).
+ * <p>
+ * Hints are used only to avoid useless {@link FeatureInstaller#matches(Class)} calls (and avoid loading classes,
+ * which could never be extensions, during classpath scan with bytecode filtering). Installer's
+ * {@link FeatureInstaller#matches(Class)} method is always called for class, accepted by hints.
+ * <p>
+ * Hints must not be more restrictive than actual installer matching logic, otherwise extensions would be lost.
+ * If installer can't describe its logic with types and annotations, it should not declare hints at all.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class MatchHints {
+
+    private final Set<Class<?>> types;
+    private final Set<Class<? extends Annotation>> annotations;
+
+    private MatchHints(final Set<Class<?>> types, final Set<Class<? extends Annotation>> annotations) {
+        this.types = types;
+        this.annotations = annotations;
+    }
+
+    /**
+     * @param types required extension base classes or interfaces (any of)
+     * @return hints object
+     */
+    public static MatchHints types(final Class<?>... types) {
+        return types(Arrays.asList(types));
+    }
+
+    /**
+     * @param types required extension base classes or interfaces (any of)
+     * @return hints object
+     */
+    public static MatchHints types(final Collection<? extends Class<?>> types) {
+        return new MatchHints(ImmutableSet.copyOf(types), ImmutableSet.of());
+    }
+
+    /**
+     * @param annotations required extension annotations (any of)
+     * @return hints object
+     */
+    @SafeVarargs
+    public static MatchHints annotations(final Class<? extends Annotation>... annotations) {
+        return new MatchHints(ImmutableSet.of(), ImmutableSet.copyOf(annotations));
+    }
+
+    /**
+     * Combine hints (extension should match any of them).
+     *
+     * @param hints other hints
+     * @return new hints object with types and annotations from both hints
+     */
+    public MatchHints or(final MatchHints hints) {
+        return new MatchHints(
+                ImmutableSet.<Class<?>>builder().addAll(types).addAll(hints.getTypes()).build(),
+                ImmutableSet.<Class<? extends Annotation>>builder()
+                        .addAll(annotations).addAll(hints.getAnnotations()).build());
+    }
+
+    /**
+     * @return required extension base classes or interfaces (any of)
+     */
+    public Set<Class<?>> getTypes() {
+        return types;
+    }
+
+    /**
+     * @return required extension annotations (any of)
+     */
+    public Set<Class<? extends Annotation>> getAnnotations() {
+        return annotations;
+    }
+
+    @Override
+    public String toString() {
+        return "types=[" + Joiner.on(", ").join(types.stream().map(Class::getSimpleName).iterator())
+                + "], annotations=[" + Joiner.on(", ").join(annotations.stream()
+                .map(ann -> "@" + ann.getSimpleName()).iterator()) + "]";
+    }
+}
@@ -4,6 +4,7 @@ import io.dropwizard.core.setup.Environment;
 import org.eclipse.jetty.util.component.LifeCycle;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
@@ -45,4 +46,9 @@ public class LifeCycleInstaller implements FeatureInstaller, InstanceInstaller<L
     public List<String> getRecognizableSigns() {
         return Collections.singletonList("implements " + LifeCycle.class.getSimpleName());
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.types(LifeCycle.class);
+    }
 }
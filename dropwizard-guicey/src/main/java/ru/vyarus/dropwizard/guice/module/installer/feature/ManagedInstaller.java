@@ -4,7 +4,11 @@ import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
+import ru.vyarus.dropwizard.guice.module.installer.feature.managed.ParallelManagedGroup;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
@@ -16,14 +20,20 @@ import java.util.List;
 /**
  * Managed objects installer.
  * Looks for classes implementing {@code io.dropwizard.lifecycle.Managed} and register them in environment.
+ * <p>
+ * When {@link InstallersOptions#ParallelManagedStart} enabled, all managed objects are grouped into
+ * {@link ParallelManagedGroup} and started (stopped) in parallel, according to declared dependencies
+ * (see {@link ru.vyarus.dropwizard.guice.module.installer.feature.managed.DependsOn}).
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
  */
 @Order(20)
-public class ManagedInstaller implements FeatureInstaller, InstanceInstaller<Managed>, Ordered {
+public class ManagedInstaller extends InstallerOptionsSupport
+        implements FeatureInstaller, InstanceInstaller<Managed>, Ordered {
 
     private final Reporter reporter = new Reporter(ManagedInstaller.class, "managed =");
+    private ParallelManagedGroup group;
 
     @Override
     public boolean matches(final Class<?> type) {
@@ -33,7 +43,16 @@ public class ManagedInstaller implements FeatureInstaller, InstanceInstaller<Man
     @Override
     public void install(final Environment environment, final Managed instance) {
         reporter.line(RenderUtils.renderClassLine(FeatureUtils.getInstanceClass(instance)));
-        environment.lifecycle().manage(instance);
+        if (option(InstallersOptions.ParallelManagedStart)) {
+            if (group == null) {
+                // group registered at position of the first managed object
+                group = new ParallelManagedGroup(option(InstallersOptions.ParallelManagedThreads));
+                environment.lifecycle().manage(group);
+            }
+            group.add(instance);
+        } else {
+            environment.lifecycle().manage(instance);
+        }
     }
 
     @Override
@@ -45,4 +64,9 @@ public class ManagedInstaller implements FeatureInstaller, InstanceInstaller<Man
     public List<String> getRecognizableSigns() {
         return Collections.singletonList("implements " + Managed.class.getSimpleName());
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.types(Managed.class);
+    }
 }
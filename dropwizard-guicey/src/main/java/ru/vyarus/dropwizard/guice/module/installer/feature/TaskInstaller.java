@@ -3,6 +3,7 @@ package ru.vyarus.dropwizard.guice.module.installer.feature;
 import io.dropwizard.servlets.tasks.Task;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
@@ -39,4 +40,9 @@ public class TaskInstaller implements FeatureInstaller, InstanceInstaller<Task>
     public List<String> getRecognizableSigns() {
         return Collections.singletonList("extends " + Task.class.getSimpleName());
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.types(Task.class);
+    }
 }
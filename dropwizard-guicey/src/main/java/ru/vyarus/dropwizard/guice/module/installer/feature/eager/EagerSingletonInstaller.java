@@ -8,7 +8,10 @@ import com.google.inject.Stage;
 import ru.vyarus.dropwizard.guice.debug.report.guice.util.visitor.GuiceScopingVisitor;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
@@ -28,12 +31,15 @@ import java.util.Set;
  * to register them automatically.
  * Moreover, even in DEVELOPMENT stage instance will be requested, which makes class suitable
  * for initialization logic.
+ * <p>
+ * When {@link InstallersOptions#ParallelEagerSingletons} enabled, beans are bound as lazy singletons and
+ * instantiated in parallel just after injector creation (see {@link ParallelEagerInitializer}).
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
  */
 @Order(50)
-public class EagerSingletonInstaller implements FeatureInstaller, BindingInstaller {
+public class EagerSingletonInstaller extends InstallerOptionsSupport implements FeatureInstaller, BindingInstaller {
     private static final GuiceScopingVisitor VISITOR = new GuiceScopingVisitor();
 
     private final Reporter reporter = new Reporter(EagerSingletonInstaller.class, "eager singletons =");
@@ -47,7 +53,12 @@ public class EagerSingletonInstaller implements FeatureInstaller, BindingInstall
     @Override
     public void bind(final Binder binder, final Class<?> type, final boolean lazy) {
         Preconditions.checkArgument(!lazy, "Eager bean can't be annotated as lazy: %s", type.getName());
-        binder.bind(type).asEagerSingleton();
+        if (option(InstallersOptions.ParallelEagerSingletons)) {
+            // instantiated by guicey after injector creation
+            binder.bind(type).in(ParallelEagerInitializer.LAZY_SINGLETON);
+        } else {
+            binder.bind(type).asEagerSingleton();
+        }
     }
 
     @Override
@@ -85,4 +96,9 @@ public class EagerSingletonInstaller implements FeatureInstaller, BindingInstall
     public List<String> getRecognizableSigns() {
         return Collections.singletonList("@" + EagerSingleton.class.getSimpleName() + " on class");
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.annotations(EagerSingleton.class);
+    }
 }
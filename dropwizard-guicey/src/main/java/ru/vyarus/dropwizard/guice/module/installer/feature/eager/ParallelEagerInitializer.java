@@ -0,0 +1,166 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.eager;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.ProviderKeyBinding;
+import ru.vyarus.dropwizard.guice.module.installer.util.ParallelUtils;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parallel eager singletons instantiation (see
+ * {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#ParallelEagerSingletons}). Eager singletons
+ * are bound as usual singletons and instantiated just after injector creation.
+ * <p>
+ * Dependencies between eager singletons are resolved from injector bindings (transitively): eager singleton is
+ * instantiated only after all eager singletons it depends on (directly or through other beans). Providers are
+ * not counted as dependencies. Independent singletons are created concurrently on bounded thread pool.
+ * <p>
+ * Eager singletons must be bound with {@link #LAZY_SINGLETON} scope, because guice instantiates all
+ * singletons during injector creation in production stage.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ParallelEagerInitializer {
+
+    /**
+     * Singleton scope, never instantiated eagerly by guice (even in production stage).
+     */
+    public static final Scope LAZY_SINGLETON = new Scope() {
+        @Override
+        public <T> Provider<T> scope(final Key<T> key, final Provider<T> unscoped) {
+            return Scopes.SINGLETON.scope(key, unscoped);
+        }
+
+        @Override
+        public String toString() {
+            return "ParallelEagerInitializer.LAZY_SINGLETON";
+        }
+    };
+
+    private final int threads;
+    private final Map<Class<?>, Duration> times = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Create initializer.
+     *
+     * @param threads threads count (0 for available processors count)
+     */
+    public ParallelEagerInitializer(final int threads) {
+        Preconditions.checkArgument(threads >= 0, "Threads count can't be negative: %s", threads);
+        this.threads = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+    }
+
+    /**
+     * Instantiate eager singletons in parallel. Fails if any singleton creation fails.
+     *
+     * @param injector injector
+     * @param types    eager singleton types
+     * @throws Exception first instantiation error
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public void initialize(final Injector injector, final Collection<Class<?>> types) throws Exception {
+        final Map<Class<?>, Set<Class<?>>> dependencies = new LinkedHashMap<>();
+        for (Class<?> type : types) {
+            dependencies.put(type, findDependencies(injector, type, types));
+        }
+        ParallelUtils.checkCycles(dependencies, Class::getSimpleName,
+                "Eager singletons dependencies cycle detected");
+        ParallelUtils.execute(dependencies, type -> {
+            final Stopwatch timer = Stopwatch.createStarted();
+            injector.getInstance(type);
+            times.put(type, timer.stop().elapsed());
+        }, threads, "guicey-eager-%d", false);
+    }
+
+    /**
+     * Time include creation of all not eager dependencies (and so may include waiting for other eager singleton,
+     * instantiated in another thread, if it is not resolved as dependency).
+     *
+     * @return eager singletons instantiation times (in completion order)
+     */
+    public Map<Class<?>, Duration> getTimes() {
+        synchronized (times) {
+            return new LinkedHashMap<>(times);
+        }
+    }
+
+    private Set<Class<?>> findDependencies(final Injector injector,
+                                           final Class<?> type,
+                                           final Collection<Class<?>> eager) {
+        final Set<Class<?>> res = new LinkedHashSet<>();
+        final Set<Key<?>> visited = new HashSet<>();
+        final Deque<Key<?>> queue = new ArrayDeque<>(keys(injector.getBinding(type)));
+        while (!queue.isEmpty()) {
+            final Key<?> key = queue.poll();
+            if (!visited.add(key)) {
+                continue;
+            }
+            final Class<?> raw = key.getTypeLiteral().getRawType();
+            // providers are used to delay instance creation
+            if (raw == type || raw == Provider.class || raw == jakarta.inject.Provider.class) {
+                continue;
+            }
+            if (eager.contains(raw) && key.getAnnotationType() == null) {
+                // no need to go deeper: dependency dependencies would be counted for it
+                res.add(raw);
+            } else {
+                final Binding<?> binding = findBinding(injector, key);
+                if (binding != null) {
+                    queue.addAll(keys(binding));
+                }
+            }
+        }
+        return res;
+    }
+
+    private Binding<?> findBinding(final Injector injector, final Key<?> key) {
+        Binding<?> res = injector.getExistingBinding(key);
+        if (res == null && key.getAnnotationType() == null) {
+            try {
+                // JIT binding (bean would be instantiated anyway)
+                res = injector.getBinding(key);
+            } catch (ConfigurationException ignored) {
+                // optional injection point or not injectable type
+            }
+        }
+        return res;
+    }
+
+    private List<Key<?>> keys(final Binding<?> binding) {
+        final List<Key<?>> res = new ArrayList<>();
+        if (binding instanceof LinkedKeyBinding) {
+            res.add(((LinkedKeyBinding<?>) binding).getLinkedKey());
+        } else if (binding instanceof ProviderKeyBinding) {
+            res.add(((ProviderKeyBinding<?>) binding).getProviderKey());
+        }
+        if (binding instanceof HasDependencies) {
+            for (Dependency<?> dep : ((HasDependencies) binding).getDependencies()) {
+                res.add(dep.getKey());
+            }
+        }
+        return res;
+    }
+}
@@ -1,13 +1,17 @@
 package ru.vyarus.dropwizard.guice.module.installer.feature.health;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.health.annotation.Async;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -16,6 +20,11 @@ import java.util.List;
  * Looks for classes extending
  * {@code ru.vyarus.dropwizard.guice.module.installer.installer.health.NamedHealthCheck} and register in
  * environment.
+ * <p>
+ * Health checks, annotated with metrics {@link Async}, are executed in background by health checks registry
+ * (registry returns the last execution result). Execution time of all checks is tracked with
+ * "healthchecks.[name].latency" timer. Checks, annotated with {@link HealthCheckTimeout}, are interrupted
+ * after timeout by {@link HealthChecksWatchdog}, registered as managed object.
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
@@ -24,6 +33,7 @@ import java.util.List;
 public class HealthCheckInstaller implements FeatureInstaller, InstanceInstaller<NamedHealthCheck> {
 
     private final Reporter reporter = new Reporter(HealthCheckInstaller.class, "health checks =");
+    private HealthChecksWatchdog watchdog;
 
     @Override
     public boolean matches(final Class<?> type) {
@@ -32,9 +42,25 @@ public class HealthCheckInstaller implements FeatureInstaller, InstanceInstaller
 
     @Override
     public void install(final Environment environment, final NamedHealthCheck instance) {
+        final Class<?> type = FeatureUtils.getInstanceClass(instance);
+        final HealthCheckTimeout timeout = type.getAnnotation(HealthCheckTimeout.class);
+        Duration limit = null;
+        if (timeout != null) {
+            limit = Duration.ofNanos(timeout.unit().toNanos(timeout.value()));
+            if (watchdog == null) {
+                watchdog = new HealthChecksWatchdog();
+                environment.lifecycle().manage(watchdog);
+            }
+        }
+        instance.configure(environment.metrics().timer(MetricRegistry.name("healthchecks", instance.getName(),
+                "latency")), limit, watchdog);
+        // checks annotated with @Async are scheduled by registry
         environment.healthChecks().register(instance.getName(), instance);
-        reporter.line("%-20s %s", instance.getName(),
-                RenderUtils.renderClassLine(FeatureUtils.getInstanceClass(instance)));
+
+        final Async async = type.getAnnotation(Async.class);
+        reporter.line("%-20s %s%s%s", instance.getName(), RenderUtils.renderClassLine(type),
+                async != null ? " (async " + Duration.ofNanos(async.unit().toNanos(async.period())) + ")" : "",
+                limit != null ? " (timeout " + limit + ")" : "");
     }
 
     @Override
@@ -46,4 +72,9 @@ public class HealthCheckInstaller implements FeatureInstaller, InstanceInstaller
     public List<String> getRecognizableSigns() {
         return Collections.singletonList("extends " + NamedHealthCheck.class.getSimpleName());
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.types(NamedHealthCheck.class);
+    }
 }
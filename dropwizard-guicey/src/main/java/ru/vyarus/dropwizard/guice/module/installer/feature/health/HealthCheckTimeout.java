@@ -0,0 +1,37 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.health;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits {@link NamedHealthCheck} execution time: when check execution exceeds timeout, executing thread is
+ * interrupted and unhealthy result returned. Works for both usual checks (executed on health check request) and
+ * checks, annotated with metrics {@link com.codahale.metrics.health.annotation.Async} (executed in background by
+ * health check registry, which returns the last cached result).
+ * <p>
+ * Timeouts are tracked by {@link HealthChecksWatchdog}, started with application.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface HealthCheckTimeout {
+
+    /**
+     * @return maximum execution time
+     */
+    long value();
+
+    /**
+     * @return time unit for timeout
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
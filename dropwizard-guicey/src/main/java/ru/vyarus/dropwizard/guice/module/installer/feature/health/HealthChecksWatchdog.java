@@ -0,0 +1,54 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.health;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks {@link HealthCheckTimeout} timeouts: interrupts health check thread when execution takes too long.
+ * Timeouts are tracked in a separate thread, so hanging checks could not prevent interruption of other
+ * hanging checks. Registered as managed object (only when at least one check declares timeout).
+ * <p>
+ * Watchdog thread is started immediately (not on application start) because async checks could be executed by
+ * health checks registry just after registration.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class HealthChecksWatchdog implements Managed {
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * Create watchdog.
+     */
+    public HealthChecksWatchdog() {
+        executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("guicey-health-watchdog").setDaemon(true).build());
+        // cancelled timeouts (most checks complete in time) must not accumulate in queue
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public void stop() throws Exception {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @param task    timeout action
+     * @param timeout timeout
+     * @return scheduled timeout or null if watchdog is stopped (timeout can't be tracked)
+     */
+    public Future<?> schedule(final Runnable task, final Duration timeout) {
+        try {
+            return executor.schedule(task, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ex) {
+            return null;
+        }
+    }
+}
@@ -1,18 +1,95 @@
 package ru.vyarus.dropwizard.guice.module.installer.feature.health;
 
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.health.HealthCheck;
 
+import java.time.Duration;
+import java.util.concurrent.Future;
+
 /**
  * Base class for automatic health check registration.
  * Additional class required, because check must be registered with name, not available in base healthcheck.
+ * <p>
+ * When registered by {@link HealthCheckInstaller}, execution time is tracked with "healthchecks.[name].latency"
+ * timer metric and execution time could be limited with {@link HealthCheckTimeout}.
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
  */
 public abstract class NamedHealthCheck extends HealthCheck {
 
+    private Timer timer;
+    private Duration timeout;
+    private HealthChecksWatchdog watchdog;
+
     /**
      * @return health check name
      */
     public abstract String getName();
+
+    /**
+     * @return execution timeout or null if not limited
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public Result execute() {
+        if (timer == null) {
+            // not registered by installer
+            return super.execute();
+        }
+        final Timer.Context context = timer.time();
+        try {
+            return timeout == null ? super.execute() : executeWithTimeout();
+        } finally {
+            context.stop();
+        }
+    }
+
+    /**
+     * Called by installer before health check registration.
+     *
+     * @param timer    latency timer
+     * @param timeout  execution timeout (null for no timeout)
+     * @param watchdog timeouts tracker (null when timeout not declared)
+     */
+    void configure(final Timer timer, final Duration timeout, final HealthChecksWatchdog watchdog) {
+        this.timer = timer;
+        this.timeout = timeout;
+        this.watchdog = watchdog;
+    }
+
+    private Result executeWithTimeout() {
+        final Thread thread = Thread.currentThread();
+        // [0] - execution completed, [1] - execution interrupted by timeout
+        final boolean[] state = new boolean[2];
+        final Future<?> interruption = watchdog.schedule(() -> {
+            synchronized (state) {
+                if (!state[0]) {
+                    state[1] = true;
+                    thread.interrupt();
+                }
+            }
+        }, timeout);
+        Result res;
+        try {
+            // execute() never throws (exception converted to unhealthy result)
+            res = super.execute();
+        } finally {
+            synchronized (state) {
+                state[0] = true;
+            }
+            if (interruption != null) {
+                interruption.cancel(false);
+            }
+        }
+        if (state[1]) {
+            // clear interruption flag (thread must be usable after check)
+            Thread.interrupted();
+            res = Result.unhealthy("Health check did not complete in " + timeout);
+        }
+        return res;
+    }
 }
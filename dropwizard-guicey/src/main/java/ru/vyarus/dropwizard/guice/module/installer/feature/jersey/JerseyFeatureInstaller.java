@@ -3,6 +3,7 @@ package ru.vyarus.dropwizard.guice.module.installer.feature.jersey;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
@@ -46,4 +47,9 @@ public class JerseyFeatureInstaller implements FeatureInstaller, InstanceInstall
     public List<String> getRecognizableSigns() {
         return Collections.singletonList("implements " + Feature.class.getSimpleName());
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.types(Feature.class);
+    }
 }
@@ -7,6 +7,7 @@ import com.google.inject.Binding;
 import com.google.inject.Injector;
 import io.dropwizard.core.setup.Environment;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.install.TypeInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
@@ -100,4 +101,9 @@ public class ResourceInstaller extends AbstractJerseyInstaller<Object> implement
         return Arrays.asList("@" + Path.class.getSimpleName() + " on class",
                 "@" + Path.class.getSimpleName() + " on implemented interface");
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.annotations(Path.class);
+    }
 }
@@ -13,6 +13,7 @@ import org.glassfish.jersey.server.model.ModelProcessor;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.AbstractJerseyInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyManaged;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
@@ -178,4 +179,11 @@ public class JerseyProviderInstaller extends AbstractJerseyInstaller<Object> imp
         }
         return res;
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        final MatchHints hints = MatchHints.annotations(Provider.class);
+        return option(InstallersOptions.JerseyExtensionsRecognizedByType)
+                ? hints.or(MatchHints.types(EXTENSION_TYPES)) : hints;
+    }
 }
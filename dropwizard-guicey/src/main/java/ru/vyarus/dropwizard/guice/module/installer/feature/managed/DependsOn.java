@@ -0,0 +1,34 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.managed;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares managed objects, which must be started before annotated managed object (and stopped after it).
+ * Used only in parallel managed objects start mode
+ * ({@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#ParallelManagedStart}).
+ * <p>
+ * Managed objects, injected into managed object (constructor, field or method injection), are also considered
+ * as dependencies, so annotation is required only for dependencies, not visible from injection points.
+ * <p>
+ * Declared types are matched with assignability, so interface could be declared. Types, not registered as
+ * managed extensions, are ignored.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface DependsOn {
+
+    /**
+     * @return managed objects types, which must be started before annotated object
+     */
+    Class<?>[] value();
+}
@@ -0,0 +1,172 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.managed;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.inject.ConfigurationException;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.InjectionPoint;
+import io.dropwizard.lifecycle.Managed;
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
+import ru.vyarus.dropwizard.guice.module.installer.util.ParallelUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Group of managed objects, started and stopped in parallel (on bounded thread pool). Registered in dropwizard
+ * lifecycle as single managed object (at position of the first grouped managed object).
+ * <p>
+ * Managed object is started only after all its dependencies started (and stopped only after all dependent
+ * objects stopped). Dependencies are declared with {@link DependsOn} annotation or resolved from injection points
+ * (injected managed objects). Dependencies cycle is detected on startup.
+ * <p>
+ * If some object fails to start, already started objects are stopped and first error is thrown.
+ * On stop, all objects are stopped even if some stops fail (first error thrown after all objects stopped).
+ * <p>
+ * Start and stop time of each object is recorded (shown in startup and shutdown time reports).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public class ParallelManagedGroup implements Managed {
+
+    private static final String THREAD_NAME = "guicey-managed-%d";
+
+    private final int threads;
+    private final List<Managed> managed = new ArrayList<>();
+    private final Map<Class<?>, Duration> startTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<Class<?>, Duration> stopTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Set<Managed> started = Collections.synchronizedSet(new HashSet<>());
+
+    /**
+     * Create group.
+     *
+     * @param threads threads count (0 for available processors count)
+     */
+    public ParallelManagedGroup(final int threads) {
+        Preconditions.checkArgument(threads >= 0, "Threads count can't be negative: %s", threads);
+        this.threads = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+    }
+
+    /**
+     * @param object managed object to add into group
+     */
+    public void add(final Managed object) {
+        managed.add(object);
+    }
+
+    /**
+     * @return grouped managed objects
+     */
+    public List<Managed> getManaged() {
+        return Collections.unmodifiableList(managed);
+    }
+
+    /**
+     * @return managed objects start times (in completion order)
+     */
+    public Map<Class<?>, Duration> getStartTimes() {
+        synchronized (startTimes) {
+            return new LinkedHashMap<>(startTimes);
+        }
+    }
+
+    /**
+     * @return managed objects stop times (in completion order)
+     */
+    public Map<Class<?>, Duration> getStopTimes() {
+        synchronized (stopTimes) {
+            return new LinkedHashMap<>(stopTimes);
+        }
+    }
+
+    @Override
+    public void start() throws Exception {
+        final Map<Managed, Set<Managed>> dependencies = resolveDependencies();
+        ParallelUtils.checkCycles(dependencies, object -> FeatureUtils.getInstanceClass(object).getSimpleName(),
+                "Managed objects dependencies cycle detected");
+        startTimes.clear();
+        try {
+            ParallelUtils.execute(dependencies, object -> {
+                final Stopwatch timer = Stopwatch.createStarted();
+                object.start();
+                started.add(object);
+                startTimes.put(FeatureUtils.getInstanceClass(object), timer.stop().elapsed());
+            }, threads, THREAD_NAME, false);
+        } catch (Exception ex) {
+            // stop already started objects
+            try {
+                stop();
+            } catch (Exception stopEx) {
+                ex.addSuppressed(stopEx);
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        stopTimes.clear();
+        // reversed dependencies: object stopped after all dependent objects
+        ParallelUtils.execute(ParallelUtils.reverse(resolveDependencies()), object -> {
+            if (started.remove(object)) {
+                final Stopwatch timer = Stopwatch.createStarted();
+                object.stop();
+                stopTimes.put(FeatureUtils.getInstanceClass(object), timer.stop().elapsed());
+            }
+        }, threads, THREAD_NAME, true);
+    }
+
+    private Map<Managed, Set<Managed>> resolveDependencies() {
+        final Map<Managed, Set<Managed>> res = new LinkedHashMap<>();
+        for (Managed object : managed) {
+            final Set<Managed> deps = new LinkedHashSet<>();
+            for (Class<?> type : findDependencyTypes(FeatureUtils.getInstanceClass(object))) {
+                for (Managed candidate : managed) {
+                    if (candidate != object && type.isAssignableFrom(FeatureUtils.getInstanceClass(candidate))) {
+                        deps.add(candidate);
+                    }
+                }
+            }
+            res.put(object, deps);
+        }
+        return res;
+    }
+
+    private Set<Class<?>> findDependencyTypes(final Class<?> type) {
+        final Set<Class<?>> res = new LinkedHashSet<>();
+        final DependsOn ann = type.getAnnotation(DependsOn.class);
+        if (ann != null) {
+            Collections.addAll(res, ann.value());
+        }
+        final Set<InjectionPoint> points = new HashSet<>();
+        try {
+            points.add(InjectionPoint.forConstructorOf(type));
+        } catch (ConfigurationException ignored) {
+            // instance registered without injectable constructor
+        }
+        try {
+            points.addAll(InjectionPoint.forInstanceMethodsAndFields(type));
+        } catch (ConfigurationException ignored) {
+            // ignore invalid injection points (guice would fail for them anyway)
+        }
+        for (InjectionPoint point : points) {
+            for (Dependency<?> dep : point.getDependencies()) {
+                final Class<?> depType = dep.getKey().getTypeLiteral().getRawType();
+                // providers are not counted as dependencies (usually used to delay instance creation)
+                if (Managed.class.isAssignableFrom(depType)) {
+                    res.add(depType);
+                }
+            }
+        }
+        return res;
+    }
+}
@@ -6,6 +6,7 @@ import com.google.inject.Binding;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.multibindings.Multibinder;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
@@ -96,4 +97,9 @@ public class PluginInstaller implements FeatureInstaller, BindingInstaller {
         return Arrays.asList("@" + Plugin.class.getSimpleName() + " on class",
                 "custom annotation on class, annotated with " + "@" + Plugin.class.getSimpleName());
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.annotations(Plugin.class);
+    }
 }
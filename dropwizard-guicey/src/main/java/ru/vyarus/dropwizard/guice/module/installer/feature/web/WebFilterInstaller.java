@@ -6,6 +6,7 @@ import io.dropwizard.jetty.setup.ServletEnvironment;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.feature.web.util.WebUtils;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.WebInstaller;
@@ -114,4 +115,9 @@ public class WebFilterInstaller implements FeatureInstaller,
         return Collections.singletonList("implements " + Filter.class.getSimpleName()
                 + " + @" + WebFilter.class.getSimpleName());
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.annotations(WebFilter.class);
+    }
 }
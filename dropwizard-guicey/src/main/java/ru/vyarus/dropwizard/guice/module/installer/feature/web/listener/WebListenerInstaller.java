@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import io.dropwizard.jetty.MutableServletContextHandler;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.feature.web.AdminContext;
 import ru.vyarus.dropwizard.guice.module.installer.feature.web.util.WebUtils;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
@@ -136,4 +137,9 @@ public class WebListenerInstaller extends InstallerOptionsSupport
         return Collections.singletonList("implements " + EventListener.class.getSimpleName()
                 + " + @" + WebListener.class.getSimpleName());
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.annotations(WebListener.class);
+    }
 }
@@ -12,6 +12,7 @@ import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.stat.DetailStat;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassVisitor;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
@@ -52,7 +53,7 @@ public final class CommandSupport {
                                                  final ConfigurationContext context) {
         final StatTimer timer = context.stat().timer(CommandTime);
         final CommandClassVisitor visitor = new CommandClassVisitor(bootstrap, context.stat());
-        scanner.scan(visitor);
+        scanner.scan(visitor, MatchHints.types(Command.class));
         context.registerCommands(visitor.getCommands());
         timer.stop();
         return visitor.getCommandList();
@@ -23,6 +23,7 @@ import java.util.Map;
  */
 public class ExtensionsHolder {
     private final List<FeatureInstaller> installers;
+    private final InstallerMatchIndex matchIndex;
     private final List<ScanItem> scanExtensions = new ArrayList<>();
     private List<ExtensionItemInfoImpl> extensionsData;
     private final List<Class<? extends FeatureInstaller>> installerTypes;
@@ -35,6 +36,7 @@ public class ExtensionsHolder {
      */
     public ExtensionsHolder(final List<FeatureInstaller> installers) {
         this.installers = installers;
+        this.matchIndex = new InstallerMatchIndex(installers);
         this.installerTypes = Lists.transform(installers, FeatureInstaller::getClass);
     }
 
@@ -53,7 +55,7 @@ public class ExtensionsHolder {
      * @return true if extension accepted
      */
     public boolean acceptScanCandidate(final Class<?> candidate) {
-        final FeatureInstaller installer = ExtensionsSupport.findInstaller(candidate, installers);
+        final FeatureInstaller installer = findInstaller(candidate);
         final boolean recognized = installer != null;
         if (recognized) {
             scanExtensions.add(new ScanItem(candidate, installer));
@@ -61,6 +63,17 @@ public class ExtensionsHolder {
         return recognized;
     }
 
+    /**
+     * Search for matching installer. Only installers, which could match type (according to installer hints)
+     * are checked (see {@link InstallerMatchIndex}).
+     *
+     * @param type extension type
+     * @return matching installer or null if no matching installer found
+     */
+    public FeatureInstaller findInstaller(final Class<?> type) {
+        return matchIndex.findInstaller(type);
+    }
+
     /**
      * Prepare known extensions for installation.
      *
@@ -48,7 +48,7 @@ public final class ExtensionsSupport {
     public static boolean registerExtension(final ConfigurationContext context,
                                             final Class<?> type,
                                             final boolean fromScan) {
-        final FeatureInstaller installer = findInstaller(type, context.getExtensionsHolder().getInstallers());
+        final FeatureInstaller installer = context.getExtensionsHolder().findInstaller(type);
         return registerExtension(context, type, installer, fromScan);
     }
 
@@ -107,7 +107,7 @@ public final class ExtensionsSupport {
             // manually hidden annotation from scanning
             return false;
         }
-        final FeatureInstaller installer = findInstaller(type, context.getExtensionsHolder().getInstallers());
+        final FeatureInstaller installer = context.getExtensionsHolder().findInstaller(type);
         final boolean recognized = installer != null;
         if (recognized) {
             // important to force config creation for extension from scan to allow disabling by matcher
@@ -176,6 +176,9 @@ public final class ExtensionsSupport {
     /**
      * Search for matching installer. Extension may match multiple installer, but only one will be actually
      * used (note that installers are ordered).
+     * <p>
+     * Checks all installers. {@link ExtensionsHolder#findInstaller(Class)} should be used instead to check only
+     * installers, which could match type.
      *
      * @param type       extension type
      * @param installers installers
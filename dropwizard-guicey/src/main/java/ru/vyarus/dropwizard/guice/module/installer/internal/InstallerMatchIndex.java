@@ -0,0 +1,113 @@
+package ru.vyarus.dropwizard.guice.module.installer.internal;
+
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
+
+import java.lang.annotation.Annotation;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Installers index, built from installer {@link MatchHints} (see {@link FeatureInstaller#getMatchHints()}).
+ * Used to avoid calling {@link FeatureInstaller#matches(Class)} for all installers on each extension candidate:
+ * only installers with hints, matching class types or annotations, and installers without hints are checked.
+ * <p>
+ * Installers are always checked in registration order, so recognition result is the same as with simple
+ * installers iteration (first matching installer wins).
+ * <p>
+ * Internal api.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class InstallerMatchIndex {
+
+    private final List<FeatureInstaller> installers;
+    // installers without hints (always checked)
+    private final BitSet unhinted = new BitSet();
+    // hint type or annotation -> installers
+    private final Map<Class<?>, BitSet> index = new HashMap<>();
+
+    /**
+     * Create index.
+     *
+     * @param installers ordered installers
+     */
+    public InstallerMatchIndex(final List<FeatureInstaller> installers) {
+        this.installers = installers;
+        for (int i = 0; i < installers.size(); i++) {
+            final MatchHints hints = installers.get(i).getMatchHints();
+            if (hints == null) {
+                unhinted.set(i);
+            } else {
+                for (Class<?> type : hints.getTypes()) {
+                    register(type, i);
+                }
+                for (Class<? extends Annotation> ann : hints.getAnnotations()) {
+                    register(ann, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Search for matching installer. Extension may match multiple installers, but only first (according to
+     * installers order) will be used.
+     *
+     * @param type extension type
+     * @return matching installer or null if no matching installer found
+     */
+    public FeatureInstaller findInstaller(final Class<?> type) {
+        final BitSet candidates = (BitSet) unhinted.clone();
+        if (!index.isEmpty()) {
+            collect(type, candidates, new HashSet<>());
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            final FeatureInstaller installer = installers.get(i);
+            if (installer.matches(type)) {
+                return installer;
+            }
+        }
+        return null;
+    }
+
+    private void register(final Class<?> key, final int installer) {
+        index.computeIfAbsent(key, k -> new BitSet()).set(installer);
+    }
+
+    /**
+     * Select installers by class hierarchy types and annotations (with one level meta annotations).
+     *
+     * @param type       type to analyze
+     * @param candidates selected installers
+     * @param visited    already processed types
+     */
+    private void collect(final Class<?> type, final BitSet candidates, final Set<Class<?>> visited) {
+        if (type == null || !visited.add(type)) {
+            return;
+        }
+        select(type, candidates);
+        for (Annotation ann : type.getDeclaredAnnotations()) {
+            final Class<? extends Annotation> annType = ann.annotationType();
+            select(annType, candidates);
+            for (Annotation meta : annType.getDeclaredAnnotations()) {
+                select(meta.annotationType(), candidates);
+            }
+        }
+        collect(type.getSuperclass(), candidates, visited);
+        for (Class<?> iface : type.getInterfaces()) {
+            collect(iface, candidates, visited);
+        }
+    }
+
+    private void select(final Class<?> key, final BitSet candidates) {
+        final BitSet selected = index.get(key);
+        if (selected != null) {
+            candidates.or(selected);
+        }
+    }
+}
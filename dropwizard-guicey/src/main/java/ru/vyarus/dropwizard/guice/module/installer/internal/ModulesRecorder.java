@@ -0,0 +1,168 @@
+package ru.vyarus.dropwizard.guice.module.installer.internal;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Module;
+import com.google.inject.Stage;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.support.BootstrapAwareModule;
+import ru.vyarus.dropwizard.guice.module.support.EnvironmentAwareModule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.AnalyzeGuiceModules;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.InjectorStage;
+
+/**
+ * Background guice modules recording for run phase pipeline
+ * ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#RunPhasePipeline}). User modules and overriding modules
+ * are recorded (with guice SPI) in separate threads, while the main thread continues with extensions registration.
+ * Recorded elements are used by {@link ModulesSupport} instead of in-place recording.
+ * <p>
+ * User modules are recorded only if modules analysis is enabled
+ * ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeGuiceModules}). Recording must be started after
+ * modules configuration ({@link ModulesSupport#configureModules(ConfigurationContext)}).
+ * <p>
+ * Modules group (user or overriding modules) is not recorded in background if at least one module has access
+ * to bootstrap or environment ({@link BootstrapAwareModule}, {@link EnvironmentAwareModule}), because such
+ * modules could modify environment concurrently with extensions registration. Such group is recorded in the main
+ * thread, as usual.
+ * <p>
+ * Recording tasks are executed on a shared (process-wide) daemon pool: threads are re-used by all applications,
+ * started in the same JVM (e.g. in tests), and die after inactivity.
+ * <p>
+ * Internal api.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ModulesRecorder {
+
+    private final Future<List<Element>> modules;
+    private final Future<List<Element>> overrides;
+    private final Stopwatch modulesTime = Stopwatch.createUnstarted();
+    private final Stopwatch overridesTime = Stopwatch.createUnstarted();
+
+    /**
+     * Start modules recording.
+     *
+     * @param context configuration context
+     */
+    public ModulesRecorder(final ConfigurationContext context) {
+        final Stage stage = context.option(InjectorStage);
+        final List<Module> normal = context.getNormalModules();
+        // last module is always guicey bootstrap module (not analyzed)
+        final List<Module> user = new ArrayList<>(normal.subList(0, normal.size() - 1));
+        final List<Module> overriding = context.getOverridingModules();
+        final Boolean analyze = context.option(AnalyzeGuiceModules);
+        modules = analyze && isRecordable(user) ? record(stage, user, modulesTime) : null;
+        overrides = isRecordable(overriding) ? record(stage, overriding, overridesTime) : null;
+    }
+
+    /**
+     * @return true if user modules are recorded
+     */
+    public boolean isModulesRecorded() {
+        return modules != null;
+    }
+
+    /**
+     * @return true if overriding modules are recorded
+     */
+    public boolean isOverridesRecorded() {
+        return overrides != null;
+    }
+
+    /**
+     * Waits for user modules recording.
+     *
+     * @return user modules elements
+     * @throws Exception recording error
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public List<Element> getModulesElements() throws Exception {
+        return await(modules);
+    }
+
+    /**
+     * Waits for overriding modules recording.
+     *
+     * @return overriding modules elements
+     * @throws Exception recording error
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public List<Element> getOverridesElements() throws Exception {
+        return await(overrides);
+    }
+
+    /**
+     * Must be called only after {@link #getModulesElements()}.
+     *
+     * @return user modules recording time (stopped stopwatch) or null if modules were not recorded
+     */
+    public Stopwatch getModulesTime() {
+        return modules != null && modules.isDone() ? modulesTime : null;
+    }
+
+    /**
+     * Must be called only after {@link #getOverridesElements()}.
+     *
+     * @return overriding modules recording time (stopped stopwatch) or null if modules were not recorded
+     */
+    public Stopwatch getOverridesTime() {
+        return overrides != null && overrides.isDone() ? overridesTime : null;
+    }
+
+    private static boolean isRecordable(final List<Module> modules) {
+        if (modules.isEmpty()) {
+            return false;
+        }
+        for (Module module : modules) {
+            if (module instanceof BootstrapAwareModule || module instanceof EnvironmentAwareModule) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Future<List<Element>> record(final Stage stage,
+                                                final List<Module> modules,
+                                                final Stopwatch timer) {
+        return Executor.INSTANCE.submit(() -> {
+            timer.start();
+            try {
+                return Elements.getElements(stage, modules);
+            } finally {
+                timer.stop();
+            }
+        });
+    }
+
+    @SuppressWarnings({"PMD.SignatureDeclareThrowsException", "PMD.PreserveStackTrace"})
+    private List<Element> await(final Future<List<Element>> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            Throwables.throwIfInstanceOf(cause, Exception.class);
+            Throwables.throwIfUnchecked(cause);
+            throw ex;
+        }
+    }
+
+    /**
+     * Lazy holder of shared recording executor (created only if pipeline is used).
+     */
+    private static final class Executor {
+        static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("guicey-modules-%d").setDaemon(true).build());
+    }
+}
@@ -30,6 +30,7 @@ import ru.vyarus.dropwizard.guice.module.support.ConfigurationAwareModule;
 import ru.vyarus.dropwizard.guice.module.support.ConfigurationTreeAwareModule;
 import ru.vyarus.dropwizard.guice.module.support.EnvironmentAwareModule;
 import ru.vyarus.dropwizard.guice.module.support.OptionsAwareModule;
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigPathsCollector;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -46,6 +47,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.AnalyzeGuiceModules;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.BindConfigurationPathsOnDemand;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.InjectorStage;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.InstallersTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ModulesProcessingTime;
@@ -97,10 +99,34 @@ public final class ModulesSupport {
      * @return modules for injector creation
      */
     public static Iterable<Module> prepareModules(final ConfigurationContext context) {
+        return prepareModules(context, null);
+    }
+
+    /**
+     * Prepares modules to use for injector creation (applies module overrides). When modules recorder provided,
+     * modules elements, recorded in background, are used instead of in-place modules recording.
+     *
+     * @param context  configuration context
+     * @param recorder background modules recorder (may be null)
+     * @return modules for injector creation
+     */
+    public static Iterable<Module> prepareModules(final ConfigurationContext context,
+                                                  final ModulesRecorder recorder) {
         final StatTimer timer = context.stat().timer(ModulesProcessingTime);
-        final List<Module> overridingModules = context.getOverridingModules();
+        List<Module> overridingModules = context.getOverridingModules();
+        final List<Element> analyzedElements = new ArrayList<>();
         // repackage normal modules to reveal all guice extensions
-        final List<Module> normalModules = analyzeModules(context, timer);
+        final List<Module> normalModules = analyzeModules(context, timer, analyzedElements, recorder);
+        if (context.option(BindConfigurationPathsOnDemand)) {
+            overridingModules = collectConfigPaths(context, normalModules, analyzedElements, overridingModules,
+                    recorder);
+        } else if (recorder != null && recorder.isOverridesRecorded()) {
+            overridingModules = useRecordedOverrides(overridingModules, recorder);
+        }
+        if (recorder != null) {
+            context.stat().timer(Stat.ModulesRecordingTime, recorder.getModulesTime());
+            context.stat().timer(Stat.OverridingModulesRecordingTime, recorder.getOverridesTime());
+        }
 
         final Iterable<Module> res = overridingModules.isEmpty() ? normalModules
                 : Collections.singletonList(Modules.override(normalModules).with(overridingModules));
@@ -117,12 +143,16 @@ public final class ModulesSupport {
      * bound extension is disabled, target binding is simply removed (in order to
      * provide the same disable semantic as with usual extensions).
      *
-     * @param context configuration context
-     * @param modulesTimer modules processing timer
+     * @param context          configuration context
+     * @param modulesTimer     modules processing timer
+     * @param analyzedElements list to store analyzed elements into (stays empty if analysis was not performed)
+     * @param recorder         background modules recorder (may be null)
      * @return list of repackaged modules to use
      */
     private static List<Module> analyzeModules(final ConfigurationContext context,
-                                               final StatTimer modulesTimer) {
+                                               final StatTimer modulesTimer,
+                                               final List<Element> analyzedElements,
+                                               final ModulesRecorder recorder) {
         List<Module> modules = context.getNormalModules();
         final Boolean configureFromGuice = context.option(AnalyzeGuiceModules);
         // one module mean no user modules registered
@@ -131,9 +161,11 @@ public final class ModulesSupport {
             final GuiceBootstrapModule bootstrap = (GuiceBootstrapModule) modules.remove(modules.size() - 1);
             try {
                 // find extensions and remove bindings if required (disabled extensions)
+                // with background recording only waiting time is measured
                 final StatTimer gtime = context.stat().timer(Stat.BindingsResolutionTime);
-                final List<Element> elements = new ArrayList<>(
-                        Elements.getElements(context.option(InjectorStage), modules));
+                final List<Element> elements = new ArrayList<>(recorder != null && recorder.isModulesRecorded()
+                        ? recorder.getModulesElements()
+                        : Elements.getElements(context.option(InjectorStage), modules));
                 gtime.stop();
 
                 // exclude analysis time from modules processing time (it's installer time)
@@ -143,6 +175,7 @@ public final class ModulesSupport {
 
                 // wrap raw elements into module to avoid duplicate work on guice startup and put back bootstrap
                 modules = Arrays.asList(Elements.getModule(elements), bootstrap);
+                analyzedElements.addAll(elements);
             } catch (Exception ex) {
                 // better show meaningful message then just fail entire startup with ambiguous message
                 // NOTE if guice configuration is not OK it will fail here too, but user will see injector creation
@@ -160,6 +193,54 @@ public final class ModulesSupport {
         return modules;
     }
 
+    /**
+     * Collect configuration paths, required by injection points in guice bindings and extensions (for on-demand
+     * configuration paths binding). Overriding modules are recorded to avoid their duplicate configuration.
+     * <p>
+     * If user modules were not analyzed (analysis disabled or failed) all configuration paths would be bound
+     * (impossible to detect all required paths without modules elements).
+     *
+     * @param context           configuration context
+     * @param normalModules     modules to use for injector creation
+     * @param analyzedElements  analyzed user modules elements
+     * @param overridingModules overriding modules
+     * @param recorder          background modules recorder (may be null)
+     * @return overriding modules to use for injector creation
+     */
+    private static List<Module> collectConfigPaths(final ConfigurationContext context,
+                                                   final List<Module> normalModules,
+                                                   final List<Element> analyzedElements,
+                                                   final List<Module> overridingModules,
+                                                   final ModulesRecorder recorder) {
+        // single module means only guicey bootstrap module
+        if (normalModules.size() > 1 && analyzedElements.isEmpty()) {
+            LOGGER.info("Guice modules were not analyzed and so all configuration paths would be bound ({} "
+                    + "option ignored)", BindConfigurationPathsOnDemand.name());
+            return recorder != null && recorder.isOverridesRecorded()
+                    ? useRecordedOverrides(overridingModules, recorder) : overridingModules;
+        }
+        List<Module> res = overridingModules;
+        try {
+            final ConfigPathsCollector collector = new ConfigPathsCollector().analyzeElements(analyzedElements);
+            if (!overridingModules.isEmpty()) {
+                final List<Element> overrides = recorder != null && recorder.isOverridesRecorded()
+                        ? recorder.getOverridesElements()
+                        : Elements.getElements(context.option(InjectorStage), overridingModules);
+                collector.analyzeElements(overrides);
+                res = Collections.singletonList(Elements.getModule(overrides));
+            }
+            final List<Class<?>> types = new ArrayList<>(context.getEnabledExtensions());
+            // application fields injection
+            types.add(context.getBootstrap().getApplication().getClass());
+            collector.analyzeTypes(types);
+            context.setRequiredConfigPaths(collector.getPaths());
+            LOGGER.debug("Required configuration paths: {}", collector.getPaths());
+        } catch (Exception ex) {
+            LOGGER.warn("Failed to resolve required configuration paths - all paths would be bound", ex);
+        }
+        return res;
+    }
+
     private static void analyzeAndFilterBindings(final ConfigurationContext context,
                                                  final List<Module> analyzedModules,
                                                  final List<Element> elements) {
@@ -183,6 +264,23 @@ public final class ModulesSupport {
         itimer.stop();
     }
 
+
+    /**
+     * Use overriding modules elements, recorded in background (avoid duplicate recording by guice).
+     *
+     * @param overridingModules overriding modules
+     * @param recorder          background modules recorder
+     * @return overriding modules to use for injector creation
+     */
+    private static List<Module> useRecordedOverrides(final List<Module> overridingModules,
+                                                     final ModulesRecorder recorder) {
+        try {
+            return Collections.singletonList(Elements.getModule(recorder.getOverridesElements()));
+        } catch (Exception ex) {
+            LOGGER.warn("Failed to record overriding modules in background - original modules used", ex);
+            return overridingModules;
+        }
+    }
     /**
      * Actual guice modules analysis. Would be called for all guice modules and for each private module
      * (because private module bindings are managed independently).
@@ -8,14 +8,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.index.ScanIndex;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.BytecodeFilter;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanAcceptedClassesCount;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanClassesCount;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanIndexedClassesCount;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanLoadedClassesCount;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanTime;
 
 /**
@@ -24,6 +35,20 @@ import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ScanTime;
  * <p>
  * Actual scan is performed only on first {@link #scan(ClassVisitor)} call. Later scans used cached classes.
  * {@link #cleanup()} must be used to clear cache.
+ * <p>
+ * When compile-time scan index is available (see
+ * {@link ru.vyarus.dropwizard.guice.module.installer.scanner.index.ScanIndexProcessor}), only indexed classes
+ * are loaded (without package traversal). If package is not indexed, usual traversal is performed.
+ * Indexed classes are loaded (and initialized) exactly as classes found by traversal.
+ * <p>
+ * With bytecode filtering enabled, classes are not loaded during scan: only class names are collected. Class
+ * file headers are analyzed (with ASM) on {@link #scan(ClassVisitor, MatchHints)} and only classes which could
+ * match provided hints are loaded (without initialization). Loaded classes are cached for later scans.
+ * <p>
+ * In parallel mode, packages, package locations (jars and directories) and directory subtrees are traversed
+ * in dedicated fork-join pool (created for scan only); found classes are also loaded in parallel, but initialized
+ * in the current thread (to avoid possible class initialization deadlocks), so classes are initialized exactly
+ * as with sequential scan. Classes order is the same as for sequential scan.
  *
  * @author Vyacheslav Rusakov
  * @since 31.08.2014
@@ -38,7 +63,14 @@ public class ClasspathScanner {
 
     private final Set<String> packages;
     private final boolean acceptProtectedClasses;
+    private final boolean useIndex;
+    private final boolean bytecodeFilter;
+    private final boolean parallel;
     private List<Class> scanned;
+    // used only with bytecode filtering
+    private List<String> candidates;
+    private Map<String, Class<?>> loaded;
+    private BytecodeFilter filter;
 
     /**
      * Create a scanner.
@@ -60,24 +92,143 @@ public class ClasspathScanner {
     public ClasspathScanner(final Set<String> packages,
                             final boolean acceptProtectedClasses,
                             final StatsTracker tracker) {
+        this(packages, acceptProtectedClasses, false, false, tracker);
+    }
+
+    /**
+     * Create a scanner.
+     *
+     * @param packages               packages to scan
+     * @param acceptProtectedClasses look protected classes
+     * @param useIndex               use compile-time scan index (when available)
+     * @param bytecodeFilter         load only classes, matching hints (by class file analysis)
+     * @param tracker                tracker instance
+     */
+    public ClasspathScanner(final Set<String> packages,
+                            final boolean acceptProtectedClasses,
+                            final boolean useIndex,
+                            final boolean bytecodeFilter,
+                            final StatsTracker tracker) {
+        this(packages, acceptProtectedClasses, useIndex, bytecodeFilter, false, tracker);
+    }
+
+    /**
+     * Create a scanner.
+     *
+     * @param packages               packages to scan
+     * @param acceptProtectedClasses look protected classes
+     * @param useIndex               use compile-time scan index (when available)
+     * @param bytecodeFilter         load only classes, matching hints (by class file analysis)
+     * @param parallel               parallel classpath traversal and classes loading
+     * @param tracker                tracker instance
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ClasspathScanner(final Set<String> packages,
+                            final boolean acceptProtectedClasses,
+                            final boolean useIndex,
+                            final boolean bytecodeFilter,
+                            final boolean parallel,
+                            final StatsTracker tracker) {
         this.packages = validate(packages);
         this.acceptProtectedClasses = acceptProtectedClasses;
+        this.useIndex = useIndex;
+        this.bytecodeFilter = bytecodeFilter;
+        this.parallel = parallel;
         this.tracker = tracker;
         // perform scan before to fill cache and get accurate traversing stats
         performScan();
     }
 
+    /**
+     * Create a scanner for already known class names (e.g. loaded from
+     * {@link ru.vyarus.dropwizard.guice.module.installer.scanner.cache.StartupCache}). No classpath scan performed:
+     * classes are loaded (and initialized) in provided order, exactly as with classpath scan. If at least one class
+     * can't be loaded, scanner is not resolved (see {@link #isResolved()}) and so classpath scan is required.
+     *
+     * @param packages packages to scan
+     * @param classes  class names
+     * @param loader   class loader
+     * @param tracker  tracker instance
+     */
+    public ClasspathScanner(final Set<String> packages,
+                            final List<String> classes,
+                            final ClassLoader loader,
+                            final StatsTracker tracker) {
+        this.packages = validate(packages);
+        this.acceptProtectedClasses = false;
+        // known names could be stale (as index), so not found classes are tolerated
+        this.useIndex = true;
+        this.bytecodeFilter = false;
+        this.parallel = false;
+        this.tracker = tracker;
+        final List<Class> res = Lists.newArrayList();
+        for (String name : classes) {
+            final Class<?> cls = loadClass(name, loader, true);
+            if (cls == null) {
+                return;
+            }
+            res.add(cls);
+        }
+        scanned = res;
+        if (tracker != null) {
+            tracker.count(ScanClassesCount, res.size());
+            tracker.count(ScanAcceptedClassesCount, res.size());
+        }
+    }
+
+    /**
+     * @return true if classes resolved (always true for classpath scan, could be false for known classes)
+     */
+    public boolean isResolved() {
+        return scanned != null;
+    }
+
     /**
      * Scan configured classpath packages.
      *
      * @param visitor visitor to investigate found classes
      */
     public void scan(final ClassVisitor visitor) {
-        if (scanned == null) {
+        scan(visitor, null);
+    }
+
+    /**
+     * Scan configured classpath packages. When bytecode filtering is enabled, only classes which could match
+     * provided hints are loaded and passed to visitor (for other cases, hints are ignored and all classes
+     * are visited).
+     *
+     * @param visitor visitor to investigate found classes
+     * @param hints   hints to filter classes by bytecode or null to visit all classes
+     */
+    public void scan(final ClassVisitor visitor, final MatchHints hints) {
+        if (scanned == null && candidates == null) {
             performScan();
         }
-        for (Class<?> cls : scanned) {
-            visitor.visit(cls);
+        if (bytecodeFilter) {
+            int count = 0;
+            int accepted = 0;
+            for (String name : candidates) {
+                if (hints == null || filter.mayMatch(name, hints)) {
+                    if (!loaded.containsKey(name)) {
+                        final Class<?> cls = load(name, Thread.currentThread().getContextClassLoader());
+                        loaded.put(name, cls);
+                        count++;
+                        accepted += cls == null ? 0 : 1;
+                    }
+                    final Class<?> cls = loaded.get(name);
+                    if (cls != null) {
+                        visitor.visit(cls);
+                    }
+                }
+            }
+            if (tracker != null) {
+                tracker.count(ScanLoadedClassesCount, count);
+                tracker.count(ScanAcceptedClassesCount, accepted);
+            }
+        } else {
+            for (Class<?> cls : scanned) {
+                visitor.visit(cls);
+            }
         }
     }
 
@@ -86,6 +237,9 @@ public class ClasspathScanner {
      */
     public void cleanup() {
         scanned = null;
+        candidates = null;
+        loaded = null;
+        filter = null;
     }
 
     /**
@@ -111,32 +265,228 @@ public class ClasspathScanner {
 
     private void performScan() {
         final StatTimer timer = tracker == null ? null : tracker.timer(ScanTime);
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        // dedicated pool to not block (and not be blocked by) other application tasks in common pool
+        final ForkJoinPool pool = parallel ? new ForkJoinPool() : null;
+        final int[] counts;
+        try {
+            if (bytecodeFilter) {
+                counts = collectNames(loader, pool);
+            } else {
+                counts = parallel ? loadClassesParallel(loader, pool) : loadClasses(loader);
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        final int count = counts[0];
+        if (count > SCAN_THRESHOLD) {
+            logger.warn("{} classes were {} while scanning '{}' packages. Reduce packages to scan "
+                            + "to increase efficiency.", count, bytecodeFilter ? "analyzed" : "loaded",
+                    Joiner.on(',').join(packages));
+        }
+        if (timer != null) {
+            timer.stop();
+            tracker.count(ScanClassesCount, count);
+            tracker.count(ScanIndexedClassesCount, counts[1]);
+            if (!bytecodeFilter) {
+                // with bytecode filtering accepted classes are counted during loading
+                tracker.count(ScanAcceptedClassesCount, scanned.size());
+            }
+        }
+    }
+
+    /**
+     * Load all classes from scanned packages.
+     *
+     * @param loader class loader
+     * @return found classes count and indexed classes count
+     */
+    private int[] loadClasses(final ClassLoader loader) {
         int count = 0;
+        int indexed = 0;
         scanned = Lists.newArrayList();
         for (String pkg : packages) {
-            final List<Class<?>> found;
-            try {
-                found = OReflectionHelper.getClassesFor(
-                        pkg, Thread.currentThread().getContextClassLoader(), acceptProtectedClasses);
-            } catch (ClassNotFoundException e) {
-                throw new IllegalStateException("Failed to scan classpath", e);
+            List<Class<?>> found = useIndex ? ScanIndex.getClassesFor(pkg, loader, acceptProtectedClasses) : null;
+            if (found != null) {
+                indexed += found.size();
+            } else {
+                try {
+                    found = OReflectionHelper.getClassesFor(pkg, loader, acceptProtectedClasses);
+                } catch (ClassNotFoundException e) {
+                    throw new IllegalStateException("Failed to scan classpath", e);
+                }
             }
             count += found.size();
             for (Class<?> cls : found) {
-                // only static inner classes are allowed because guice will not be able to instantiate inner class
-                final boolean isInner = cls.getEnclosingClass() != null && !Modifier.isStatic(cls.getModifiers());
-                if (!isInner && !cls.isAnnotationPresent(InvisibleForScanner.class)) {
+                if (isAcceptable(cls)) {
                     scanned.add(cls);
                 }
             }
         }
-        if (count > SCAN_THRESHOLD) {
-            logger.warn("{} classes were loaded while scanning '{}' packages. Reduce packages to scan "
-                    + "to increase efficiency.", count, Joiner.on(',').join(packages));
+        return new int[]{count, indexed};
+    }
+
+    /**
+     * Load all classes from scanned packages in parallel. Classes are loaded (in pool) without initialization
+     * and then initialized in the current thread (in classes order), exactly as with sequential scan (parallel
+     * initialization could lead to class initialization deadlocks).
+     *
+     * @param loader class loader
+     * @param pool   pool for parallel execution
+     * @return found classes count and indexed classes count
+     */
+    private int[] loadClassesParallel(final ClassLoader loader, final ForkJoinPool pool) {
+        final List<ForkJoinTask<Class<?>>> tasks = new ArrayList<>();
+        int indexed = 0;
+        for (PackageClasses pkg : findNames(loader, pool)) {
+            for (String name : pkg.names) {
+                tasks.add(pool.submit(() -> loadClass(name, loader, false)));
+            }
+            indexed += pkg.indexed ? pkg.names.size() : 0;
         }
-        if (timer != null) {
-            timer.stop();
-            tracker.count(ScanClassesCount, count);
+        int count = 0;
+        scanned = Lists.newArrayList();
+        for (ForkJoinTask<Class<?>> task : tasks) {
+            final Class<?> cls = task.join();
+            if (cls != null) {
+                initialize(cls, loader);
+                if (OReflectionHelper.isAcceptibleClass(cls, acceptProtectedClasses)) {
+                    count++;
+                    if (isAcceptable(cls)) {
+                        scanned.add(cls);
+                    }
+                }
+            }
+        }
+        return new int[]{count, indexed};
+    }
+
+    /**
+     * Collect class names from scanned packages (without classes loading).
+     *
+     * @param loader class loader
+     * @param pool   pool for parallel execution or null
+     * @return found classes count and indexed classes count
+     */
+    private int[] collectNames(final ClassLoader loader, final ForkJoinPool pool) {
+        int indexed = 0;
+        candidates = Lists.newArrayList();
+        loaded = new HashMap<>();
+        filter = new BytecodeFilter(loader);
+        for (PackageClasses pkg : findNames(loader, pool)) {
+            candidates.addAll(pkg.names);
+            indexed += pkg.indexed ? pkg.names.size() : 0;
+        }
+        return new int[]{candidates.size(), indexed};
+    }
+
+    /**
+     * Search class names in all scanned packages (packages are processed in parallel in parallel mode).
+     *
+     * @param loader class loader
+     * @param pool   pool for parallel execution or null
+     * @return found class names per package (in packages order)
+     */
+    private List<PackageClasses> findNames(final ClassLoader loader, final ForkJoinPool pool) {
+        final List<PackageClasses> res = new ArrayList<>();
+        if (pool != null) {
+            final List<ForkJoinTask<PackageClasses>> tasks = new ArrayList<>();
+            for (String pkg : packages) {
+                tasks.add(pool.submit(() -> findNames(pkg, loader, pool)));
+            }
+            for (ForkJoinTask<PackageClasses> task : tasks) {
+                res.add(task.join());
+            }
+        } else {
+            for (String pkg : packages) {
+                res.add(findNames(pkg, loader, null));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Search class names in package (in index or by package traversal).
+     *
+     * @param pkg    package
+     * @param loader class loader
+     * @param pool   pool for parallel traversal or null
+     * @return found class names
+     */
+    private PackageClasses findNames(final String pkg, final ClassLoader loader, final ForkJoinPool pool) {
+        final Set<String> index = useIndex ? ScanIndex.getClassNamesFor(pkg, loader) : null;
+        if (index != null) {
+            return new PackageClasses(new ArrayList<>(index), true);
+        }
+        try {
+            return new PackageClasses(OReflectionHelper.getClassNamesFor(pkg, loader, pool), false);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to scan classpath", e);
+        }
+    }
+
+    /**
+     * Load class, accepted by bytecode filter (without initialization).
+     *
+     * @param name   class name
+     * @param loader class loader
+     * @return loaded class or null if class is not acceptable
+     */
+    private Class<?> load(final String name, final ClassLoader loader) {
+        final Class<?> cls = loadClass(name, loader, false);
+        return cls != null && OReflectionHelper.isAcceptibleClass(cls, acceptProtectedClasses)
+                && isAcceptable(cls) ? cls : null;
+    }
+
+    /**
+     * Load class.
+     *
+     * @param name       class name
+     * @param loader     class loader
+     * @param initialize true to initialize class
+     * @return loaded class or null if class not found in stale index
+     */
+    private Class<?> loadClass(final String name, final ClassLoader loader, final boolean initialize) {
+        try {
+            return Class.forName(name, initialize, loader);
+        } catch (ClassNotFoundException e) {
+            if (useIndex) {
+                // could be stale index
+                logger.debug("Scanned class '{}' not found", name);
+                return null;
+            }
+            throw new IllegalStateException("Failed to scan classpath", e);
+        }
+    }
+
+    /**
+     * Initialize already loaded class.
+     *
+     * @param cls    class
+     * @param loader class loader
+     */
+    private void initialize(final Class<?> cls, final ClassLoader loader) {
+        loadClass(cls.getName(), loader, true);
+    }
+
+    private boolean isAcceptable(final Class<?> cls) {
+        // only static inner classes are allowed because guice will not be able to instantiate inner class
+        final boolean isInner = cls.getEnclosingClass() != null && !Modifier.isStatic(cls.getModifiers());
+        return !isInner && !cls.isAnnotationPresent(InvisibleForScanner.class);
+    }
+
+    /**
+     * Class names found in package.
+     */
+    private static class PackageClasses {
+        private final List<String> names;
+        private final boolean indexed;
+
+        PackageClasses(final List<String> names, final boolean indexed) {
+            this.names = names;
+            this.indexed = indexed;
         }
     }
 }
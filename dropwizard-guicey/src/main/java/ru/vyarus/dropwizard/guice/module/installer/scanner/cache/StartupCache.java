@@ -0,0 +1,237 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.cache;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.StartupCacheHitCount;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.StartupCacheMissCount;
+
+/**
+ * Startup cache stores classpath scan results (installers, commands and extensions recognized from classpath scan)
+ * into file in order to avoid classpath scan and extensions recognition on next startup (see
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#StartupCache}).
+ * <p>
+ * Cache is keyed by classpath fingerprint: scanned packages, custom options, classpath (entries list) and
+ * scanned packages locations (jars size and modification date or package directories content). Other classpath
+ * entries content is not hashed (to keep validation cheap). Any change in scanned locations (e.g. new artifact
+ * deployment) invalidates the cache. Also, cache stores used installers: if installers set changed (e.g. installer
+ * was disabled by condition), extensions would be searched with classpath scan.
+ * <p>
+ * Cached classes are loaded (and initialized) in original scan order, exactly as during classpath scan. Cached
+ * classes are still processed by commands, installers and extensions search logic (as if they were
+ * found by classpath scan), so cache only avoids classpath traversal and useless classes loading. Cache
+ * must contain all classes, recognized by installers (including classes rejected by auto scan filters because
+ * filters could depend on environment and so are applied to cached classes on each startup).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class StartupCache {
+    private static final String FORMAT = "2";
+    private static final String KEY = "key";
+    private static final String INSTALLERS = "installers";
+    private static final String CLASSES = "classes";
+    private static final String SEPARATOR = ",";
+
+    private final Logger logger = LoggerFactory.getLogger(StartupCache.class);
+
+    private final Path file;
+    private final StatsTracker tracker;
+    private final String key;
+    private List<String> installers;
+
+    /**
+     * Create cache (computes classpath fingerprint).
+     *
+     * @param file     cache file
+     * @param packages scanned packages
+     * @param context  additional context values, affecting scan results (e.g. options)
+     * @param loader   class loader
+     * @param tracker  stats tracker
+     */
+    public StartupCache(final Path file,
+                        final Set<String> packages,
+                        final Collection<String> context,
+                        final ClassLoader loader,
+                        final StatsTracker tracker) {
+        this.file = file;
+        this.tracker = tracker;
+        this.key = fingerprint(packages, context, loader);
+    }
+
+    /**
+     * Load class names from cache. Counts cache miss if cache is not valid. Classes must be loaded in cached order
+     * (with initialization, as during classpath scan) and cache hit recorded with {@link #hit()}.
+     *
+     * @return cached class names (in original scan order) or null if cache is not valid
+     */
+    public List<String> load() {
+        final List<String> res = read();
+        if (res == null) {
+            miss();
+        }
+        return res;
+    }
+
+    /**
+     * Record cache hit (when all cached classes were loaded).
+     */
+    public void hit() {
+        tracker.count(StartupCacheHitCount, 1);
+    }
+
+    /**
+     * @return installers used for extensions recognition during cached scan (only for loaded cache)
+     */
+    public List<String> getInstallers() {
+        return installers;
+    }
+
+    /**
+     * Record cache miss (e.g. when cached results could not be used).
+     */
+    public void miss() {
+        tracker.count(StartupCacheMissCount, 1);
+    }
+
+    /**
+     * Write scan results into cache file. Write errors are logged (not propagated).
+     *
+     * @param classes    classes, recognized by classpath scan (commands, installers and extensions)
+     * @param installers installers used for extensions recognition
+     */
+    public void store(final Collection<Class<?>> classes, final Collection<Class<?>> installers) {
+        final Properties props = new Properties();
+        props.setProperty(KEY, key);
+        props.setProperty(INSTALLERS, join(installers));
+        props.setProperty(CLASSES, join(classes));
+        try {
+            final Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            // write to temp file first to avoid partial cache reads by concurrently started instances
+            final Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, "Guicey startup cache");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Startup cache stored: {}", file.toAbsolutePath());
+        } catch (IOException ex) {
+            logger.warn("Failed to store guicey startup cache into " + file.toAbsolutePath(), ex);
+        }
+    }
+
+    private List<String> read() {
+        if (!Files.exists(file)) {
+            logger.debug("Startup cache not found: {}", file.toAbsolutePath());
+            return null;
+        }
+        final Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        } catch (IOException | IllegalArgumentException ex) {
+            logger.warn("Failed to read guicey startup cache from " + file.toAbsolutePath(), ex);
+            return null;
+        }
+        if (!key.equals(props.getProperty(KEY))) {
+            logger.debug("Startup cache is outdated: {}", file.toAbsolutePath());
+            return null;
+        }
+        installers = split(props.getProperty(INSTALLERS));
+        return split(props.getProperty(CLASSES));
+    }
+
+    private String fingerprint(final Set<String> packages, final Collection<String> context,
+                               final ClassLoader loader) {
+        final Hasher hasher = Hashing.sha256().newHasher()
+                .putString(FORMAT, StandardCharsets.UTF_8);
+        new TreeSet<>(packages).forEach(pkg -> hasher.putString(pkg, StandardCharsets.UTF_8));
+        context.forEach(value -> hasher.putString(value, StandardCharsets.UTF_8));
+        // classpath string is hashed, but not classpath entries content: only scanned locations could affect
+        // scan results
+        hasher.putString(Strings.nullToEmpty(System.getProperty("java.class.path")), StandardCharsets.UTF_8);
+        for (File location : getPackageLocations(packages, loader)) {
+            hash(hasher, location);
+        }
+        return hasher.hash().toString();
+    }
+
+    private Set<File> getPackageLocations(final Set<String> packages, final ClassLoader loader) {
+        final Set<File> res = new TreeSet<>();
+        for (String pkg : packages) {
+            try {
+                final Enumeration<URL> urls = loader.getResources(pkg.replace('.', '/'));
+                while (urls.hasMoreElements()) {
+                    final URL url = urls.nextElement();
+                    if ("jar".equalsIgnoreCase(url.getProtocol())) {
+                        final URL jar = ((JarURLConnection) url.openConnection()).getJarFileURL();
+                        if ("file".equalsIgnoreCase(jar.getProtocol())) {
+                            res.add(Paths.get(jar.toURI()).toFile());
+                        }
+                    } else if ("file".equalsIgnoreCase(url.getProtocol())) {
+                        res.add(Paths.get(url.toURI()).toFile());
+                    }
+                }
+            } catch (IOException | URISyntaxException | IllegalArgumentException ex) {
+                logger.debug("Failed to resolve package {} locations for startup cache key: {}",
+                        pkg, ex.getMessage());
+            }
+        }
+        return res;
+    }
+
+    private void hash(final Hasher hasher, final File location) {
+        if (location.isDirectory()) {
+            // package directory tree changes (usually not the case for production deployments)
+            try (Stream<Path> files = Files.walk(location.toPath())) {
+                files.sorted().forEach(path -> hashFile(hasher, path.toFile()));
+            } catch (IOException ex) {
+                hasher.putString(location.getPath(), StandardCharsets.UTF_8);
+            }
+        } else {
+            hashFile(hasher, location);
+        }
+    }
+
+    private void hashFile(final Hasher hasher, final File file) {
+        hasher.putString(file.getPath(), StandardCharsets.UTF_8)
+                .putLong(file.length())
+                .putLong(file.lastModified());
+    }
+
+    private String join(final Collection<Class<?>> classes) {
+        return Joiner.on(SEPARATOR).join(classes.stream().map(Class::getName).collect(Collectors.toList()));
+    }
+
+    private List<String> split(final String value) {
+        return value == null ? Collections.emptyList()
+                : Splitter.on(SEPARATOR).omitEmptyStrings().trimResults().splitToList(value);
+    }
+}
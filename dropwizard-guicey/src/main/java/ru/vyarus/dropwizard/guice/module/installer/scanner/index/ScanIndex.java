@@ -0,0 +1,173 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compile-time classpath scan index support. Index is generated by {@link ScanIndexProcessor} into
+ * {@link #LOCATION} file (inside compiled classes root) and contains all class names, declared in compiled sources.
+ * <p>
+ * Index is used by {@link ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner} instead of
+ * package directories (and jar entries) traversal: only listed classes are loaded (the same way as with
+ * traversal). Index is used only when ALL classpath locations of scanned package contain index file
+ * (e.g. when package is split between indexed and not indexed jars, usual traversal would be used).
+ * <p>
+ * Index file format: one class name per line (binary name, e.g. {@code com.foo.Outer$Inner}); empty lines and
+ * lines starting with '#' are ignored.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class ScanIndex {
+
+    /**
+     * Index file location (relative to classpath root).
+     */
+    public static final String LOCATION = "META-INF/guicey/scan-index";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScanIndex.class);
+    private static final String COMMENT = "#";
+
+    private ScanIndex() {
+    }
+
+    /**
+     * Search index files for all classpath locations of provided package and load all classes, listed in
+     * index, from this package (and sub packages).
+     * <p>
+     * Index could be generated incrementally and so may contain classes that does not exist anymore: such
+     * classes are silently ignored.
+     *
+     * @param pkg                    package to load classes from
+     * @param loader                 class loader
+     * @param acceptProtectedClasses true to accept protected classes
+     * @return loaded classes or null if package is not indexed (at least one package location does not contain
+     * index)
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    public static List<Class<?>> getClassesFor(final String pkg,
+                                               final ClassLoader loader,
+                                               final boolean acceptProtectedClasses) {
+        final Set<String> names = getClassNamesFor(pkg, loader);
+        if (names == null) {
+            return null;
+        }
+        final List<Class<?>> res = new ArrayList<>();
+        for (String name : names) {
+            try {
+                // initialize class the same way as package traversal does
+                final Class<?> type = Class.forName(name, true, loader);
+                if (OReflectionHelper.isAcceptibleClass(type, acceptProtectedClasses)) {
+                    res.add(type);
+                }
+            } catch (ClassNotFoundException ex) {
+                LOGGER.debug("Ignore indexed class '{}': class not found (stale index)", name);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Search index files for all classpath locations of provided package.
+     *
+     * @param pkg    package to search classes in
+     * @param loader class loader
+     * @return class names from package (and sub packages) or null if at least one package location is not indexed
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    public static Set<String> getClassNamesFor(final String pkg, final ClassLoader loader) {
+        final String path = pkg.replace('.', '/');
+        final String prefix = pkg + '.';
+        final Set<String> res = new LinkedHashSet<>();
+        try {
+            final Enumeration<URL> resources = loader.getResources(path);
+            if (!resources.hasMoreElements()) {
+                // let classpath scanner decide what to do with invalid package
+                return null;
+            }
+            for (URL location : Collections.list(resources)) {
+                final Set<String> index = readIndex(location, path);
+                if (index == null) {
+                    LOGGER.debug("Scan index not found for package '{}' location: {}", pkg, location);
+                    return null;
+                }
+                for (String name : index) {
+                    if (name.startsWith(prefix)) {
+                        res.add(name);
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to read scan index for package " + pkg, ex);
+        }
+        return res;
+    }
+
+    /**
+     * Parse index file content.
+     *
+     * @param in index file stream
+     * @return class names from index
+     * @throws IOException on read error
+     */
+    public static Set<String> parse(final InputStream in) throws IOException {
+        final Set<String> res = new LinkedHashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                final String name = line.trim();
+                if (!name.isEmpty() && !name.startsWith(COMMENT)) {
+                    res.add(name);
+                }
+                line = reader.readLine();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Resolve index file for classpath root, containing package location.
+     *
+     * @param location package location url
+     * @param path     package path
+     * @return index content or null if classpath root does not contain index
+     * @throws IOException on read error
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private static Set<String> readIndex(final URL location, final String path) throws IOException {
+        String url = location.toExternalForm();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        if (!url.endsWith(path)) {
+            // unknown location format
+            return null;
+        }
+        final URL index = URI.create(url.substring(0, url.length() - path.length()) + LOCATION).toURL();
+        final InputStream in;
+        try {
+            final URLConnection connection = index.openConnection();
+            in = connection.getInputStream();
+        } catch (IOException ex) {
+            // no index in classpath root
+            return null;
+        }
+        return parse(in);
+    }
+}
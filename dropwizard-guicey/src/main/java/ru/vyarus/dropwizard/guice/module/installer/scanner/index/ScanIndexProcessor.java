@@ -0,0 +1,123 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor, generating classpath scan index ({@link ScanIndex#LOCATION}) at compile time. With index,
+ * {@link ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner} does not need to traverse package
+ * directories (or jar entries) and loads only indexed classes (classes are initialized exactly as classes found
+ * by usual traversal).
+ * <p>
+ * Processor is not registered with service loader (to avoid implicit activation for all guicey users) and so
+ * must be enabled explicitly. For example, in gradle:
+ * <pre>{@code
+ * dependencies {
+ *     annotationProcessor 'ru.vyarus:dropwizard-guicey'
+ * }
+ * compileJava.options.compilerArgs += ['-processor',
+ *         'ru.vyarus.dropwizard.guice.module.installer.scanner.index.ScanIndexProcessor']
+ * }</pre>
+ * <p>
+ * Index contains all (non private) top-level and static nested classes of compiled sources (annotations
+ * are ignored). Scanner applies all usual checks (like {@code @InvisibleForScanner}) for indexed classes.
+ * For incremental compilation, processor merges new classes into existing index (removed classes would be
+ * ignored by scanner).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ScanIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> classes = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // process all sources
+        return Set.of("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                collect(element);
+            }
+        }
+        // never claim annotations
+        return false;
+    }
+
+    private void collect(final Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        final TypeElement type = (TypeElement) element;
+        final boolean member = type.getNestingKind() == NestingKind.MEMBER;
+        // inner (not static) classes could not be extensions (and so they are ignored by scanner)
+        if (member && !type.getModifiers().contains(Modifier.STATIC)
+                && type.getKind() == ElementKind.CLASS) {
+            return;
+        }
+        if (type.getKind() != ElementKind.ANNOTATION_TYPE && !type.getModifiers().contains(Modifier.PRIVATE)) {
+            classes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+        for (Element inner : type.getEnclosedElements()) {
+            collect(inner);
+        }
+    }
+
+    private void writeIndex() {
+        if (classes.isEmpty()) {
+            return;
+        }
+        final Set<String> index = new TreeSet<>(classes);
+        // merge with already existing index (incremental compilation)
+        try {
+            final FileObject existing = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ScanIndex.LOCATION);
+            try (InputStream in = existing.openInputStream()) {
+                index.addAll(ScanIndex.parse(in));
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // no existing index
+        }
+        try {
+            final FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ScanIndex.LOCATION);
+            try (Writer out = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                out.write("# Guicey classpath scan index" + System.lineSeparator());
+                for (String name : index) {
+                    out.write(name);
+                    out.write(System.lineSeparator());
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write guicey scan index: " + ex.getMessage());
+        }
+    }
+}
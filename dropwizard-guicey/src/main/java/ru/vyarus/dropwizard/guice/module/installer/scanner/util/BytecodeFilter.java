@@ -0,0 +1,176 @@
+package ru.vyarus.dropwizard.guice.module.installer.scanner.util;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class pre-filtering by bytecode: class file header (superclass, interfaces and annotations) is read directly
+ * (with ASM) without class loading. Used by classpath scanner to avoid loading classes which could not be matched
+ * by installers (according to installers {@link MatchHints}).
+ * <p>
+ * Complete type hierarchy is resolved (super classes and interfaces are also read from class files). Annotations
+ * are collected from all types in hierarchy (including meta annotations: annotations on annotation). If some
+ * hierarchy part can't be read, type is assumed as possibly matching (to not lose extensions).
+ * <p>
+ * All read headers are cached (filter instance assumed to be used only during classpath scan).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BytecodeFilter {
+    private static final String CLASS_EXTENSION = ".class";
+    private static final int PARSE_FLAGS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+    private final ClassLoader loader;
+    private final Map<String, TypeInfo> types = new HashMap<>();
+    private final Map<String, Header> annotations = new HashMap<>();
+
+    /**
+     * Create filter.
+     *
+     * @param loader class loader to read class files from
+     */
+    public BytecodeFilter(final ClassLoader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * @param className class name
+     * @param hints     installer hints
+     * @return true if class could be matched by installer (class should be loaded), false if class could not
+     * be matched for sure
+     */
+    public boolean mayMatch(final String className, final MatchHints hints) {
+        final TypeInfo info = resolve(className.replace('.', '/'));
+        if (info == null || !info.complete) {
+            // not enough information
+            return true;
+        }
+        for (Class<?> type : hints.getTypes()) {
+            if (info.supertypes.contains(Type.getInternalName(type))) {
+                return true;
+            }
+        }
+        for (Class<? extends Annotation> ann : hints.getAnnotations()) {
+            if (info.annotations.contains(Type.getInternalName(ann))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clear cached headers.
+     */
+    public void cleanup() {
+        types.clear();
+        annotations.clear();
+    }
+
+    private TypeInfo resolve(final String name) {
+        // not computeIfAbsent because of recursion
+        if (types.containsKey(name)) {
+            return types.get(name);
+        }
+        final Header header = readHeader(name);
+        final TypeInfo res = header == null ? null : buildInfo(name, header);
+        types.put(name, res);
+        return res;
+    }
+
+    private TypeInfo buildInfo(final String name, final Header header) {
+        final TypeInfo res = new TypeInfo();
+        res.supertypes.add(name);
+        for (String ann : header.annotations) {
+            res.annotations.add(ann);
+            // meta annotations (only one level)
+            if (!annotations.containsKey(ann)) {
+                annotations.put(ann, readHeader(ann));
+            }
+            final Header annHeader = annotations.get(ann);
+            if (annHeader != null) {
+                res.annotations.addAll(annHeader.annotations);
+            }
+        }
+        final List<String> parents = new ArrayList<>(header.interfaces);
+        if (header.superName != null) {
+            parents.add(header.superName);
+        }
+        for (String parent : parents) {
+            final TypeInfo info = resolve(parent);
+            if (info == null) {
+                res.complete = false;
+            } else {
+                res.complete &= info.complete;
+                res.supertypes.addAll(info.supertypes);
+                res.annotations.addAll(info.annotations);
+            }
+        }
+        return res;
+    }
+
+    private Header readHeader(final String name) {
+        try (InputStream in = loader.getResourceAsStream(name + CLASS_EXTENSION)) {
+            if (in == null) {
+                return null;
+            }
+            final ClassReader reader = new ClassReader(in);
+            final Header header = new Header(reader.getSuperName(), Arrays.asList(reader.getInterfaces()));
+            reader.accept(new ClassVisitor(Opcodes.ASM9) {
+                @Override
+                public AnnotationVisitor visitAnnotation(final String descriptor, final boolean visible) {
+                    // only runtime annotations are visible for reflection
+                    if (visible) {
+                        header.annotations.add(Type.getType(descriptor).getInternalName());
+                    }
+                    return null;
+                }
+            }, PARSE_FLAGS);
+            return header;
+        } catch (IOException | IllegalArgumentException ex) {
+            // unsupported class file version or read error
+            return null;
+        }
+    }
+
+    /**
+     * Class file header.
+     */
+    private static class Header {
+        private final String superName;
+        private final List<String> interfaces;
+        private final List<String> annotations = new ArrayList<>();
+
+        Header(final String superName, final List<String> interfaces) {
+            this.superName = superName;
+            this.interfaces = interfaces;
+        }
+    }
+
+    /**
+     * Resolved type hierarchy.
+     */
+    private static class TypeInfo {
+        // type itself with all superclasses and interfaces
+        private final Set<String> supertypes = new HashSet<>();
+        // annotations from all types in hierarchy (with meta annotations)
+        private final Set<String> annotations = new HashSet<>();
+        // false if some types in hierarchy could not be resolved
+        private boolean complete = true;
+    }
+}
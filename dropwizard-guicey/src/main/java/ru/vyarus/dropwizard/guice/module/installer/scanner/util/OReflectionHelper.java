@@ -13,6 +13,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -51,20 +54,58 @@ public final class OReflectionHelper {
      * @return classes in package
      * @throws ClassNotFoundException on error
      */
-    @SuppressFBWarnings("DCN_NULLPOINTER_EXCEPTION")
     public static List<Class<?>> getClassesFor(final String iPackageName,
                                                final ClassLoader iClassLoader,
                                                final boolean acceptProtectedClasses) throws ClassNotFoundException {
-        // This will hold a list of directories matching the pckgname.
-        // There may be more than one if a package is split over multiple jars/paths
         final List<Class<?>> classes = new ArrayList<Class<?>>();
-        final ArrayList<File> directories = new ArrayList<File>();
+        for (String className : getClassNamesFor(iPackageName, iClassLoader)) {
+            final Class<?> cls = Class.forName(className, true, iClassLoader);
+            if (isAcceptibleClass(cls, acceptProtectedClasses)) {
+                classes.add(cls);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Search for class names in package (without classes loading).
+     *
+     * @param iPackageName package
+     * @param iClassLoader class loader
+     * @return class names in package (including sub packages)
+     * @throws ClassNotFoundException on error
+     */
+    public static List<String> getClassNamesFor(final String iPackageName,
+                                                final ClassLoader iClassLoader) throws ClassNotFoundException {
+        return getClassNamesFor(iPackageName, iClassLoader, (ForkJoinPool) null);
+    }
+
+    /**
+     * Search for class names in package (without classes loading). When pool provided, package locations (jars
+     * and directories) and directory subtrees are traversed in this pool. Resulting order is the same
+     * as for sequential traversal.
+     *
+     * @param iPackageName package
+     * @param iClassLoader class loader
+     * @param pool         pool for parallel traversal or null for sequential traversal
+     * @return class names in package (including sub packages)
+     * @throws ClassNotFoundException on error
+     */
+    @SuppressFBWarnings("DCN_NULLPOINTER_EXCEPTION")
+    public static List<String> getClassNamesFor(final String iPackageName,
+                                                final ClassLoader iClassLoader,
+                                                final ForkJoinPool pool) throws ClassNotFoundException {
+        final boolean parallel = pool != null;
+        // This will hold a list of package locations (jars and directories).
+        // There may be more than one if a package is split over multiple jars/paths
+        final List<LocationScan> jars = new ArrayList<LocationScan>();
+        final List<LocationScan> directories = new ArrayList<LocationScan>();
+        final String packagePath = iPackageName.replace('.', '/');
         try {
             // Ask for all resources for the path
-            final String packageUrl = iPackageName.replace('.', '/');
-            Enumeration<URL> resources = iClassLoader.getResources(packageUrl);
+            Enumeration<URL> resources = iClassLoader.getResources(packagePath);
             if (!resources.hasMoreElements()) {
-                resources = iClassLoader.getResources(packageUrl + CLASS_EXTENSION);
+                resources = iClassLoader.getResources(packagePath + CLASS_EXTENSION);
                 if (resources.hasMoreElements()) {
                     throw new IllegalArgumentException(iPackageName + " does not appear to be a valid package but a class");
                 }
@@ -73,19 +114,13 @@ public final class OReflectionHelper {
                     final URL res = resources.nextElement();
                     if ("jar".equalsIgnoreCase(res.getProtocol())) {
                         final JarURLConnection conn = (JarURLConnection) res.openConnection();
-                        final JarFile jar = conn.getJarFile();
-                        for (JarEntry e : Collections.list(jar.entries())) {
-
-                            if (e.getName().startsWith(iPackageName.replace('.', '/')) && e.getName().endsWith(CLASS_EXTENSION)) {
-                                final String className = e.getName().replace("/", ".").substring(0, e.getName().length() - 6);
-                                final Class<?> cls = Class.forName(className, true, iClassLoader);
-                                if (isAcceptibleClass(cls, acceptProtectedClasses)) {
-                                    classes.add(cls);
-                                }
-                            }
-                        }
+                        jars.add(new JarScan(conn.getJarFile(), packagePath));
                     } else {
-                        directories.add(new File(URLDecoder.decode(res.getPath(), "UTF-8")));
+                        final File directory = new File(URLDecoder.decode(res.getPath(), "UTF-8"));
+                        if (!directory.exists()) {
+                            throw new ClassNotFoundException(iPackageName + " (" + directory.getPath() + ") does not appear to be a valid package");
+                        }
+                        directories.add(new DirectoryScan(directory, iPackageName, true, parallel));
                     }
                 }
             }
@@ -97,77 +132,111 @@ public final class OReflectionHelper {
             throw new ClassNotFoundException("IOException was thrown when trying " + "to get all resources for " + iPackageName);
         }
 
-        // For every directory identified capture all the .class files
-        for (File directory : directories) {
-            if (directory.exists()) {
-                // Get the list of the files contained in the package
-                final File[] files = directory.listFiles();
-                if (files != null) {
-                    for (File file : files) {
-                        if (file.isDirectory()) {
-                            classes.addAll(findClasses(file, iPackageName, iClassLoader, acceptProtectedClasses));
-                        } else {
-                            String className;
-                            if (file.getName().endsWith(CLASS_EXTENSION)) {
-                                className = file.getName().substring(0, file.getName().length() - CLASS_EXTENSION.length());
-                                final Class<?> cls = Class.forName(iPackageName + '.' + className, true, iClassLoader);
-                                if (isAcceptibleClass(cls, acceptProtectedClasses)) {
-                                    classes.add(cls);
-                                }
-                            }
-                        }
-                    }
-                }
-            } else {
-                throw new ClassNotFoundException(iPackageName + " (" + directory.getPath() + ") does not appear to be a valid package");
-            }
+        // jar classes go first, then all .class files from directories
+        final List<LocationScan> locations = new ArrayList<LocationScan>(jars);
+        locations.addAll(directories);
+        if (parallel) {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(locations)));
+        }
+        final List<String> classes = new ArrayList<String>();
+        for (LocationScan location : locations) {
+            classes.addAll(parallel ? location.join() : location.compute());
         }
         return classes;
     }
 
     /**
-     * Recursive method used to find all classes in a given directory and subdirs.
-     *
-     * @param iDirectory   The base directory
-     * @param iPackageName The package name for classes found inside the base directory
-     * @return The classes
-     * @throws ClassNotFoundException
+     * @param type            class to check
+     * @param acceptProtected true to accept protected and package-private classes
+     * @return true if class could be used as extension, false otherwise
      */
-    private static List<Class<?>> findClasses(final File iDirectory, String iPackageName,
-                                              ClassLoader iClassLoader,
-                                              boolean acceptProtected) throws ClassNotFoundException {
-        final List<Class<?>> classes = new ArrayList<Class<?>>();
-        if (!iDirectory.exists()) {
+    public static boolean isAcceptibleClass(final Class type, final boolean acceptProtected) {
+        // only public non-anonymous classes allowed
+        return Modifier.isPublic(type.getModifiers()) || (acceptProtected &&
+                // package private or protected
+                (type.getModifiers() == 0 || Modifier.isProtected(type.getModifiers())));
+    }
+
+    /**
+     * Package location scan task.
+     */
+    private abstract static class LocationScan extends RecursiveTask<List<String>> {
+        @Override
+        protected abstract List<String> compute();
+    }
+
+    /**
+     * Jar entries scan.
+     */
+    private static class JarScan extends LocationScan {
+        private final JarFile jar;
+        private final String packagePath;
+
+        JarScan(final JarFile jar, final String packagePath) {
+            this.jar = jar;
+            this.packagePath = packagePath;
+        }
+
+        @Override
+        protected List<String> compute() {
+            final List<String> classes = new ArrayList<String>();
+            for (JarEntry e : Collections.list(jar.entries())) {
+                if (e.getName().startsWith(packagePath) && e.getName().endsWith(CLASS_EXTENSION)) {
+                    classes.add(e.getName().replace("/", ".").substring(0, e.getName().length() - 6));
+                }
+            }
             return classes;
         }
+    }
 
-        iPackageName += "." + iDirectory.getName();
+    /**
+     * Recursive directory scan. In parallel mode, sub directories are scanned with forked tasks.
+     */
+    private static class DirectoryScan extends LocationScan {
+        private final File directory;
+        private final String packageName;
+        private final boolean root;
+        private final boolean parallel;
+
+        DirectoryScan(final File directory, final String packageName, final boolean root, final boolean parallel) {
+            this.directory = directory;
+            this.packageName = packageName;
+            this.root = root;
+            this.parallel = parallel;
+        }
 
-        String className;
-        final File[] files = iDirectory.listFiles();
-        if (files != null) {
+        @Override
+        protected List<String> compute() {
+            final List<String> classes = new ArrayList<String>();
+            final File[] files = directory.listFiles();
+            if (files == null) {
+                return classes;
+            }
+            // class names and sub directory tasks in traversal order
+            final List<Object> parts = new ArrayList<Object>();
             for (File file : files) {
                 if (file.isDirectory()) {
-                    if (file.getName().contains(".")) {
+                    // root directory children are not checked (as in original implementation)
+                    if (!root && file.getName().contains(".")) {
                         continue;
                     }
-                    classes.addAll(findClasses(file, iPackageName, iClassLoader, acceptProtected));
+                    final DirectoryScan task = new DirectoryScan(file, packageName + '.' + file.getName(), false,
+                            parallel);
+                    parts.add(parallel ? task.fork() : task);
                 } else if (file.getName().endsWith(CLASS_EXTENSION)) {
-                    className = file.getName().substring(0, file.getName().length() - CLASS_EXTENSION.length());
-                    final Class<?> cls = Class.forName(iPackageName + '.' + className, true, iClassLoader);
-                    if (isAcceptibleClass(cls, acceptProtected)) {
-                        classes.add(cls);
-                    }
+                    final String className = file.getName().substring(0, file.getName().length() - CLASS_EXTENSION.length());
+                    parts.add(packageName + '.' + className);
+                }
+            }
+            for (Object part : parts) {
+                if (part instanceof DirectoryScan) {
+                    final DirectoryScan task = (DirectoryScan) part;
+                    classes.addAll(parallel ? task.join() : task.compute());
+                } else {
+                    classes.add((String) part);
                 }
             }
+            return classes;
         }
-        return classes;
-    }
-
-    private static boolean isAcceptibleClass(final Class type, final boolean acceptProtected) {
-        // only public non-anonymous classes allowed
-        return Modifier.isPublic(type.getModifiers()) || (acceptProtected &&
-                // package private or protected
-                (type.getModifiers() == 0 || Modifier.isProtected(type.getModifiers())));
     }
 }
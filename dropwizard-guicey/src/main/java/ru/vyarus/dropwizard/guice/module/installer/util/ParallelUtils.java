@@ -0,0 +1,167 @@
+package ru.vyarus.dropwizard.guice.module.installer.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Utilities for parallel processing of objects with dependencies (e.g. parallel managed objects start).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class ParallelUtils {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelUtils.class);
+
+    private ParallelUtils() {
+    }
+
+    /**
+     * Execute action for all objects on bounded thread pool, respecting execution order: action for object
+     * is called only after action completion for all its dependencies. Dependencies must not contain cycles
+     * (see {@link #checkCycles(Map, Function, String)}).
+     *
+     * @param order        object - objects to process before it (map order used as scheduling order)
+     * @param action       action
+     * @param threads      threads count
+     * @param threadName   threads name format (e.g. "name-%d")
+     * @param ignoreErrors true to execute action for all objects, even if action failed for some dependency
+     * @param <T>          object type
+     * @throws Exception first action error (other errors logged)
+     */
+    @SuppressWarnings({"PMD.SignatureDeclareThrowsException", "PMD.PreserveStackTrace"})
+    public static <T> void execute(final Map<T, Set<T>> order,
+                                   final Action<T> action,
+                                   final int threads,
+                                   final String threadName,
+                                   final boolean ignoreErrors) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat(threadName).setDaemon(true).build());
+        try {
+            final Map<T, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+            final Function<T, CompletableFuture<Void>> schedule = new Function<>() {
+                @Override
+                public CompletableFuture<Void> apply(final T object) {
+                    CompletableFuture<Void> res = futures.get(object);
+                    if (res == null) {
+                        final CompletableFuture<?>[] deps = order.get(object).stream()
+                                .map(this).toArray(CompletableFuture[]::new);
+                        CompletableFuture<Void> wait = CompletableFuture.allOf(deps);
+                        if (ignoreErrors) {
+                            wait = wait.exceptionally(ex -> null);
+                        }
+                        res = wait.thenRunAsync(() -> {
+                            try {
+                                action.run(object);
+                            } catch (Exception ex) {
+                                throw new CompletionException(ex);
+                            }
+                        }, executor);
+                        futures.put(object, res);
+                    }
+                    return res;
+                }
+            };
+            order.keySet().forEach(schedule::apply);
+            Exception error = null;
+            // dependencies always registered before dependent objects, so first error is the root error
+            for (Map.Entry<T, CompletableFuture<Void>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().join();
+                } catch (CompletionException ex) {
+                    final Throwable cause = ex.getCause();
+                    if (error == null) {
+                        error = cause instanceof Exception ? (Exception) cause : new IllegalStateException(cause);
+                    } else if (cause != error) {
+                        LOGGER.error("Parallel action failed for {}", entry.getKey(), cause);
+                    }
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Validates dependencies for cycles.
+     *
+     * @param dependencies object - object dependencies
+     * @param naming       object name function (for error message)
+     * @param message      error message prefix
+     * @param <T>          object type
+     * @throws IllegalStateException if cycle detected
+     */
+    public static <T> void checkCycles(final Map<T, Set<T>> dependencies,
+                                       final Function<T, String> naming,
+                                       final String message) {
+        final Set<T> checked = new HashSet<>();
+        for (T object : dependencies.keySet()) {
+            checkCycle(object, dependencies, new LinkedHashSet<>(), checked, naming, message);
+        }
+    }
+
+    /**
+     * Reverse dependencies (e.g. to stop objects in reverse order).
+     *
+     * @param dependencies object - object dependencies
+     * @param <T>          object type
+     * @return object - dependent objects
+     */
+    public static <T> Map<T, Set<T>> reverse(final Map<T, Set<T>> dependencies) {
+        final Map<T, Set<T>> res = new LinkedHashMap<>();
+        dependencies.keySet().forEach(object -> res.put(object, new LinkedHashSet<>()));
+        dependencies.forEach((object, deps) -> deps.forEach(dep -> res.get(dep).add(object)));
+        return res;
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private static <T> void checkCycle(final T object,
+                                       final Map<T, Set<T>> dependencies,
+                                       final Set<T> path,
+                                       final Set<T> checked,
+                                       final Function<T, String> naming,
+                                       final String message) {
+        if (!path.add(object)) {
+            final StringBuilder msg = new StringBuilder();
+            path.forEach(item -> msg.append(naming.apply(item)).append(" -> "));
+            throw new IllegalStateException(message + ": " + msg + naming.apply(object));
+        }
+        if (checked.add(object)) {
+            for (T dep : dependencies.get(object)) {
+                checkCycle(dep, dependencies, path, checked, naming, message);
+            }
+        }
+        path.remove(object);
+    }
+
+    /**
+     * Object action.
+     *
+     * @param <T> object type
+     */
+    @FunctionalInterface
+    public interface Action<T> {
+
+        /**
+         * @param object object
+         * @throws Exception on error
+         */
+        @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+        void run(T object) throws Exception;
+    }
+}
@@ -1,13 +1,27 @@
 package ru.vyarus.dropwizard.guice.module.jersey.support;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.inject.Binding;
 import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
+import ru.vyarus.dropwizard.guice.module.context.option.Options;
 
 import java.util.function.Supplier;
 
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.JerseyComponentsProvisionTimer;
+
 /**
  * Factory simply delegates object resolution to guice context. This allows to respect scopes.
  * But, more importantly, such "bridge" allows to bind guice type lazily.
+ * <p>
+ * Guice provider is resolved on first call and cached, so each (e.g. per-request) instance creation is a
+ * single provider call (without injector key lookup). When
+ * {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#JerseyComponentsProvisionTimer} enabled,
+ * provision time is measured with {@code <type>.provision} timer.
  *
  * @param <T> injection type
  */
@@ -15,6 +29,8 @@ public class GuiceComponentFactory<T> implements Supplier<T> {
 
     private final Injector injector;
     private final Class<T> type;
+    private volatile Provider<T> provider;
+    private Timer timer;
 
     /**
      * Create factory.
@@ -29,11 +45,47 @@ public class GuiceComponentFactory<T> implements Supplier<T> {
 
     @Override
     public T get() {
-        return injector.getInstance(type);
+        Provider<T> target = provider;
+        if (target == null) {
+            target = init();
+        }
+        if (timer == null) {
+            return target.get();
+        }
+        try (Timer.Context ignored = timer.time()) {
+            return target.get();
+        }
     }
 
     @Override
     public String toString() {
         return "GuiceComponentFactory for " + RenderUtils.getClassName(type);
     }
+
+    /**
+     * Resolve provision timer for jersey component (if timers enabled).
+     *
+     * @param injector injector
+     * @param type     component type
+     * @param name     timer name (within component type)
+     * @return provision timer or null if timers disabled
+     */
+    static Timer provisionTimer(final Injector injector, final Class<?> type, final String name) {
+        final Binding<Options> options = injector.getExistingBinding(Key.get(Options.class));
+        if (options == null) {
+            return null;
+        }
+        final Boolean enabled = options.getProvider().get().get(JerseyComponentsProvisionTimer);
+        return enabled
+                ? injector.getInstance(Environment.class).metrics().timer(MetricRegistry.name(type, name))
+                : null;
+    }
+
+    private synchronized Provider<T> init() {
+        if (provider == null) {
+            timer = provisionTimer(injector, type, "provision");
+            provider = injector.getProvider(type);
+        }
+        return provider;
+    }
 }
@@ -1,6 +1,8 @@
 package ru.vyarus.dropwizard.guice.module.jersey.support;
 
+import com.codahale.metrics.Timer;
 import com.google.inject.Injector;
+import com.google.inject.Provider;
 import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 
 import java.util.function.Supplier;
@@ -10,6 +12,10 @@ import java.util.function.Supplier;
  * For example, if HK2 context is just starting and referenced guice bean depends on some HK2 bean,
  * we can't instantiate guice bean. This moves guice bean creation into HK2 init phase (when HK2 pre-init some
  * factories) or even further (first usage).
+ * <p>
+ * Guice provider of the real factory is resolved on first call and cached (see {@link GuiceComponentFactory}).
+ * When provision timers enabled, time of instance creation (with factory) is measured with
+ * {@code <factory type>.supply} timer.
  *
  * @param <T> injection type
  */
@@ -17,6 +23,8 @@ public class LazyGuiceFactory<T> implements Supplier<T> {
 
     private final Injector injector;
     private final Class<Supplier<T>> type;
+    private volatile Provider<Supplier<T>> provider;
+    private Timer timer;
 
     /**
      * Create factory.
@@ -31,11 +39,28 @@ public class LazyGuiceFactory<T> implements Supplier<T> {
 
     @Override
     public T get() {
-        return injector.getInstance(type).get();
+        Provider<Supplier<T>> target = provider;
+        if (target == null) {
+            target = init();
+        }
+        if (timer == null) {
+            return target.get().get();
+        }
+        try (Timer.Context ignored = timer.time()) {
+            return target.get().get();
+        }
     }
 
     @Override
     public String toString() {
         return "LazyGuiceFactory for " + RenderUtils.getClassName(type);
     }
+
+    private synchronized Provider<Supplier<T>> init() {
+        if (provider == null) {
+            timer = GuiceComponentFactory.provisionTimer(injector, type, "supply");
+            provider = injector.getProvider(type);
+        }
+        return provider;
+    }
 }
@@ -0,0 +1,306 @@
+package ru.vyarus.dropwizard.guice.module.yaml;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.google.inject.BindingAnnotation;
+import jakarta.inject.Qualifier;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Process-wide cache of configuration types introspection metadata (jackson properties with resolved accessors,
+ * declared types and qualifiers). Used by {@link ConfigTreeBuilder} to avoid repeated jackson introspection for the
+ * same configuration types (most important for tests, where application could be started many times in the same
+ * JVM). With cache, only configuration values are read on each configuration tree building.
+ * <p>
+ * Cache is weakly keyed by class ({@link ClassValue}), so cached metadata does not prevent class unloading. As
+ * jackson introspection depends on mapper configuration, metadata is additionally keyed by the main mapper
+ * settings, affecting properties resolution (naming strategy, annotation introspector, visibility, mapper and
+ * serialization features). Mixins could not be reliably described with a key (mixin mappings are not exposed by
+ * mapper configuration), so cache is not used at all for mappers with registered mixins.
+ * <p>
+ * Internal api.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+final class ConfigIntrospectionCache {
+
+    private static final ClassValue<Map<String, TypeInfo>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, TypeInfo> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ConfigIntrospectionCache() {
+    }
+
+    /**
+     * @param config jackson serialization config
+     * @return cache key for mapper configuration or null if cache can't be used (mapper with mixins)
+     */
+    static String configKey(final SerializationConfig config) {
+        if (config.mixInCount() > 0) {
+            return null;
+        }
+        final PropertyNamingStrategy naming = config.getPropertyNamingStrategy();
+        final StringBuilder features = new StringBuilder();
+        for (MapperFeature feature : MapperFeature.values()) {
+            features.append(config.isEnabled(feature) ? '1' : '0');
+        }
+        return String.join(":",
+                naming == null ? "" : naming.getClass().getName(),
+                config.getAnnotationIntrospector().getClass().getName(),
+                features,
+                String.valueOf(config.getSerializationFeatures()),
+                String.valueOf(config.getDefaultVisibilityChecker()));
+    }
+
+    /**
+     * @param type configuration type
+     * @param key  mapper configuration key (null if cache not used)
+     * @return cached type metadata or null if type was not introspected yet
+     */
+    static TypeInfo lookup(final Class<?> type, final String key) {
+        return key == null ? null : CACHE.get(type).get(key);
+    }
+
+    /**
+     * Introspect type with jackson and store metadata into cache (if key provided).
+     *
+     * @param config jackson serialization config
+     * @param type   configuration type
+     * @param key    mapper configuration key (null if cache not used)
+     * @return type metadata
+     */
+    static TypeInfo introspect(final SerializationConfig config, final Class<?> type, final String key) {
+        final long start = System.nanoTime();
+        final BeanDescription description = config.introspect(config.constructType(type));
+        final List<PropertyInfo> props = new ArrayList<>();
+        // type-dependent generics could be cached only for not generic types (context fully defined by type)
+        final boolean resolutionCacheable = type.getTypeParameters().length == 0;
+        for (BeanPropertyDefinition prop : description.findProperties()) {
+            // ignore write-only or groovy special property
+            if (!prop.couldSerialize() || "metaClass".equals(prop.getName())) {
+                continue;
+            }
+            props.add(new PropertyInfo(prop, resolutionCacheable));
+        }
+        final TypeInfo res = new TypeInfo(Collections.unmodifiableList(props), System.nanoTime() - start);
+        if (key == null) {
+            return res;
+        }
+        final TypeInfo prev = CACHE.get(type).putIfAbsent(key, res);
+        return prev != null ? prev : res;
+    }
+
+    /**
+     * Cached type metadata.
+     */
+    static final class TypeInfo {
+        private final List<PropertyInfo> properties;
+        private final long introspectionTime;
+
+        private TypeInfo(final List<PropertyInfo> properties, final long introspectionTime) {
+            this.properties = properties;
+            this.introspectionTime = introspectionTime;
+        }
+
+        /**
+         * @return serializable type properties
+         */
+        List<PropertyInfo> getProperties() {
+            return properties;
+        }
+
+        /**
+         * @return initial introspection time (nanoseconds)
+         */
+        long getIntrospectionTime() {
+            return introspectionTime;
+        }
+    }
+
+    /**
+     * Cached property metadata.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    static final class PropertyInfo {
+        private final String name;
+        private final Method getter;
+        private final Field field;
+        private final AccessibleObject accessor;
+        private final Class<?> declaringClass;
+        private final Type type;
+        private final Annotation qualifier;
+        private final boolean resolutionCacheable;
+        private volatile Class<?> resolvedClass;
+        private final Map<Class<?>, List<Type>> lowerGenerics = new ConcurrentHashMap<>();
+
+        private PropertyInfo(final BeanPropertyDefinition prop, final boolean resolutionCacheable) {
+            this.name = prop.getName();
+            this.getter = prop.getGetter() != null ? prop.getGetter().getAnnotated() : null;
+            this.field = prop.getField() != null ? prop.getField().getAnnotated() : null;
+            final AnnotatedMember member = prop.getAccessor();
+            this.declaringClass = member.getDeclaringClass();
+            // need generified type to resolve generics manually because jackson's generics resolution
+            // couldn't handle all required cases
+            this.type = getter != null ? getter.getGenericReturnType() : field.getGenericType();
+            this.accessor = copyAccessor((AccessibleObject) member.getMember());
+            this.qualifier = findQualifier(prop);
+            this.resolutionCacheable = resolutionCacheable;
+        }
+
+        /**
+         * @return property name
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * @return property getter or null
+         */
+        Method getGetter() {
+            return getter;
+        }
+
+        /**
+         * @return property field or null
+         */
+        Field getField() {
+            return field;
+        }
+
+        /**
+         * @return class declaring property accessor
+         */
+        Class<?> getDeclaringClass() {
+            return declaringClass;
+        }
+
+        /**
+         * @return declared property type (with generics)
+         */
+        Type getType() {
+            return type;
+        }
+
+        /**
+         * @return qualifier annotation or null
+         */
+        Annotation getQualifier() {
+            return qualifier;
+        }
+
+        /**
+         * @param resolver resolver function (generics context)
+         * @return resolved property class
+         */
+        Class<?> resolveClass(final Function<Type, Class<?>> resolver) {
+            if (!resolutionCacheable) {
+                return resolver.apply(type);
+            }
+            Class<?> res = resolvedClass;
+            if (res == null) {
+                res = resolver.apply(type);
+                resolvedClass = res;
+            }
+            return res;
+        }
+
+        /**
+         * @param lowerType selected property type
+         * @param resolver  resolver function (generics context)
+         * @return resolved lower type generics
+         */
+        List<Type> resolveLowerGenerics(final Class<?> lowerType, final Function<Class<?>, List<Type>> resolver) {
+            return resolutionCacheable ? lowerGenerics.computeIfAbsent(lowerType, resolver) : resolver.apply(lowerType);
+        }
+
+        /**
+         * @param object object to read property from (may be null)
+         * @return property value
+         * @throws Exception on property read error
+         */
+        @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+        Object readValue(final Object object) throws Exception {
+            if (object == null) {
+                return null;
+            }
+            try {
+                return accessor instanceof Method
+                        ? ((Method) accessor).invoke(object)
+                        : ((Field) accessor).get(object);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+            }
+        }
+
+        /**
+         * Jackson members are shared, so private accessor is copied in order to change accessibility (once).
+         *
+         * @param member jackson accessor member
+         * @return accessor to use for value reading
+         */
+        private static AccessibleObject copyAccessor(final AccessibleObject member) {
+            AccessibleObject res = member;
+            try {
+                if (member instanceof Method) {
+                    final Method method = (Method) member;
+                    res = method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+                } else {
+                    final Field fld = (Field) member;
+                    res = fld.getDeclaringClass().getDeclaredField(fld.getName());
+                }
+                // if access could not be granted, value read will fail with access error (and warning logged)
+                res.trySetAccessible();
+            } catch (NoSuchMethodException | NoSuchFieldException | SecurityException ignored) {
+                // use member as is
+            }
+            return res;
+        }
+
+        private static Annotation findQualifier(final BeanPropertyDefinition prop) {
+            // field in priority
+            Annotation ann = null;
+            if (prop.getField() != null) {
+                ann = findQualifierAnnotation(prop.getField().getAllAnnotations().annotations());
+            }
+            // check getter
+            if (ann == null && prop.getGetter() != null) {
+                ann = findQualifierAnnotation(prop.getGetter().getAllAnnotations().annotations());
+            }
+
+            return ann;
+        }
+
+        private static Annotation findQualifierAnnotation(final Iterable<Annotation> anns) {
+            for (Annotation ann : anns) {
+                for (Annotation marker : ann.annotationType().getAnnotations()) {
+                    final Class<? extends Annotation> type = marker.annotationType();
+                    if (type.equals(Qualifier.class) || type.equals(BindingAnnotation.class)) {
+                        return ann;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
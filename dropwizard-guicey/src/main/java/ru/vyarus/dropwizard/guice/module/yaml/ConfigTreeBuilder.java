@@ -1,27 +1,23 @@
 package ru.vyarus.dropwizard.guice.module.yaml;
 
-import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.SerializationConfig;
-import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
-import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.primitives.Primitives;
-import com.google.inject.BindingAnnotation;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Duration;
-import jakarta.inject.Qualifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigIntrospectionCache.PropertyInfo;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigIntrospectionCache.TypeInfo;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 import ru.vyarus.java.generics.resolver.context.GenericsContext;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,6 +27,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ConfigIntrospectionCacheHits;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ConfigIntrospectionSavedTime;
+
 /**
  * Analyzes configuration instance, prepared by dropwizard, in order to be able to use configuration
  * values directly (e.g. by path).
@@ -51,6 +50,11 @@ import java.util.Set;
  * Common collection types are projected to base interfaces. E.g. even if property declaration would be
  * {@code ArrayList<String>}, binding declaration would be {@code List<String>} (but value type will remain
  * {@code ArrayList<String>} even if no value available).
+ * <p>
+ * Types introspection metadata is cached (process-wide) so repeated builds (e.g. in tests) only read values
+ * (see {@link ConfigIntrospectionCache}). Introspection depth and paths count could be limited for huge
+ * configurations (see {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ConfigIntrospectionMaxDepth} and
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ConfigIntrospectionMaxPaths}).
  *
  * @author Vyacheslav Rusakov
  * @since 04.05.2018
@@ -107,15 +111,46 @@ public final class ConfigTreeBuilder {
     public static ConfigurationTree build(final Bootstrap bootstrap,
                                           final Configuration configuration,
                                           final boolean introspect) {
+        return build(bootstrap, configuration, introspect, 0, 0, null);
+    }
+
+    /**
+     * Analyze configuration object to extract bindable parts.
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param introspect    true to introspect configuration object and extract values by path and unique
+     *                      sub configurations
+     * @param maxDepth      maximum introspection depth (0 for no limit)
+     * @param maxPaths      maximum introspected paths count (0 for no limit)
+     * @param tracker       stats tracker (may be null)
+     * @return parsed configuration info
+     */
+    public static ConfigurationTree build(final Bootstrap bootstrap,
+                                          final Configuration configuration,
+                                          final boolean introspect,
+                                          final int maxDepth,
+                                          final int maxPaths,
+                                          final StatsTracker tracker) {
         final List<Class> roots = resolveRootTypes(new ArrayList<>(), configuration.getClass());
         if (introspect) {
+            final SerializationConfig config = bootstrap.getObjectMapper().getSerializationConfig();
+            final IntrospectionState state = new IntrospectionState(config, maxDepth, maxPaths);
             final List<ConfigPath> content = resolvePaths(
-                    bootstrap.getObjectMapper().getSerializationConfig(),
+                    state,
                     null,
                     new ArrayList<>(),
                     configuration.getClass(),
                     configuration,
                     GenericsResolver.resolve(configuration.getClass()));
+            if (state.limitReached) {
+                LOGGER.info("Configuration introspection was limited (max depth {}, max paths {}): {} paths "
+                        + "introspected", maxDepth, maxPaths, content.size());
+            }
+            if (tracker != null && state.cacheHits > 0) {
+                tracker.count(ConfigIntrospectionCacheHits, state.cacheHits);
+                tracker.time(ConfigIntrospectionSavedTime, java.time.Duration.ofNanos(state.savedTime));
+            }
             final List<ConfigPath> uniqueContent = resolveUniqueTypePaths(content);
             return new ConfigurationTree(roots, content, uniqueContent);
         } else {
@@ -155,33 +190,30 @@ public final class ConfigTreeBuilder {
      * Still, bindings may vary: for example, bound implementations may differ (best example is dropwizard server type),
      * as a consequences, parsed type may be different and so different properties paths could be recognized.
      *
-     * @param config  jackson serialization config
+     * @param state   introspection state
      * @param content currently parsed paths
      * @param type    analyzed part type
      * @param object  analyzed part instance (may be null)
      * @return all configuration paths values
      */
-    @SuppressWarnings("checkstyle:CyclomaticComplexity")
-    private static List<ConfigPath> resolvePaths(final SerializationConfig config,
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.CognitiveComplexity"})
+    private static List<ConfigPath> resolvePaths(final IntrospectionState state,
                                                  final ConfigPath root,
                                                  final List<ConfigPath> content,
                                                  final Class type,
                                                  final Object object,
                                                  final GenericsContext genericsContext) {
-        final BeanDescription description = config.introspect(
-                config.constructType(type)
-        );
-
-        for (BeanPropertyDefinition prop : description.findProperties()) {
-            // ignore write-only or groovy special property
-            if (!prop.couldSerialize() || "metaClass".equals(prop.getName())) {
-                continue;
+        final int depth = root == null ? 1 : depth(root) + 1;
+        for (PropertyInfo prop : state.introspect(type).getProperties()) {
+            if (state.maxPaths > 0 && content.size() >= state.maxPaths) {
+                state.limitReached = true;
+                break;
             }
             final Object value;
             // if configuration doesn't expect serialization and throws error on access
             // (like netflix dynamic properties) it should not break app startup
             try {
-                value = readValue(prop.getAccessor(), object);
+                value = prop.readValue(object);
             } catch (Exception ex) {
                 LOGGER.warn("Can't bind configuration path '{}' due to {}: {}. Enable debug logs to see "
                                 + "complete stack trace or use @JsonIgnore on property getter.",
@@ -197,12 +229,16 @@ public final class ConfigTreeBuilder {
             }
 
             if (item.isCustomType() && !detectRecursion(item)) {
+                if (state.maxDepth > 0 && depth >= state.maxDepth) {
+                    state.limitReached = true;
+                    continue;
+                }
                 // build generics context for actual value type (if not null)
                 final GenericsContext subContext = prop.getGetter() != null
-                        ? genericsContext.method(prop.getGetter().getAnnotated()).returnTypeAs(item.getValueType())
-                        : genericsContext.fieldTypeAs(prop.getField().getAnnotated(), item.getValueType());
+                        ? genericsContext.method(prop.getGetter()).returnTypeAs(item.getValueType())
+                        : genericsContext.fieldTypeAs(prop.getField(), item.getValueType());
 
-                resolvePaths(config, item, content, item.getValueType(),
+                resolvePaths(state, item, content, item.getValueType(),
                         item.getValue(), subContext);
             }
         }
@@ -253,21 +289,17 @@ public final class ConfigTreeBuilder {
      * </ul>
      *
      * @param root            root property (containing), may be null for roots
-     * @param prop            jackson property descriptor
+     * @param prop            cached property descriptor
      * @param value           property value, may be null
      * @param genericsContext generics context
      * @return path item object
      */
     private static ConfigPath createItem(final ConfigPath root,
-                                         final BeanPropertyDefinition prop,
+                                         final PropertyInfo prop,
                                          final Object value,
                                          final GenericsContext genericsContext) {
-        // need generified type to resolve generics manually because jackson's generics resolution
-        // couldn't handle all required cases
-        final Type type = prop.getGetter() != null
-                ? prop.getGetter().getAnnotated().getGenericReturnType()
-                : prop.getField().getAnnotated().getGenericType();
-        final Class typeClass = Primitives.wrap(genericsContext.resolveClass(type));
+        final Type type = prop.getType();
+        final Class typeClass = Primitives.wrap(prop.resolveClass(genericsContext::resolveClass));
 
         // upper possible known type (for introspection): ideally type of actually used configuration value
         // note that even when value is null upper type could be different from lower type due to collection projection
@@ -277,14 +309,16 @@ public final class ConfigTreeBuilder {
         final boolean objectDeclared = Object.class.equals(typeClass);
         final Class lowerType = correctValueType(objectDeclared ? upperType : typeClass, customType);
 
-        final List<Type> lowerGenerics =
-                resolveLowerGenerics(genericsContext, type, typeClass, objectDeclared, lowerType);
+        final List<Type> lowerGenerics = objectDeclared
+                ? resolveLowerGenerics(genericsContext, type, typeClass, true, lowerType)
+                : prop.resolveLowerGenerics(lowerType, lower ->
+                resolveLowerGenerics(genericsContext, type, typeClass, false, lower));
         final List<Type> upperGenerics = lowerType.equals(upperType) ? lowerGenerics
                 : resolveUpperGenerics(genericsContext, type, objectDeclared, upperType);
 
         return new ConfigPath(
                 root,
-                prop.getAccessor().getDeclaringClass(),
+                prop.getDeclaringClass(),
                 lowerType,
                 // as an example, enum constant type could lead to anonymous class
                 upperType.isAnonymousClass() ? lowerType : upperType,
@@ -294,7 +328,7 @@ public final class ConfigTreeBuilder {
                 value,
                 customType,
                 objectDeclared,
-                findQualifier(prop));
+                prop.getQualifier());
     }
 
     /**
@@ -458,54 +492,48 @@ public final class ConfigTreeBuilder {
         return res;
     }
 
-    private static Object readValue(final AnnotatedMember member, final Object object) {
-        if (object == null) {
-            return null;
-        }
-        final Object res;
-        final AccessibleObject accessor = (AccessibleObject) member.getMember();
-        // case: private field
-        if (!accessor.canAccess(object)) {
-            accessor.setAccessible(true);
-            try {
-                res = member.getValue(object);
-            } finally {
-                accessor.setAccessible(false);
-            }
-        } else {
-            // public access (most likely getter)
-            res = member.getValue(object);
-        }
-        return res;
-    }
-
-    private static String fullPath(final ConfigPath root, final BeanPropertyDefinition prop) {
+    private static String fullPath(final ConfigPath root, final PropertyInfo prop) {
         return (root == null ? "" : root.getPath() + ".") + prop.getName();
     }
 
-    private static Annotation findQualifier(final BeanPropertyDefinition prop) {
-        // field in priority
-        Annotation ann = null;
-        if (prop.getField() != null) {
-            ann = findQualifierAnnotation(prop.getField().getAllAnnotations().annotations());
-        }
-        // check getter
-        if (ann == null && prop.getGetter() != null) {
-            ann = findQualifierAnnotation(prop.getGetter().getAllAnnotations().annotations());
+    private static int depth(final ConfigPath item) {
+        int res = 1;
+        ConfigPath current = item;
+        while (current.getRoot() != null) {
+            current = current.getRoot();
+            res++;
         }
-
-        return ann;
+        return res;
     }
 
-    private static Annotation findQualifierAnnotation(final Iterable<Annotation> anns) {
-        for (Annotation ann : anns) {
-            for (Annotation marker : ann.annotationType().getAnnotations()) {
-                final Class<? extends Annotation> type = marker.annotationType();
-                if (type.equals(Qualifier.class) || type.equals(BindingAnnotation.class)) {
-                    return ann;
-                }
+    /**
+     * Introspection state (single tree building).
+     */
+    private static class IntrospectionState {
+        private final SerializationConfig config;
+        private final String configKey;
+        private final int maxDepth;
+        private final int maxPaths;
+        private boolean limitReached;
+        private int cacheHits;
+        private long savedTime;
+
+        IntrospectionState(final SerializationConfig config, final int maxDepth, final int maxPaths) {
+            this.config = config;
+            this.configKey = ConfigIntrospectionCache.configKey(config);
+            this.maxDepth = maxDepth;
+            this.maxPaths = maxPaths;
+        }
+
+        TypeInfo introspect(final Class<?> type) {
+            TypeInfo res = ConfigIntrospectionCache.lookup(type, configKey);
+            if (res == null) {
+                res = ConfigIntrospectionCache.introspect(config, type, configKey);
+            } else {
+                cacheHits++;
+                savedTime += res.getIntrospectionTime();
             }
+            return res;
         }
-        return null;
     }
 }
@@ -35,6 +35,9 @@ import java.util.stream.Collectors;
  * Qualifier annotation is an annotation annotated with {@link com.google.inject.BindingAnnotation}
  * (e.g. {@link com.google.inject.name.Named}) or {@link jakarta.inject.Qualifier}
  * (e.g. {@link jakarta.inject.Named}).
+ * <p>
+ * Tree is immutable: search indexes (by path, qualifier annotation, type and declaration class) are built
+ * on tree creation and so search methods could be used without limitations (e.g. at runtime).
  *
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigBindingModule
@@ -52,6 +55,21 @@ public class ConfigurationTree {
     // unique custom types from paths (could be bound by type - no duplicates)
     private final List<ConfigPath> uniqueTypePaths;
 
+    // search indexes (all lists preserve paths order)
+    // lower-cased path -> path
+    private final Map<String, ConfigPath> pathIndex = new HashMap<>();
+    // qualifier annotation -> paths
+    private final Map<Annotation, List<ConfigPath>> qualifierIndex = new HashMap<>();
+    // qualifier annotation type -> paths
+    private final Map<Class<? extends Annotation>, List<ConfigPath>> qualifierTypeIndex = new HashMap<>();
+    // custom type (with all supertypes and interfaces) -> paths
+    private final Map<Class<?>, List<ConfigPath>> typeIndex = new HashMap<>();
+    // declaration type -> unique type path
+    private final Map<Class<?>, ConfigPath> uniqueTypeIndex = new HashMap<>();
+    // root declaration class -> paths
+    private final Map<Class<?>, List<ConfigPath>> rootDeclarationIndex = new HashMap<>();
+    private final List<ConfigPath> rootPaths = new ArrayList<>();
+
     /**
      * Create a configuration tree.
      *
@@ -76,6 +94,7 @@ public class ConfigurationTree {
         this.uniqueTypePaths = uniqueTypePaths;
         // sort by configuration class and path name for predictable order
         sortContent();
+        buildIndexes();
     }
 
     /**
@@ -125,10 +144,7 @@ public class ConfigurationTree {
      * @return path descriptor or null if not found
      */
     public ConfigPath findByPath(final String path) {
-        return paths.stream()
-                .filter(it -> it.getPath().equalsIgnoreCase(path))
-                .findFirst()
-                .orElse(null);
+        return pathIndex.get(path.toLowerCase(Locale.ENGLISH));
     }
 
     /**
@@ -143,9 +159,7 @@ public class ConfigurationTree {
      * @return list of annotated (on field or getter) configuration paths
      */
     public List<ConfigPath> findAllByAnnotation(final Annotation annotation) {
-        return paths.stream()
-                .filter(path -> path.getQualifier() != null && annotation.equals(path.getQualifier()))
-                .collect(Collectors.toList());
+        return copy(qualifierIndex.get(annotation));
     }
 
     /**
@@ -157,10 +171,7 @@ public class ConfigurationTree {
      * @return list of annotated (on field or getter) configuration paths
      */
     public List<ConfigPath> findAllByAnnotation(final Class<? extends Annotation> qualifierType) {
-        return paths.stream()
-                .filter(path -> path.getQualifier() != null
-                        && qualifierType.equals(path.getQualifier().annotationType()))
-                .collect(Collectors.toList());
+        return copy(qualifierTypeIndex.get(qualifierType));
     }
 
     /**
@@ -219,10 +230,8 @@ public class ConfigurationTree {
      * @return all paths with the same or sub type for specified type or empty list
      */
     public List<ConfigPath> findAllByType(final Class<?> type) {
-        return paths.stream()
-                // do not allow search for all booleans or integers (completely meaningless)
-                .filter(it -> it.isCustomType() && type.isAssignableFrom(it.getDeclaredType()))
-                .collect(Collectors.toList());
+        // only custom types indexed: do not allow search for all booleans or integers (completely meaningless)
+        return copy(typeIndex.get(type));
     }
 
     /**
@@ -238,9 +247,7 @@ public class ConfigurationTree {
      * @return all properties declared in (originated in for sub object paths) required configuration class.
      */
     public List<ConfigPath> findAllFrom(final Class<? extends Configuration> confType) {
-        return paths.stream()
-                .filter(it -> it.getRootDeclarationClass() == confType)
-                .collect(Collectors.toList());
+        return copy(rootDeclarationIndex.get(confType));
     }
 
     /**
@@ -250,9 +257,7 @@ public class ConfigurationTree {
      * @see #findAllRootPathsFrom(Class)
      */
     public List<ConfigPath> findAllRootPaths() {
-        return paths.stream()
-                .filter(it -> !it.getPath().contains(DOT))
-                .collect(Collectors.toList());
+        return new ArrayList<>(rootPaths);
     }
 
     /**
@@ -264,8 +269,8 @@ public class ConfigurationTree {
      * @see #findAllRootPaths()
      */
     public List<ConfigPath> findAllRootPathsFrom(final Class<? extends Configuration> confType) {
-        return paths.stream()
-                .filter(it -> !it.getPath().contains(DOT) && it.getRootDeclarationClass() == confType)
+        return rootPaths.stream()
+                .filter(it -> it.getRootDeclarationClass() == confType)
                 .collect(Collectors.toList());
     }
 
@@ -364,11 +369,8 @@ public class ConfigurationTree {
      */
     @SuppressWarnings("unchecked")
     public <T, K extends T> K valueByUniqueDeclaredType(final Class<T> type) {
-        return (K) uniqueTypePaths.stream()
-                .filter(it -> type.equals(it.getDeclaredType()))
-                .findFirst()
-                .map(ConfigPath::getValue)
-                .orElse(null);
+        final ConfigPath path = uniqueTypeIndex.get(type);
+        return path == null ? null : (K) path.getValue();
     }
 
     /**
@@ -465,4 +467,54 @@ public class ConfigurationTree {
         paths.sort(comparator);
         uniqueTypePaths.sort(comparator);
     }
+
+    private void buildIndexes() {
+        for (ConfigPath path : paths) {
+            // first path wins (as with sequential search)
+            pathIndex.putIfAbsent(path.getPath().toLowerCase(Locale.ENGLISH), path);
+            final Annotation qualifier = path.getQualifier();
+            if (qualifier != null) {
+                qualifierIndex.computeIfAbsent(qualifier, k -> new ArrayList<>()).add(path);
+                qualifierTypeIndex.computeIfAbsent(qualifier.annotationType(), k -> new ArrayList<>()).add(path);
+            }
+            if (path.isCustomType()) {
+                for (Class<?> type : getHierarchy(path.getDeclaredType())) {
+                    typeIndex.computeIfAbsent(type, k -> new ArrayList<>()).add(path);
+                }
+            }
+            rootDeclarationIndex.computeIfAbsent(path.getRootDeclarationClass(), k -> new ArrayList<>()).add(path);
+            if (!path.getPath().contains(DOT)) {
+                rootPaths.add(path);
+            }
+        }
+        for (ConfigPath path : uniqueTypePaths) {
+            uniqueTypeIndex.putIfAbsent(path.getDeclaredType(), path);
+        }
+    }
+
+    /**
+     * @param type type
+     * @return type itself with all superclasses and interfaces (all types assignable from provided type)
+     */
+    private Set<Class<?>> getHierarchy(final Class<?> type) {
+        final Set<Class<?>> res = new LinkedHashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            final Class<?> current = queue.poll();
+            if (res.add(current)) {
+                if (current.getSuperclass() != null) {
+                    queue.add(current.getSuperclass());
+                }
+                queue.addAll(Arrays.asList(current.getInterfaces()));
+            }
+        }
+        // interfaces are assignable to object too
+        res.add(Object.class);
+        return res;
+    }
+
+    private List<ConfigPath> copy(final List<ConfigPath> list) {
+        return list == null ? new ArrayList<>() : new ArrayList<>(list);
+    }
 }
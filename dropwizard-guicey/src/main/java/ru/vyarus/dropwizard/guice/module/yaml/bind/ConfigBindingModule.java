@@ -7,6 +7,8 @@ import com.google.inject.Key;
 import com.google.inject.binder.LinkedBindingBuilder;
 import com.google.inject.util.Providers;
 import io.dropwizard.core.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
@@ -31,6 +33,10 @@ import java.util.stream.Collectors;
  * with qualifier only.
  * <p>
  * {@link ConfigurationTree} instance is also bound directly to be used for custom configuration analysis.
+ * <p>
+ * When required paths are specified (see
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BindConfigurationPathsOnDemand}) only these paths are bound
+ * (other bindings are always applied).
  *
  * @author Vyacheslav Rusakov
  * @see Config for more info on usage
@@ -39,8 +45,11 @@ import java.util.stream.Collectors;
  */
 public class ConfigBindingModule extends AbstractModule {
 
+    private final Logger logger = LoggerFactory.getLogger(ConfigBindingModule.class);
+
     private final Configuration configuration;
     private final ConfigurationTree tree;
+    private final Set<String> requiredPaths;
 
     /**
      * Create configuration bindings module.
@@ -49,8 +58,22 @@ public class ConfigBindingModule extends AbstractModule {
      * @param tree          parsed configuration
      */
     public ConfigBindingModule(final Configuration configuration, final ConfigurationTree tree) {
+        this(configuration, tree, null);
+    }
+
+    /**
+     * Create configuration bindings module, binding only required configuration paths.
+     *
+     * @param configuration configuration instance.
+     * @param tree          parsed configuration
+     * @param requiredPaths paths to bind by path (null to bind all paths)
+     */
+    public ConfigBindingModule(final Configuration configuration,
+                               final ConfigurationTree tree,
+                               final Set<String> requiredPaths) {
         this.configuration = configuration;
         this.tree = tree;
+        this.requiredPaths = requiredPaths;
     }
 
     @Override
@@ -128,15 +151,34 @@ public class ConfigBindingModule extends AbstractModule {
     /**
      * Bind configuration paths. Available for injection like {@code @Inject @Code("path.sub") Integer conf}.
      * Value may be null because if null values would be avoided, bindings will disappear.
+     * <p>
+     * When required paths specified, only required paths are bound (not existing paths are ignored here -
+     * guice will report missed binding).
      */
     private void bindValuePaths() {
-        for (ConfigPath item : tree.getPaths()) {
-            bindValue(
-                    bind(Key.get(item.getDeclaredTypeWithGenerics(), new ConfigImpl(item.getPath()))),
-                    item.getValue());
+        if (requiredPaths == null) {
+            for (ConfigPath item : tree.getPaths()) {
+                bindPath(item);
+            }
+        } else {
+            int bound = 0;
+            for (String path : requiredPaths) {
+                final ConfigPath item = tree.findByPath(path);
+                if (item != null) {
+                    bindPath(item);
+                    bound++;
+                }
+            }
+            logger.debug("Bound {} of {} configuration paths", bound, tree.getPaths().size());
         }
     }
 
+    private void bindPath(final ConfigPath item) {
+        bindValue(
+                bind(Key.get(item.getDeclaredTypeWithGenerics(), new ConfigImpl(item.getPath()))),
+                item.getValue());
+    }
+
     @SuppressWarnings("unchecked")
     private void bindValue(final LinkedBindingBuilder binding, final Object value) {
         if (value != null) {
@@ -0,0 +1,228 @@
+package ru.vyarus.dropwizard.guice.module.yaml.bind;
+
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.ImplementedBy;
+import com.google.inject.Key;
+import com.google.inject.MembersInjector;
+import com.google.inject.ProvidedBy;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.DefaultBindingTargetVisitor;
+import com.google.inject.spi.DefaultElementVisitor;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderKeyBinding;
+import com.google.inject.spi.StaticInjectionRequest;
+import com.google.inject.spi.UntargettedBinding;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Collects configuration paths, required by injection points (e.g. {@code @Inject @Config("path") String value}).
+ * Used for on-demand configuration paths binding (see
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BindConfigurationPathsOnDemand}).
+ * <p>
+ * Injection points are resolved from guice module elements (bindings, injection requests and static injections)
+ * and provided classes (extensions). Dependencies without qualifier are analyzed transitively (as they could
+ * be just-in-time bindings). Collected paths are a superset of actually used paths: it is important to not miss
+ * any path, because it would not be possible to bind it later.
+ * <p>
+ * Internal api.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ConfigPathsCollector {
+
+    private final Set<String> paths = new LinkedHashSet<>();
+    private final Set<Class<?>> visited = new HashSet<>();
+    private final Deque<Class<?>> queue = new ArrayDeque<>();
+
+    /**
+     * Analyze guice module elements.
+     *
+     * @param elements guice module elements
+     * @return collector instance for chained calls
+     */
+    public ConfigPathsCollector analyzeElements(final Collection<? extends Element> elements) {
+        final ElementsVisitor visitor = new ElementsVisitor();
+        for (Element element : elements) {
+            element.acceptVisitor(visitor);
+        }
+        processQueue();
+        return this;
+    }
+
+    /**
+     * Analyze classes (constructor, fields and methods injection points).
+     *
+     * @param types classes to analyze
+     * @return collector instance for chained calls
+     */
+    public ConfigPathsCollector analyzeTypes(final Collection<Class<?>> types) {
+        types.forEach(this::enqueue);
+        processQueue();
+        return this;
+    }
+
+    /**
+     * @return configuration paths, required by analyzed injection points
+     */
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    private void processQueue() {
+        while (!queue.isEmpty()) {
+            final Class<?> type = queue.poll();
+            final TypeLiteral<?> literal = TypeLiteral.get(type);
+            if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+                try {
+                    processInjectionPoint(InjectionPoint.forConstructorOf(literal));
+                } catch (ConfigurationException ignored) {
+                    // no injectable constructor: type could not be created by guice
+                }
+            }
+            Set<InjectionPoint> points;
+            try {
+                points = InjectionPoint.forInstanceMethodsAndFields(literal);
+            } catch (ConfigurationException ex) {
+                points = ex.getPartialValue();
+            }
+            points.forEach(this::processInjectionPoint);
+        }
+    }
+
+    private void processInjectionPoint(final InjectionPoint point) {
+        point.getDependencies().forEach(this::processDependency);
+    }
+
+    private void processDependency(final Dependency<?> dependency) {
+        processKey(dependency.getKey());
+    }
+
+    private void processKey(final Key<?> key) {
+        final Type type = key.getTypeLiteral().getType();
+        final Class<?> raw = key.getTypeLiteral().getRawType();
+        if (isWrapper(raw) && type instanceof ParameterizedType) {
+            // Provider<T> or MembersInjector<T>
+            final Type target = ((ParameterizedType) type).getActualTypeArguments()[0];
+            processKey(key.getAnnotation() != null ? Key.get(target, key.getAnnotation()) : Key.get(target));
+            return;
+        }
+        if (key.getAnnotation() instanceof Config) {
+            final String path = ((Config) key.getAnnotation()).value();
+            if (!path.isEmpty()) {
+                paths.add(path);
+            }
+        } else if (key.getAnnotationType() == null) {
+            // possible JIT binding
+            enqueue(raw);
+        }
+    }
+
+    private void enqueue(final Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || isJdkType(type) || !visited.add(type)) {
+            return;
+        }
+        queue.add(type);
+        final ImplementedBy implementedBy = type.getAnnotation(ImplementedBy.class);
+        if (implementedBy != null) {
+            enqueue(implementedBy.value());
+        }
+        final ProvidedBy providedBy = type.getAnnotation(ProvidedBy.class);
+        if (providedBy != null) {
+            enqueue(providedBy.value());
+        }
+    }
+
+    private boolean isWrapper(final Class<?> type) {
+        return type == com.google.inject.Provider.class || type == jakarta.inject.Provider.class
+                || type == MembersInjector.class;
+    }
+
+    private boolean isJdkType(final Class<?> type) {
+        final String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    /**
+     * Guice elements visitor: analyze dependencies of all bindings and injection requests.
+     */
+    private class ElementsVisitor extends DefaultElementVisitor<Void> {
+
+        private final TargetVisitor targetVisitor = new TargetVisitor();
+
+        @Override
+        public <T> Void visit(final Binding<T> binding) {
+            if (binding instanceof HasDependencies) {
+                ((HasDependencies) binding).getDependencies().forEach(ConfigPathsCollector.this::processDependency);
+            }
+            binding.acceptTargetVisitor(targetVisitor);
+            return null;
+        }
+
+        @Override
+        public Void visit(final InjectionRequest<?> request) {
+            try {
+                request.getInjectionPoints().forEach(ConfigPathsCollector.this::processInjectionPoint);
+            } catch (ConfigurationException ignored) {
+                // guice will report error
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(final StaticInjectionRequest request) {
+            try {
+                request.getInjectionPoints().forEach(ConfigPathsCollector.this::processInjectionPoint);
+            } catch (ConfigurationException ignored) {
+                // guice will report error
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(final PrivateElements privateElements) {
+            privateElements.getElements().forEach(element -> element.acceptVisitor(this));
+            return null;
+        }
+    }
+
+    /**
+     * Bindings visitor: analyze binding targets, instantiated by guice.
+     */
+    private class TargetVisitor extends DefaultBindingTargetVisitor<Object, Void> {
+
+        @Override
+        public Void visit(final UntargettedBinding<?> binding) {
+            enqueue(binding.getKey().getTypeLiteral().getRawType());
+            return null;
+        }
+
+        @Override
+        public Void visit(final LinkedKeyBinding<?> binding) {
+            processKey(binding.getLinkedKey());
+            return null;
+        }
+
+        @Override
+        public Void visit(final ProviderKeyBinding<?> binding) {
+            processKey(binding.getProviderKey());
+            return null;
+        }
+    }
+}
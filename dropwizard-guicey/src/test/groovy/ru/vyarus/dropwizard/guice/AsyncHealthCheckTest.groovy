@@ -0,0 +1,126 @@
+package ru.vyarus.dropwizard.guice
+
+import com.codahale.metrics.health.AsyncHealthCheckDecorator
+import com.codahale.metrics.health.HealthCheck
+import com.codahale.metrics.health.annotation.Async
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.HealthCheckTimeout
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.NamedHealthCheck
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class AsyncHealthCheckTest extends AbstractTest {
+
+    def "Check async health checks"() {
+
+        setup:
+        AsyncCheck.calls.set(0)
+        AsyncCheck.executed = new CountDownLatch(1)
+
+        when: "starting application"
+        Map<String, Object> res = TestSupport.runCoreApp(App, null, {
+            Environment env = it.getInstance(Environment)
+            // wait for the first background execution (next one scheduled in an hour)
+            assert AsyncCheck.executed.await(5, TimeUnit.SECONDS)
+            Map<String, HealthCheck.Result> results
+            3.times { results = env.healthChecks().runHealthChecks() }
+            // latency is recorded just after check execution
+            new PollingConditions(timeout: 1).eventually {
+                assert env.metrics().timer('healthchecks.async.latency').count == 1
+            }
+            [calls       : AsyncCheck.calls.get(),
+             results     : results,
+             async       : env.healthChecks().getHealthCheck('async'),
+             sync        : env.healthChecks().getHealthCheck('sync'),
+             syncTimer   : env.metrics().timer('healthchecks.sync.latency').count,
+             hangingTimer: env.metrics().timer('healthchecks.hanging.latency').count]
+        })
+        then: "async check executed in background by registry"
+        res.async instanceof AsyncHealthCheckDecorator
+        (res.async as AsyncHealthCheckDecorator).healthCheck instanceof AsyncCheck
+        and: "cached result returned without execution"
+        res.calls == 1
+        res.results['async'].healthy
+        and: "not annotated check registered as is"
+        res.sync instanceof SyncCheck
+        res.results['sync'].healthy
+        and: "hanging check interrupted by timeout"
+        !res.results['hanging'].healthy
+        res.results['hanging'].message == 'Health check did not complete in PT0.1S'
+        and: "latency tracked for all checks"
+        res.syncTimer == 3
+        res.hangingTimer == 3
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(AsyncCheck, SyncCheck, HangingCheck)
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Async(period = 1, unit = TimeUnit.HOURS)
+    static class AsyncCheck extends NamedHealthCheck {
+        static AtomicInteger calls = new AtomicInteger()
+        static CountDownLatch executed
+
+        @Override
+        protected HealthCheck.Result check() throws Exception {
+            calls.incrementAndGet()
+            executed.countDown()
+            return HealthCheck.Result.healthy()
+        }
+
+        @Override
+        String getName() {
+            return "async"
+        }
+    }
+
+    static class SyncCheck extends NamedHealthCheck {
+
+        @Override
+        protected HealthCheck.Result check() throws Exception {
+            return HealthCheck.Result.healthy()
+        }
+
+        @Override
+        String getName() {
+            return "sync"
+        }
+    }
+
+    @HealthCheckTimeout(value = 100, unit = TimeUnit.MILLISECONDS)
+    static class HangingCheck extends NamedHealthCheck {
+
+        @Override
+        protected HealthCheck.Result check() throws Exception {
+            Thread.sleep(10000)
+            return HealthCheck.Result.healthy()
+        }
+
+        @Override
+        String getName() {
+            return "hanging"
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ru.vyarus.dropwizard.guice
+
+import com.google.inject.Inject
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.installer.feature.LifeCycleInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingletonInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.HealthCheckInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyFeatureInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.provider.JerseyProviderInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.plugin.PluginInstaller
+import ru.vyarus.dropwizard.guice.module.jersey.debug.service.HK2DebugFeature
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.support.feature.*
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class BytecodeFilterScanTest extends AbstractTest {
+
+    @Inject
+    GuiceyConfigurationInfo info
+    @Inject
+    Bootstrap bootstrap
+
+    def "Check classpath scan with bytecode filtering"() {
+
+        expect: "command found"
+        bootstrap.getCommands().find { it.class == DummyCommand }
+
+        and: "all extensions found"
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        info.getExtensions(ResourceInstaller) == [DummyResource]
+        info.getExtensions(ManagedInstaller) == [DummyManaged]
+        info.getExtensions(LifeCycleInstaller) == [DummyLifeCycle]
+        info.getExtensions(JerseyProviderInstaller) as Set == [DummyExceptionMapper, DummyJerseyProvider, DummyOtherProvider, DummyModelProcessor] as Set
+        info.getExtensions(JerseyFeatureInstaller) as Set == [DummyFeature, HK2DebugFeature] as Set
+        info.getExtensions(HealthCheckInstaller) == [DummyHealthCheck]
+        info.getExtensions(EagerSingletonInstaller) == [DummyService]
+        info.getExtensions(PluginInstaller) as Set == [DummyPlugin1, DummyPlugin2, DummyPlugin3, DummyNamedPlugin1, DummyNamedPlugin2] as Set
+
+        and: "not all classes loaded"
+        int scanned = info.stats.count(Stat.ScanClassesCount)
+        int loaded = info.stats.count(Stat.ScanLoadedClassesCount)
+        loaded > 0
+        loaded < scanned
+        and: "accepted classes counted separately"
+        int accepted = info.stats.count(Stat.ScanAcceptedClassesCount)
+        accepted > 0
+        accepted <= loaded
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig("ru.vyarus.dropwizard.guice.support.feature")
+                    .searchCommands()
+                    .option(GuiceyOptions.ScanBytecodeFilter, true)
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
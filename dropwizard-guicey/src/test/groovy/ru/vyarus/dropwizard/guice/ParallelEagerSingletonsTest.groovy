@@ -0,0 +1,118 @@
+package ru.vyarus.dropwizard.guice
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import jakarta.inject.Inject
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.DetailStat
+import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.test.TestSupport
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ParallelEagerSingletonsTest extends AbstractTest {
+
+    def "Check parallel eager singletons"() {
+
+        setup:
+        App.created.clear()
+
+        when: "starting application"
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(App, null, {
+            assert it.getInstance(Cache).is(it.getInstance(Cache))
+            it.getInstance(GuiceyConfigurationInfo)
+        })
+        then: "all created once, dependencies respected"
+        App.created.size() == 3
+        App.created.indexOf("Model") < App.created.indexOf("Cache")
+        and: "timings recorded"
+        info.stats.getDetailedStats(DetailStat.EagerSingleton).keySet() == [Model, Cache, Independent] as Set
+    }
+
+    def "Check instantiation failure"() {
+
+        when: "starting application with failing bean"
+        TestSupport.runCoreApp(FailApp)
+        then: "startup failed"
+        def ex = thrown(Exception)
+        ex.message.contains('Failed bean')
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        static List<String> created = new CopyOnWriteArrayList<>()
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Cache, Model, Independent)
+                    .option(InstallersOptions.ParallelEagerSingletons, true)
+                    .option(InstallersOptions.ParallelEagerSingletonsThreads, 2)
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class FailApp extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Failing)
+                    .option(InstallersOptions.ParallelEagerSingletons, true)
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @EagerSingleton
+    static class Model {
+        Model() {
+            sleep(100)
+            App.created.add("Model")
+        }
+    }
+
+    static class Loader {
+        @Inject
+        Loader(Model model) {
+        }
+    }
+
+    @EagerSingleton
+    static class Cache {
+        @Inject
+        Cache(Loader loader) {
+            App.created.add("Cache")
+        }
+    }
+
+    @EagerSingleton
+    static class Independent {
+        Independent() {
+            App.created.add("Independent")
+        }
+    }
+
+    @EagerSingleton
+    static class Failing {
+        Failing() {
+            throw new IllegalStateException("Failed bean")
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ru.vyarus.dropwizard.guice
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import io.dropwizard.lifecycle.JettyManaged
+import io.dropwizard.lifecycle.Managed
+import jakarta.inject.Inject
+import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions
+import ru.vyarus.dropwizard.guice.module.installer.feature.managed.DependsOn
+import ru.vyarus.dropwizard.guice.module.installer.feature.managed.ParallelManagedGroup
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.test.TestSupport
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ParallelManagedTest extends AbstractTest {
+
+    def "Check parallel managed start"() {
+
+        setup:
+        App.actions.clear()
+
+        when: "starting application"
+        Environment env = TestSupport.runCoreApp(App, null, { it.getInstance(Environment) })
+        then: "dependencies respected"
+        App.actions.indexOf("Pool+") < App.actions.indexOf("Consumer+")
+        App.actions.indexOf("Consumer+") < App.actions.indexOf("Warmer+")
+        App.actions.contains("Independent+")
+        and: "stopped in reverse order"
+        App.actions.indexOf("Warmer-") < App.actions.indexOf("Consumer-")
+        App.actions.indexOf("Consumer-") < App.actions.indexOf("Pool-")
+        App.actions.contains("Independent-")
+        and: "single group registered"
+        env.lifecycle().getManagedObjects()
+                .findAll { it instanceof JettyManaged }
+                .collect { (it as JettyManaged).managed.class } == [ParallelManagedGroup]
+    }
+
+    def "Check dependencies cycle"() {
+
+        when: "starting application with cycle"
+        ParallelManagedGroup group = new ParallelManagedGroup(2)
+        group.add(new Cycle1())
+        group.add(new Cycle2())
+        group.start()
+        then: "cycle detected"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Managed objects dependencies cycle detected: Cycle1 -> Cycle2 -> Cycle1"
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        static List<String> actions = new CopyOnWriteArrayList<>()
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Warmer, Consumer, Pool, Independent)
+                    .option(InstallersOptions.ParallelManagedStart, true)
+                    .option(InstallersOptions.ParallelManagedThreads, 2)
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static abstract class Base implements Managed {
+        @Override
+        void start() throws Exception {
+            sleep(50)
+            App.actions.add(getClass().simpleName + "+")
+        }
+
+        @Override
+        void stop() throws Exception {
+            sleep(50)
+            App.actions.add(getClass().simpleName + "-")
+        }
+    }
+
+    static class Pool extends Base {}
+
+    static class Consumer extends Base {
+        @Inject
+        Pool pool
+    }
+
+    @DependsOn(Consumer)
+    static class Warmer extends Base {}
+
+    static class Independent extends Base {}
+
+    @DependsOn(Cycle2)
+    static class Cycle1 implements Managed {}
+
+    @DependsOn(Cycle1)
+    static class Cycle2 implements Managed {}
+}
@@ -0,0 +1,149 @@
+package ru.vyarus.dropwizard.guice
+
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import io.dropwizard.lifecycle.Managed
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.support.DropwizardAwareModule
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.support.feature.DummyTask
+import ru.vyarus.dropwizard.guice.test.TestSupport
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class RunPhasePipelineTest extends AbstractTest {
+
+    def "Check run phase pipeline"() {
+
+        when: "starting application with pipeline"
+        Map<String, Object> res = TestSupport.runCoreApp(App, null, { Injector injector ->
+            [info   : injector.getInstance(GuiceyConfigurationInfo),
+             service: injector.getInstance(Service),
+             thread : Module.thread]
+        })
+        GuiceyConfigurationInfo info = res.info
+        then: "modules recorded in background"
+        res.thread.startsWith('guicey-modules-')
+        !info.stats.duration(Stat.ModulesRecordingTime).isZero()
+        !info.stats.duration(Stat.OverridingModulesRecordingTime).isZero()
+        and: "override applied"
+        res.service instanceof OverridingService
+        and: "extension from binding recognized"
+        info.getExtensions(ManagedInstaller) == [BoundManaged]
+        info.getExtensionsFromBindings() == [BoundManaged]
+        and: "manual extension registered"
+        info.getExtensions().contains(DummyTask)
+    }
+
+    def "Check environment aware modules recorded in main thread"() {
+
+        when: "starting application with environment aware module"
+        Map<String, Object> res = TestSupport.runCoreApp(AwareApp, null, { Injector injector ->
+            [info  : injector.getInstance(GuiceyConfigurationInfo),
+             thread: AwareModule.thread]
+        })
+        GuiceyConfigurationInfo info = res.info
+        then: "modules recorded in main thread"
+        !res.thread.startsWith('guicey-modules-')
+        info.stats.duration(Stat.ModulesRecordingTime).isZero()
+        info.getExtensionsFromBindings() == [BoundManaged]
+    }
+
+    def "Check pipeline disabled by default"() {
+
+        when: "starting application without pipeline"
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(DefaultApp, null,
+                { it.getInstance(GuiceyConfigurationInfo) })
+        then: "no background recording"
+        info.stats.duration(Stat.ModulesRecordingTime).isZero()
+        info.getExtensionsFromBindings() == [BoundManaged]
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules(new Module())
+                    .modulesOverride(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(Service).to(OverridingService)
+                        }
+                    })
+                    .extensions(DummyTask)
+                    .option(GuiceyOptions.RunPhasePipeline, true)
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class DefaultApp extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules(new Module())
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class AwareApp extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules(new AwareModule())
+                    .option(GuiceyOptions.RunPhasePipeline, true)
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class AwareModule extends DropwizardAwareModule<TestConfiguration> {
+        static String thread
+
+        @Override
+        protected void configure() {
+            thread = Thread.currentThread().name
+            bind(BoundManaged)
+        }
+    }
+
+    static class Module extends AbstractModule {
+        static String thread
+
+        @Override
+        protected void configure() {
+            thread = Thread.currentThread().name
+            bind(Service)
+            bind(BoundManaged)
+        }
+    }
+
+    static class Service {}
+
+    static class OverridingService extends Service {}
+
+    static class BoundManaged implements Managed {}
+}
@@ -0,0 +1,145 @@
+package ru.vyarus.dropwizard.guice
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.installer.feature.LifeCycleInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingletonInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.HealthCheckInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.provider.JerseyProviderInstaller
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.support.feature.*
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class StartupCacheTest extends AbstractTest {
+
+    @TempDir
+    Path dir
+
+    def "Check startup cache"() {
+
+        setup:
+        App.cache = dir.resolve("guicey.cache")
+
+        when: "first start"
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(App, null,
+                { it.getInstance(GuiceyConfigurationInfo) })
+        then: "cache created"
+        info.stats.count(Stat.StartupCacheMissCount) == 1
+        info.stats.count(Stat.StartupCacheHitCount) == 0
+        Files.exists(App.cache)
+        checkExtensions(info)
+        int scanned = info.stats.count(Stat.ScanClassesCount)
+
+        when: "second start"
+        info = TestSupport.runCoreApp(App, null, { it.getInstance(GuiceyConfigurationInfo) })
+        then: "cache used"
+        info.stats.count(Stat.StartupCacheMissCount) == 0
+        info.stats.count(Stat.StartupCacheHitCount) == 1
+        checkExtensions(info)
+        info.stats.count(Stat.ScanClassesCount) < scanned
+
+        when: "cache outdated"
+        App.cache.text = App.cache.text.replaceAll(/key=.+/, 'key=outdated')
+        info = TestSupport.runCoreApp(App, null, { it.getInstance(GuiceyConfigurationInfo) })
+        then: "scan performed"
+        info.stats.count(Stat.StartupCacheMissCount) == 1
+        info.stats.count(Stat.StartupCacheHitCount) == 0
+        checkExtensions(info)
+        !App.cache.text.contains('key=outdated')
+
+        when: "cached class removed"
+        App.cache.text = App.cache.text.replaceAll(/classes=/, 'classes=ru.vyarus.Missing,')
+        info = TestSupport.runCoreApp(App, null, { it.getInstance(GuiceyConfigurationInfo) })
+        then: "scan performed"
+        info.stats.count(Stat.StartupCacheMissCount) == 1
+        info.stats.count(Stat.StartupCacheHitCount) == 0
+        checkExtensions(info)
+        !App.cache.text.contains('ru.vyarus.Missing')
+    }
+
+    def "Check filtered extensions cached"() {
+
+        setup:
+        FilterApp.cache = dir.resolve("guicey.cache")
+        FilterApp.acceptTasks = false
+
+        when: "first start with filtered task"
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(FilterApp, null,
+                { it.getInstance(GuiceyConfigurationInfo) })
+        then: "task filtered"
+        info.stats.count(Stat.StartupCacheMissCount) == 1
+        info.getExtensions(TaskInstaller).isEmpty()
+
+        when: "filter changed"
+        FilterApp.acceptTasks = true
+        info = TestSupport.runCoreApp(FilterApp, null, { it.getInstance(GuiceyConfigurationInfo) })
+        then: "task found in cache"
+        info.stats.count(Stat.StartupCacheHitCount) == 1
+        info.getExtensions(TaskInstaller) == [DummyTask]
+        info.getExtensions(ManagedInstaller) == [DummyManaged]
+    }
+
+    void checkExtensions(GuiceyConfigurationInfo info) {
+        assert info.getExtensions(TaskInstaller) == [DummyTask]
+        assert info.getExtensions(ResourceInstaller) == [DummyResource]
+        assert info.getExtensions(ManagedInstaller) == [DummyManaged]
+        assert info.getExtensions(LifeCycleInstaller) == [DummyLifeCycle]
+        assert info.getExtensions(JerseyProviderInstaller) as Set == [DummyExceptionMapper, DummyJerseyProvider, DummyOtherProvider, DummyModelProcessor] as Set
+        assert info.getExtensions(HealthCheckInstaller) == [DummyHealthCheck]
+        assert info.getExtensions(EagerSingletonInstaller) == [DummyService]
+        assert info.getCommands() as Set == [DummyCommand, NonInjactableCommand] as Set
+    }
+
+    static class FilterApp extends Application<TestConfiguration> {
+
+        static Path cache
+        static boolean acceptTasks
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig("ru.vyarus.dropwizard.guice.support.feature")
+                    .autoConfigFilter({ acceptTasks || it != DummyTask })
+                    .option(GuiceyOptions.StartupCache, cache.toString())
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        static Path cache
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig("ru.vyarus.dropwizard.guice.support.feature")
+                    .searchCommands()
+                    .option(GuiceyOptions.StartupCache, cache.toString())
+                    .build()
+            );
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
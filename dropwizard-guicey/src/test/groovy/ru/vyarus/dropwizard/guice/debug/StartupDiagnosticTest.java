@@ -5,6 +5,7 @@ import io.dropwizard.core.ConfiguredBundle;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.lifecycle.Managed;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import ru.vyarus.dropwizard.guice.AbstractPlatformTest;
@@ -13,8 +14,10 @@ import ru.vyarus.dropwizard.guice.debug.report.start.DropwizardBundlesTracker;
 import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder;
 import ru.vyarus.dropwizard.guice.support.AutoScanApplication;
 import ru.vyarus.dropwizard.guice.support.DefaultTestApp;
+import ru.vyarus.dropwizard.guice.support.TestConfiguration;
 import ru.vyarus.dropwizard.guice.test.EnableHook;
 import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp;
 import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp;
@@ -29,6 +32,12 @@ import ru.vyarus.dropwizard.guice.test.jupiter.ext.rest.StubRest;
  */
 public class StartupDiagnosticTest extends AbstractPlatformTest {
 
+    @BeforeEach
+    void warmIntrospectionCache() {
+        // introspection cache is process-wide: warm it to always see cache saved time in report
+        ConfigTreeBuilder.build(new Bootstrap<>(new AutoScanApplication()), new TestConfiguration());
+    }
+
     @Test
     void testGuiceyRunReport() {
         String out = run(Test1.class);
@@ -67,6 +76,7 @@ public class StartupDiagnosticTest extends AbstractPlatformTest {
                 "\t\t\tConfiguration and Environment      : 111 ms \n" +
                 "\t\t\tGuiceBundle                        : 111 ms \n" +
                 "\t\t\t\tConfiguration analysis             : 111 ms \n" +
+                "\t\t\t\t\tIntrospection cache (saved time)   : 111 ms \n" +
                 "\t\t\t\tGuicey bundles run                 : 111 ms \n" +
                 "\t\t\t\t\tWebInstallersBundle                : 111 ms \n" +
                 "\t\t\t\t\tCoreInstallersBundle               : 111 ms \n" +
@@ -148,6 +158,7 @@ public class StartupDiagnosticTest extends AbstractPlatformTest {
                 "\t\t\tConfiguration and Environment      : 111 ms \n" +
                 "\t\t\tGuiceBundle                        : 111 ms \n" +
                 "\t\t\t\tConfiguration analysis             : 111 ms \n" +
+                "\t\t\t\t\tIntrospection cache (saved time)   : 111 ms \n" +
                 "\t\t\t\tGuicey bundles run                 : 111 ms \n" +
                 "\t\t\t\t\tWebInstallersBundle                : 111 ms \n" +
                 "\t\t\t\t\tCoreInstallersBundle               : 111 ms \n" +
@@ -235,6 +246,7 @@ public class StartupDiagnosticTest extends AbstractPlatformTest {
                 "\t\t\tConfiguration and Environment      : 111 ms \n" +
                 "\t\t\tGuiceBundle                        : 111 ms \n" +
                 "\t\t\t\tConfiguration analysis             : 111 ms \n" +
+                "\t\t\t\t\tIntrospection cache (saved time)   : 111 ms \n" +
                 "\t\t\t\tGuicey bundles run                 : 111 ms \n" +
                 "\t\t\t\t\tWebInstallersBundle                : 111 ms \n" +
                 "\t\t\t\t\tCoreInstallersBundle               : 111 ms \n" +
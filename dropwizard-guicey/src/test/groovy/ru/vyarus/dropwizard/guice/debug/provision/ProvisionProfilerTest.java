@@ -0,0 +1,109 @@
+package ru.vyarus.dropwizard.guice.debug.provision;
+
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import io.dropwizard.core.setup.Environment;
+import jakarta.inject.Inject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.vyarus.dropwizard.guice.GuiceBundle;
+import ru.vyarus.dropwizard.guice.debug.GuiceProvisionProfiler;
+import ru.vyarus.dropwizard.guice.debug.profiler.ProvisionProfilerTask;
+import ru.vyarus.dropwizard.guice.debug.profiler.ProvisionStats;
+import ru.vyarus.dropwizard.guice.support.DefaultTestApp;
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(ProvisionProfilerTest.App.class)
+public class ProvisionProfilerTest {
+
+    static GuiceProvisionProfiler profiler = new GuiceProvisionProfiler();
+
+    @Inject
+    Injector injector;
+
+    @Inject
+    Environment environment;
+
+    @Test
+    void testRuntimeProfiling() throws Exception {
+        profiler.reset();
+        injector.getInstance(ProfiledService.class);
+        injector.getInstance(ProfiledService.class);
+
+        ProvisionStats stats = profiler.getStats().get(injector.getBinding(ProfiledService.class));
+        Assertions.assertThat(stats.getCount()).isEqualTo(2);
+        Assertions.assertThat(stats.getSampledCount()).isEqualTo(2);
+        Assertions.assertThat(environment.metrics().getTimers())
+                .containsKey("guice.provision.ProfiledService");
+        Assertions.assertThat(environment.metrics().timer("guice.provision.ProfiledService").getCount())
+                .isEqualTo(2);
+
+        StringWriter out = new StringWriter();
+        new ProvisionProfilerTask(profiler).execute(ImmutableMap.of(), new PrintWriter(out));
+        Assertions.assertThat(out.toString())
+                .contains(String.format("\t%-10s %-10s %-10s %-10s %-10s %-10s %s%n",
+                        "count", "sampled", "mean", "p95", "p99", "max", "binding"))
+                // both provisions counted and sampled
+                .containsPattern("\t2 {10}2 {10}([\\d.,]+ ms +){4}\\S*ProfiledService")
+                .doesNotContain("not tracked bindings");
+
+        out = new StringWriter();
+        new ProvisionProfilerTask(profiler).execute(
+                ImmutableMap.of("reset", ImmutableList.of("true")), new PrintWriter(out));
+        Assertions.assertThat(out.toString()).isEqualTo(String.format("Guice provision profile reset%n"));
+        Assertions.assertThat(profiler.getStats()).isEmpty();
+        Assertions.assertThat(environment.metrics().getTimers()).doesNotContainKey("guice.provision.ProfiledService");
+    }
+
+    @Test
+    void testBindingsLimit() {
+        GuiceProvisionProfiler limited = new GuiceProvisionProfiler(0.5, 1);
+        Injector standalone = Guice.createInjector(new GuiceProvisionProfiler.ProfilerModule(limited));
+        for (int i = 0; i < 10; i++) {
+            standalone.getInstance(ProfiledService.class);
+        }
+        standalone.getInstance(OtherService.class);
+
+        Assertions.assertThat(limited.getStats()).hasSize(1);
+        ProvisionStats stats = limited.getStats().values().iterator().next();
+        Assertions.assertThat(stats.getCount()).isEqualTo(10);
+        Assertions.assertThat(stats.getSampledCount()).isLessThanOrEqualTo(10);
+        Assertions.assertThat(limited.getOverflowCount()).isEqualTo(1);
+        Assertions.assertThat(limited.renderReport())
+                .contains(String.format("%n\t1 provisions of not tracked bindings (max 1 bindings)%n"));
+    }
+
+    @Test
+    void testEstimatedTimePrecision() {
+        ProvisionStats stats = new ProvisionStats("key", new Timer());
+        stats.record(1);
+        stats.record(2);
+        stats.count();
+
+        // average 1.5ns must not be truncated before scaling to all provisions
+        Assertions.assertThat(stats.getEstimatedTime()).isEqualTo(4);
+    }
+
+    public static class App extends DefaultTestApp {
+        @Override
+        protected GuiceBundle configure() {
+            return GuiceBundle.builder()
+                    .bundles(profiler)
+                    .build();
+        }
+    }
+
+    public static class ProfiledService {}
+
+    public static class OtherService {}
+}
@@ -49,10 +49,18 @@ class OptionsRendererTest extends Specification {
     Guicey                    (r.v.dropwizard.guice.GuiceyOptions)
         ScanPackages                   = [com.foo, com.bat]             *CUSTOM
         ScanProtectedClasses           = false
+        UseScanIndex                   = false
+        ScanBytecodeFilter             = false
+        ScanParallel                   = false
+        StartupCache                   = null
         SearchCommands                 = false
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
+        BindConfigurationPathsOnDemand = false
+        ConfigIntrospectionMaxDepth    = 0
+        ConfigIntrospectionMaxPaths    = 0
         AnalyzeGuiceModules            = true
+        RunPhasePipeline               = false
         InjectorStage                  = PRODUCTION
         GuiceFilterRegistration        = [REQUEST]
         UseHkBridge                    = false
@@ -84,10 +92,18 @@ class OptionsRendererTest extends Specification {
     Guicey                    (r.v.dropwizard.guice.GuiceyOptions)
         ScanPackages                   = [com.foo, com.bat]             *CUSTOM
         ScanProtectedClasses           = false
+        UseScanIndex                   = false
+        ScanBytecodeFilter             = false
+        ScanParallel                   = false
+        StartupCache                   = null
         SearchCommands                 = false
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
+        BindConfigurationPathsOnDemand = false
+        ConfigIntrospectionMaxDepth    = 0
+        ConfigIntrospectionMaxPaths    = 0
         AnalyzeGuiceModules            = true
+        RunPhasePipeline               = false
         InjectorStage                  = PRODUCTION
         GuiceFilterRegistration        = [REQUEST]
         UseHkBridge                    = false
@@ -138,10 +154,18 @@ class OptionsRendererTest extends Specification {
     Guicey                    (r.v.dropwizard.guice.GuiceyOptions)
         ScanPackages                   = [com.foo, com.bat]             *CUSTOM
         ScanProtectedClasses           = false
+        UseScanIndex                   = false
+        ScanBytecodeFilter             = false
+        ScanParallel                   = false
+        StartupCache                   = null
         SearchCommands                 = false
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
+        BindConfigurationPathsOnDemand = false
+        ConfigIntrospectionMaxDepth    = 0
+        ConfigIntrospectionMaxPaths    = 0
         AnalyzeGuiceModules            = true
+        RunPhasePipeline               = false
         InjectorStage                  = PRODUCTION
         UseHkBridge                    = false
 
@@ -0,0 +1,48 @@
+package ru.vyarus.dropwizard.guice.resource
+
+import com.codahale.metrics.MetricRegistry
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook
+import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions
+import ru.vyarus.dropwizard.guice.support.resource.PrototypeResource
+import ru.vyarus.dropwizard.guice.support.resource.ResourceSingletonCheckApplication
+import ru.vyarus.dropwizard.guice.support.resource.SingletonResource
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = ResourceSingletonCheckApplication, hooks = XConf)
+class ResourceProvisionTimerTest extends AbstractTest {
+
+    @Inject
+    Environment environment
+
+    void cleanupSpec() {
+        PrototypeResource.reset()
+        SingletonResource.reset()
+    }
+
+    def "Check resource provision timer"() {
+
+        when: "calling prototype resource"
+        new URL("http://localhost:8080/prototype/").getText()
+        new URL("http://localhost:8080/prototype/").getText()
+        then: "resource created with cached provider for each request"
+        PrototypeResource.creationCounter == 2
+        environment.metrics().timer(MetricRegistry.name(PrototypeResource, "provision")).count == 2
+    }
+
+    static class XConf implements GuiceyConfigurationHook {
+        @Override
+        void configure(GuiceBundle.Builder builder) {
+            builder.option(InstallersOptions.ForceSingletonForJerseyExtensions, false)
+                    .option(InstallersOptions.JerseyComponentsProvisionTimer, true)
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import ru.vyarus.dropwizard.guice.module.context.option.Options
+import ru.vyarus.dropwizard.guice.module.context.option.internal.OptionsSupport
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints
+import ru.vyarus.dropwizard.guice.module.installer.feature.LifeCycleInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingletonInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.HealthCheckInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyFeatureInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.provider.JerseyProviderInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.plugin.PluginInstaller
+import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsSupport
+import ru.vyarus.dropwizard.guice.module.installer.internal.InstallerMatchIndex
+import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport
+import ru.vyarus.dropwizard.guice.support.feature.*
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class InstallerMatchIndexTest extends Specification {
+
+    def "Check index recognition"() {
+
+        setup: "installers in default order"
+        List<FeatureInstaller> installers = [LifeCycleInstaller, ManagedInstaller, JerseyFeatureInstaller,
+                                             JerseyProviderInstaller, ResourceInstaller, EagerSingletonInstaller,
+                                             HealthCheckInstaller, TaskInstaller, PluginInstaller].collect {
+            FeatureInstaller inst = it.newInstance()
+            if (inst instanceof InstallerOptionsSupport) {
+                inst.setOptions(new Options(new OptionsSupport()))
+            }
+            inst
+        }
+        InstallerMatchIndex index = new InstallerMatchIndex(installers)
+
+        expect: "same result as with linear search"
+        [DummyTask, DummyResource, DummyManaged, DummyLifeCycle, DummyExceptionMapper, DummyJerseyProvider,
+         DummyFeature, DummyHealthCheck, DummyService, DummyPlugin1, DummyCommand, InvisibleResource, String, Object]
+                .each {
+                    assert index.findInstaller(it) == ExtensionsSupport.findInstaller(it, installers)
+                }
+    }
+
+    def "Check only plausible installers called"() {
+
+        setup:
+        CountingInstaller hinted = new CountingInstaller(hints: true)
+        CountingInstaller notHinted = new CountingInstaller(hints: false)
+        InstallerMatchIndex index = new InstallerMatchIndex([hinted, notHinted] as List<FeatureInstaller>)
+
+        when: "searching installer for not matching class"
+        index.findInstaller(String)
+        then: "only not hinted installer called"
+        hinted.calls == 0
+        notHinted.calls == 1
+
+        when: "searching installer for class with annotation"
+        index.findInstaller(DummyService)
+        then: "installers called in order"
+        hinted.calls == 1
+        notHinted.calls == 1
+    }
+
+    static class CountingInstaller implements FeatureInstaller {
+        boolean hints
+        int calls
+
+        @Override
+        boolean matches(Class<?> type) {
+            calls++
+            return true
+        }
+
+        @Override
+        MatchHints getMatchHints() {
+            return hints ? MatchHints.annotations(EagerSingleton) : null
+        }
+
+        @Override
+        void report() {
+        }
+    }
+}
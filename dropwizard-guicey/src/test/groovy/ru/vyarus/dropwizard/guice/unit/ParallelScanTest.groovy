@@ -0,0 +1,51 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner
+import ru.vyarus.dropwizard.guice.module.installer.scanner.util.OReflectionHelper
+import spock.lang.Specification
+
+import java.util.concurrent.ForkJoinPool
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ParallelScanTest extends Specification {
+
+    def "Check parallel names collection"() {
+
+        when: "collecting class names from jar and directory"
+        ClassLoader loader = Thread.currentThread().getContextClassLoader()
+        ForkJoinPool pool = new ForkJoinPool(2)
+        List<String> jar = OReflectionHelper.getClassNamesFor("io.dropwizard.core", loader, pool)
+        List<String> dir = OReflectionHelper.getClassNamesFor("ru.vyarus.dropwizard.guice.support", loader, pool)
+        pool.shutdown()
+
+        then: "order is the same as for sequential traversal"
+        jar.size() > 0
+        dir.size() > 0
+        jar == OReflectionHelper.getClassNamesFor("io.dropwizard.core", loader)
+        dir == OReflectionHelper.getClassNamesFor("ru.vyarus.dropwizard.guice.support", loader)
+    }
+
+    def "Check parallel scan"() {
+
+        setup:
+        Set<String> packages = ["ru.vyarus.dropwizard.guice.support", "io.dropwizard.core"] as Set
+
+        when: "scanning sequentially and in parallel"
+        List<Class> sequential = []
+        new ClasspathScanner(packages, false, true, false, false, new StatsTracker()).scan({ sequential.add(it) })
+        StatsTracker tracker = new StatsTracker()
+        List<Class> parallel = []
+        new ClasspathScanner(packages, false, true, false, true, tracker).scan({ parallel.add(it) })
+
+        then: "same classes in the same order"
+        sequential.size() > 0
+        parallel == sequential
+        tracker.counters[Stat.ScanClassesCount] > 0
+        tracker.counters[Stat.ScanAcceptedClassesCount] == parallel.size()
+    }
+}
@@ -0,0 +1,127 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import org.slf4j.LoggerFactory
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker
+import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner
+import ru.vyarus.dropwizard.guice.module.installer.scanner.index.ScanIndex
+import ru.vyarus.dropwizard.guice.module.installer.scanner.index.ScanIndexProcessor
+import ru.vyarus.dropwizard.guice.support.feature.DummyManaged
+import ru.vyarus.dropwizard.guice.support.feature.DummyResource
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import javax.tools.JavaCompiler
+import javax.tools.ToolProvider
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ScanIndexTest extends Specification {
+
+    @TempDir
+    Path dir
+
+    def "Check index generation"() {
+
+        setup: "prepare source"
+        Path src = dir.resolve("src/idx/sample/Sample.java")
+        Files.createDirectories(src.parent)
+        src.text = """
+package idx.sample;
+
+public class Sample {
+    public static class Nested {}
+    protected static class Prot {}
+    public class Inner {}
+    private static class Hidden {}
+    public @interface Ann {}
+    public interface Iface {}
+}
+"""
+        Path out = dir.resolve("classes")
+        Files.createDirectories(out)
+
+        when: "compiling with processor"
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler()
+        int res = compiler.run(null, null, null,
+                "-proc:only", "-processor", ScanIndexProcessor.name,
+                "-processorpath", [ScanIndexProcessor, LoggerFactory]
+                .collect { Paths.get(it.protectionDomain.codeSource.location.toURI()).toString() }
+                .join(File.pathSeparator),
+                "-d", out.toString(), src.toString())
+        then: "index generated"
+        res == 0
+        ScanIndex.parse(Files.newInputStream(out.resolve(ScanIndex.LOCATION))) as List == [
+                'idx.sample.Sample',
+                'idx.sample.Sample$Iface',
+                'idx.sample.Sample$Nested',
+                'idx.sample.Sample$Prot']
+    }
+
+    def "Check indexed scan"() {
+
+        setup: "prepare indexed location"
+        Files.createDirectories(dir.resolve("ru/vyarus/dropwizard/guice/support/feature"))
+        Files.createDirectories(dir.resolve(ScanIndex.LOCATION).parent)
+        dir.resolve(ScanIndex.LOCATION).text = """# comment
+ru.vyarus.dropwizard.guice.support.feature.DummyManaged
+ru.vyarus.dropwizard.guice.support.feature.DummyResource
+ru.vyarus.dropwizard.guice.support.feature.InvisibleResource
+ru.vyarus.dropwizard.guice.support.feature.RemovedClass
+ru.vyarus.dropwizard.guice.support.auto2.SampleResource
+"""
+        ClassLoader loader = new IndexOnlyLoader(dir, getClass().classLoader)
+
+        when: "reading index"
+        Set<String> names = ScanIndex.getClassNamesFor("ru.vyarus.dropwizard.guice.support.feature", loader)
+        then: "only package classes selected"
+        names as List == [
+                'ru.vyarus.dropwizard.guice.support.feature.DummyManaged',
+                'ru.vyarus.dropwizard.guice.support.feature.DummyResource',
+                'ru.vyarus.dropwizard.guice.support.feature.InvisibleResource',
+                'ru.vyarus.dropwizard.guice.support.feature.RemovedClass']
+
+        when: "scanning with index"
+        ClassLoader original = Thread.currentThread().contextClassLoader
+        Thread.currentThread().contextClassLoader = loader
+        StatsTracker tracker = new StatsTracker()
+        List<Class> found = []
+        try {
+            new ClasspathScanner(['ru.vyarus.dropwizard.guice.support.feature'] as Set, false, true, false, tracker)
+                    .scan({ found.add(it) })
+        } finally {
+            Thread.currentThread().contextClassLoader = original
+        }
+        then: "only indexed classes loaded"
+        found == [DummyManaged, DummyResource]
+        tracker.counters[Stat.ScanClassesCount] == 3
+        tracker.counters[Stat.ScanIndexedClassesCount] == 3
+    }
+
+    def "Check not indexed package"() {
+
+        when: "reading not indexed package"
+        Set<String> names = ScanIndex.getClassNamesFor("ru.vyarus.dropwizard.guice.support.feature",
+                getClass().classLoader)
+        then: "no index"
+        names == null
+    }
+
+    // limit package resources to indexed directory only
+    static class IndexOnlyLoader extends URLClassLoader {
+
+        IndexOnlyLoader(Path dir, ClassLoader parent) {
+            super([dir.toUri().toURL()] as URL[], parent)
+        }
+
+        @Override
+        Enumeration<URL> getResources(String name) throws IOException {
+            return findResources(name)
+        }
+    }
+}
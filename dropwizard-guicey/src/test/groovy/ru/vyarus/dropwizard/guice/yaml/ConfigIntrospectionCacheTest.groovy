@@ -0,0 +1,129 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.fasterxml.jackson.annotation.JsonIgnore
+import com.fasterxml.jackson.databind.MapperFeature
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexConfig
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import java.time.Duration
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class ConfigIntrospectionCacheTest extends Specification {
+
+    @Inject
+    Bootstrap bootstrap
+
+    def "Check cached introspection"() {
+
+        setup:
+        ComplexConfig config = create(ComplexConfig)
+        StatsTracker tracker = new StatsTracker()
+
+        when: "building tree twice"
+        ConfigurationTree first = ConfigTreeBuilder.build(bootstrap, config)
+        ConfigurationTree second = ConfigTreeBuilder.build(bootstrap, config, true, 0, 0, tracker)
+
+        then: "metadata taken from cache"
+        tracker.counters[Stat.ConfigIntrospectionCacheHits] > 0
+        tracker.times[Stat.ConfigIntrospectionSavedTime] > Duration.ZERO
+        new StatsInfo(tracker).duration(Stat.ConfigIntrospectionSavedTime) > Duration.ZERO
+
+        and: "same result"
+        second.paths*.toString() == first.paths*.toString()
+        second.uniqueTypePaths*.path as Set == first.uniqueTypePaths*.path as Set
+    }
+
+    def "Check cache not used with mixins"() {
+
+        setup:
+        ComplexConfig config = create(ComplexConfig)
+        Bootstrap mixinBootstrap = new Bootstrap(new App())
+        mixinBootstrap.setObjectMapper(bootstrap.objectMapper.copy().addMixIn(ComplexConfig, Mixin))
+        StatsTracker tracker = new StatsTracker()
+
+        when: "building tree twice with mixin"
+        ConfigTreeBuilder.build(mixinBootstrap, config)
+        ConfigTreeBuilder.build(mixinBootstrap, config, true, 0, 0, tracker)
+
+        then: "cache not used"
+        !tracker.counters.containsKey(Stat.ConfigIntrospectionCacheHits)
+    }
+
+    def "Check mapper features affect cache"() {
+
+        setup:
+        ComplexConfig config = create(ComplexConfig)
+        ObjectMapper mapper = bootstrap.objectMapper.copy()
+        mapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY,
+                !mapper.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY))
+        Bootstrap featureBootstrap = new Bootstrap(new App())
+        featureBootstrap.setObjectMapper(mapper)
+        StatsTracker tracker = new StatsTracker()
+
+        when: "building tree with default mapper and with changed mapper feature"
+        ConfigTreeBuilder.build(bootstrap, config)
+        ConfigTreeBuilder.build(featureBootstrap, config, true, 0, 0, tracker)
+
+        then: "metadata cached for default mapper is not used"
+        !tracker.counters.containsKey(Stat.ConfigIntrospectionCacheHits)
+    }
+
+    def "Check introspection limits"() {
+
+        setup:
+        ComplexConfig config = create(ComplexConfig)
+
+        when: "depth limited"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, config, true, 1, 0, null)
+
+        then: "only root paths"
+        !tree.paths.isEmpty()
+        tree.paths.every { !it.path.contains('.') }
+        tree.findByPath('sub') != null
+
+        when: "paths count limited"
+        tree = ConfigTreeBuilder.build(bootstrap, config, true, 0, 3, null)
+
+        then: "only 3 paths introspected"
+        tree.paths.size() == 3
+    }
+
+    static abstract class Mixin {
+        @JsonIgnore
+        abstract Object getSub()
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    private <T extends Configuration> T create(Class<T> type) {
+        bootstrap.configurationFactoryFactory
+                .create(type, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw").build()
+    }
+}
@@ -0,0 +1,88 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.AbstractModule
+import com.google.inject.Binding
+import com.google.inject.Injector
+import com.google.inject.Key
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.server.ServerFactory
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.GuiceyOptions
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigImpl
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+
+import jakarta.inject.Inject
+import jakarta.inject.Provider
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class ConfigPathsOnDemandTest extends AbstractTest {
+
+    @Inject
+    Injector injector
+
+    def "Check only required paths bound"() {
+
+        expect: "root and unique bindings"
+        injector.getExistingBinding(Key.get(ConfigurationTree)) != null
+        injector.getExistingBinding(Key.get(Configuration)) != null
+        injector.getExistingBinding(Key.get(ServerFactory, Config)) != null
+
+        and: "required paths bound"
+        injector.getInstance(Service).max == 64
+        injector.getInstance(Service).dep.min.get() == 1
+
+        and: "not required paths not bound"
+        pathBinding(String, "server.applicationContextPath") == null
+        pathBinding(Integer, "server.maxThreads") == null
+    }
+
+    private Binding pathBinding(Class type, String path) {
+        injector.getExistingBinding(Key.get(type, new ConfigImpl(path)))
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(Service)
+                        }
+                    })
+                    .option(GuiceyOptions.BindConfigurationPathsOnDemand, true)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Service {
+        @Inject
+        @Config("server.adminMaxThreads")
+        Integer max
+
+        @Inject
+        Dep dep
+    }
+
+    // just-in-time binding
+    static class Dep {
+        @Inject
+        @Config("server.adminMinThreads")
+        Provider<Integer> min
+    }
+}
@@ -0,0 +1,100 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.name.Named
+import com.google.inject.name.Names
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class ConfigTreeIndexTest extends Specification {
+
+    @Inject
+    Bootstrap bootstrap
+
+    def "Check indexed search equals to sequential search"() {
+
+        when: "building tree"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, create(Config))
+        List<ConfigPath> paths = tree.paths
+
+        then: "path search is case insensitive"
+        paths.each {
+            assert tree.findByPath(it.path).is(it)
+            assert tree.findByPath(it.path.toUpperCase()).is(it)
+        }
+        tree.findByPath('sub.FOO').path == 'sub.foo'
+        tree.findByPath('unknown') == null
+
+        and: "type search includes supertypes and interfaces"
+        [Sub, SubExt, Iface, Object, Configuration, String].each { type ->
+            assert tree.findAllByType(type) == paths.findAll { it.customType && type.isAssignableFrom(it.declaredType) }
+        }
+        tree.findAllByType(Iface)*.path == ['ext', 'sub']
+        tree.findAllByType(String).isEmpty()
+
+        and: "annotation search"
+        tree.findAllByAnnotation(Names.named('one'))*.path == ['one']
+        tree.findAllByAnnotation(Named)*.path == ['one', 'two']
+        tree.findAllByAnnotation(Names.named('none')).isEmpty()
+
+        and: "declaration search"
+        tree.findAllFrom(Config) == paths.findAll { it.rootDeclarationClass == Config }
+        tree.findAllRootPaths() == paths.findAll { !it.path.contains('.') }
+        tree.findAllRootPathsFrom(Config)*.path == ['ext', 'one', 'sub', 'two']
+        tree.valueByUniqueDeclaredType(SubExt).is(tree.valueByPath('ext'))
+
+        and: "search results could be modified"
+        tree.findAllByType(Iface).clear() == null
+        tree.findAllByType(Iface).size() == 2
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    private <T extends Configuration> T create(Class<T> type) {
+        bootstrap.configurationFactoryFactory
+                .create(type, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw").build()
+    }
+
+    static class Config extends Configuration {
+        Sub sub = new Sub()
+        SubExt ext = new SubExt()
+        @Named('one')
+        String one = '1'
+        @Named('two')
+        String two = '2'
+    }
+
+    static interface Iface {}
+
+    static class Sub implements Iface {
+        String foo = 'foo'
+    }
+
+    static class SubExt extends Sub {
+        String bar = 'bar'
+    }
+}
@@ -1,16 +1,30 @@
 package ru.vyarus.guicey.eventbus;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Preconditions;
+import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
+import io.dropwizard.core.setup.Environment;
+import io.dropwizard.lifecycle.setup.ExecutorServiceBuilder;
 import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
 import ru.vyarus.guicey.eventbus.module.EventBusModule;
 import ru.vyarus.guicey.eventbus.module.TypeLiteralAdapterMatcher;
+import ru.vyarus.guicey.eventbus.async.MeteredExecutor;
+import ru.vyarus.guicey.eventbus.async.RejectionPolicy;
+import ru.vyarus.guicey.eventbus.async.SubscriberMetricsInterceptor;
 import ru.vyarus.guicey.eventbus.report.EventSubscribersReporter;
 import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * Binds support for single (!) event bus. {@link EventBus} available for injection (to publish events).
  * All guice beans with methods annotated with {@link com.google.common.eventbus.Subscribe} are
@@ -27,6 +41,14 @@ import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
  *          .withMatcher(Matchers.inSubpackage("some.package"))
  * </code></pre>
  * <p>
+ * Asynchronous events processing with bounded executor (and subscribers metrics) could be enabled with
+ * {@link #async(int, int)}:
+ * <pre><code>
+ *     new EventBusBundle()
+ *          .async(4, 1000)
+ *          .withRejectionPolicy(RejectionPolicy.CALLER_RUNS)
+ * </code></pre>
+ * <p>
  * Reflection is used for registered listeners printing (no way otherwise to get registered subscribers).
  * If there will be any problems with it, simply disable reporting.
  * <p>
@@ -39,15 +61,21 @@ import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
  */
 public class EventBusBundle extends UniqueGuiceyBundle {
 
+    private static final String DEFAULT_BUS = "bus";
+
     private final EventBus eventbus;
     private Matcher<? super TypeLiteral<?>> typeMatcher = Matchers.any();
     private boolean report = true;
+    private int asyncThreads;
+    private int asyncQueueSize;
+    private ThreadFactory threadFactory;
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.FAIL;
 
     /**
-     * Register default event bus. Events processing is synchronous.
+     * Register default event bus. Events processing is synchronous (see {@link #async(int, int)}).
      */
     public EventBusBundle() {
-        this(new EventBus("bus"));
+        this.eventbus = null;
     }
 
     /**
@@ -77,6 +105,57 @@ public class EventBusBundle extends UniqueGuiceyBundle {
         return this;
     }
 
+    /**
+     * Enable asynchronous events processing: each subscriber call is performed in bounded executor (managed by
+     * dropwizard lifecycle), so slow subscribers would not block publisher thread. When executor queue is full,
+     * rejection policy is applied (see {@link #withRejectionPolicy(RejectionPolicy)}).
+     * <p>
+     * Metrics are registered in dropwizard metrics registry: pending calls counter ({@code eventbus.bus.pending}),
+     * latency timer from publication to processing end ({@code eventbus.bus.latency}), executor queue size gauge
+     * ({@code eventbus.bus.queue}) and rejected calls meter ({@code eventbus.bus.rejected}). Per-subscriber latency
+     * timer ({@code eventbus.bus.[subscriber class].latency}) is tracked with guice aop (only for guice-created
+     * subscribers, see {@link SubscriberMetricsInterceptor}).
+     * <p>
+     * Not thread safe subscribers (without {@link com.google.common.eventbus.AllowConcurrentEvents}) are still
+     * called sequentially. Not applicable for custom event bus instance (registered with constructor).
+     *
+     * @param threads   executor threads count
+     * @param queueSize executor queue capacity
+     * @return bundle instance for chained calls
+     */
+    public EventBusBundle async(final int threads, final int queueSize) {
+        Preconditions.checkState(eventbus == null, "Async mode could not be used with custom event bus instance");
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        Preconditions.checkArgument(queueSize > 0, "Queue size must be positive");
+        this.asyncThreads = threads;
+        this.asyncQueueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * Custom thread factory for asynchronous mode (see {@link #async(int, int)}). For example, on java 21
+     * virtual threads could be used: {@code .withThreadFactory(Thread.ofVirtual().name("eventbus-", 0).factory())}.
+     *
+     * @param threadFactory thread factory for executor
+     * @return bundle instance for chained calls
+     */
+    public EventBusBundle withThreadFactory(final ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+        return this;
+    }
+
+    /**
+     * Asynchronous mode (see {@link #async(int, int)}) behaviour when executor queue is full. By default,
+     * {@link RejectionPolicy#FAIL} used.
+     *
+     * @param policy rejection policy
+     * @return bundle instance for chained calls
+     */
+    public EventBusBundle withRejectionPolicy(final RejectionPolicy policy) {
+        this.rejectionPolicy = Preconditions.checkNotNull(policy, "Policy required");
+        return this;
+    }
+
     /**
      * If you have a lot of listeners or events or simply don't want console reporting use this method.
      * <p>
@@ -92,7 +171,17 @@ public class EventBusBundle extends UniqueGuiceyBundle {
 
     @Override
     public void run(final GuiceyEnvironment environment) {
-        environment.modules(new EventBusModule(eventbus, typeMatcher));
+        final EventBus bus;
+        SubscriberMetricsInterceptor interceptor = null;
+        if (eventbus != null) {
+            bus = eventbus;
+        } else if (asyncThreads > 0) {
+            bus = createAsyncBus(environment.environment());
+            interceptor = new SubscriberMetricsInterceptor(DEFAULT_BUS, environment.environment().metrics());
+        } else {
+            bus = new EventBus(DEFAULT_BUS);
+        }
+        environment.modules(new EventBusModule(bus, typeMatcher, interceptor));
 
         if (report) {
             // report after application startup to count events, resolved from JIT-created services (not declared)
@@ -103,4 +192,22 @@ public class EventBusBundle extends UniqueGuiceyBundle {
             });
         }
     }
+
+    private EventBus createAsyncBus(final Environment environment) {
+        final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(asyncQueueSize);
+        final ExecutorServiceBuilder builder = environment.lifecycle()
+                .executorService("eventbus-%d")
+                .minThreads(asyncThreads)
+                .maxThreads(asyncThreads)
+                .workQueue(queue)
+                // rejections handled by metered executor
+                .rejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        if (threadFactory != null) {
+            builder.threadFactory(threadFactory);
+        }
+        final MetricRegistry metrics = environment.metrics();
+        metrics.register(MetricRegistry.name("eventbus", DEFAULT_BUS, "queue"), (Gauge<Integer>) queue::size);
+        return new AsyncEventBus(DEFAULT_BUS,
+                new MeteredExecutor(DEFAULT_BUS, builder.build(), rejectionPolicy, metrics));
+    }
 }
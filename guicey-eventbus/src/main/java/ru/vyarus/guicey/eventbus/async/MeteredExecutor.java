@@ -0,0 +1,103 @@
+package ru.vyarus.guicey.eventbus.async;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor decorator for {@link com.google.common.eventbus.AsyncEventBus}: event bus submits each subscriber call
+ * into executor, so decorator tracks pending calls count ({@code eventbus.[bus].pending} counter), latency from
+ * event publication to processing end ({@code eventbus.[bus].latency} timer) and rejected calls
+ * ({@code eventbus.[bus].rejected} meter). Rejected calls are handled according to {@link RejectionPolicy}.
+ * <p>
+ * Publication time is available for subscriber calls (see {@link SubscriberMetricsInterceptor}) to track
+ * per-subscriber latency.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.guicey.eventbus.EventBusBundle#async(int, int)
+ * @since 18.10.2026
+ */
+public class MeteredExecutor implements Executor {
+
+    private static final ThreadLocal<Long> PUBLISHED = new ThreadLocal<>();
+
+    private final Executor executor;
+    private final RejectionPolicy policy;
+    private final Counter pending;
+    private final Timer latency;
+    private final Meter rejected;
+
+    /**
+     * Create metered executor.
+     *
+     * @param identifier event bus name (used in metric names)
+     * @param executor   executor for subscribers calls
+     * @param policy     behaviour for rejected subscriber calls
+     * @param metrics    metrics registry
+     */
+    public MeteredExecutor(final String identifier,
+                           final Executor executor,
+                           final RejectionPolicy policy,
+                           final MetricRegistry metrics) {
+        this.executor = executor;
+        this.policy = policy;
+        final String prefix = MetricRegistry.name("eventbus", identifier);
+        this.pending = metrics.counter(MetricRegistry.name(prefix, "pending"));
+        this.latency = metrics.timer(MetricRegistry.name(prefix, "latency"));
+        this.rejected = metrics.meter(MetricRegistry.name(prefix, "rejected"));
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        final long published = System.nanoTime();
+        pending.inc();
+        final Runnable task = () -> {
+            pending.dec();
+            PUBLISHED.set(published);
+            try {
+                command.run();
+            } finally {
+                PUBLISHED.remove();
+                latency.update(System.nanoTime() - published, TimeUnit.NANOSECONDS);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            rejected(task, ex);
+        }
+    }
+
+    /**
+     * Publication time is available only for the first subscriber method call inside executed task (so direct
+     * calls of other subscribers methods would not be counted).
+     *
+     * @return publication time of currently processed event (in nanoseconds) or null if called outside of
+     * subscriber call
+     */
+    static Long takePublicationTime() {
+        final Long res = PUBLISHED.get();
+        PUBLISHED.remove();
+        return res;
+    }
+
+    private void rejected(final Runnable task, final RejectedExecutionException ex) {
+        rejected.mark();
+        switch (policy) {
+            case CALLER_RUNS:
+                task.run();
+                break;
+            case DISCARD:
+                pending.dec();
+                break;
+            default:
+                pending.dec();
+                throw ex;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ru.vyarus.guicey.eventbus.async;
+
+/**
+ * Asynchronous event bus behaviour when executor queue is full (see
+ * {@link ru.vyarus.guicey.eventbus.EventBusBundle#async(int, int)}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public enum RejectionPolicy {
+
+    /**
+     * Fail event publication: {@link java.util.concurrent.RejectedExecutionException} thrown from
+     * {@link com.google.common.eventbus.EventBus#post(Object)} (remaining subscribers stay in event bus dispatch
+     * queue and would be notified on next event publication).
+     */
+    FAIL,
+    /**
+     * Process event in publisher thread (natural backpressure: publisher slows down when subscribers can't
+     * keep up).
+     */
+    CALLER_RUNS,
+    /**
+     * Silently skip event processing for subscriber (only counted in rejections metric).
+     */
+    DISCARD
+}
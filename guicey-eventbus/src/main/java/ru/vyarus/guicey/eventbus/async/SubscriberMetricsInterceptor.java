@@ -0,0 +1,65 @@
+package ru.vyarus.guicey.eventbus.async;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subscriber methods ({@link com.google.common.eventbus.Subscribe}) interceptor, tracking per-subscriber latency
+ * from event publication to subscriber call end ({@code eventbus.[bus].[subscriber class].latency} timer).
+ * Timer is shared by all subscriber methods of the same class. Publication time is provided by
+ * {@link MeteredExecutor} (direct subscriber methods calls are not counted).
+ * <p>
+ * Works only for subscribers, created by guice (guice aop).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class SubscriberMetricsInterceptor implements MethodInterceptor {
+
+    private final String prefix;
+    private final MetricRegistry metrics;
+    private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Create interceptor.
+     *
+     * @param identifier event bus name (used in metric names)
+     * @param metrics    metrics registry
+     */
+    public SubscriberMetricsInterceptor(final String identifier, final MetricRegistry metrics) {
+        this.prefix = MetricRegistry.name("eventbus", identifier);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final Long published = MeteredExecutor.takePublicationTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            if (published != null) {
+                timers.computeIfAbsent(getSubscriberType(invocation.getThis()), this::createTimer)
+                        .update(System.nanoTime() - published, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Timer createTimer(final Class<?> type) {
+        return metrics.timer(MetricRegistry.name(prefix, type.getName(), "latency"));
+    }
+
+    private Class<?> getSubscriberType(final Object instance) {
+        // guice aop proxy class
+        Class<?> cls = instance.getClass();
+        while (cls.getSuperclass() != Object.class && cls.getSimpleName().contains("$$")) {
+            cls = cls.getSuperclass();
+        }
+        return cls;
+    }
+}
@@ -5,9 +5,11 @@ import com.google.common.eventbus.Subscribe;
 import com.google.inject.AbstractModule;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
+import com.google.inject.matcher.Matchers;
 import com.google.inject.spi.InjectionListener;
 import com.google.inject.spi.TypeEncounter;
 import com.google.inject.spi.TypeListener;
+import org.aopalliance.intercept.MethodInterceptor;
 import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
 
 import jakarta.inject.Singleton;
@@ -16,6 +18,8 @@ import jakarta.inject.Singleton;
  * Module binds provided {@link EventBus} instance. Publishers should inject event bus for posting events.
  * Listeners must only define method with event as argument and annotated with {@link Subscribe}. All guice beans
  * with annotated methods registered automatically.
+ * <p>
+ * Optional subscriber methods interceptor could be specified (e.g. to track subscribers metrics).
  *
  * @author Vyacheslav Rusakov
  * @see EventSubscribersInfo guice bean registered for programmatic subscribers info access
@@ -25,6 +29,7 @@ public class EventBusModule extends AbstractModule {
 
     private final EventBus eventbus;
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
+    private final MethodInterceptor subscriberInterceptor;
 
     /**
      * Create event bus module.
@@ -34,8 +39,22 @@ public class EventBusModule extends AbstractModule {
      */
     public EventBusModule(final EventBus eventbus,
                           final Matcher<? super TypeLiteral<?>> typeMatcher) {
+        this(eventbus, typeMatcher, null);
+    }
+
+    /**
+     * Create event bus module.
+     *
+     * @param eventbus              event bus instance
+     * @param typeMatcher           matcher for classes to search listener methods in
+     * @param subscriberInterceptor interceptor for subscriber methods (of guice-created beans) or null
+     */
+    public EventBusModule(final EventBus eventbus,
+                          final Matcher<? super TypeLiteral<?>> typeMatcher,
+                          final MethodInterceptor subscriberInterceptor) {
         this.eventbus = eventbus;
         this.typeMatcher = typeMatcher;
+        this.subscriberInterceptor = subscriberInterceptor;
     }
 
     @Override
@@ -44,6 +63,9 @@ public class EventBusModule extends AbstractModule {
         bind(EventSubscribersInfo.class).in(Singleton.class);
 
         bindListener();
+        if (subscriberInterceptor != null) {
+            bindInterceptor(Matchers.any(), Matchers.annotatedWith(Subscribe.class), subscriberInterceptor);
+        }
     }
 
     @SuppressWarnings("unchecked")
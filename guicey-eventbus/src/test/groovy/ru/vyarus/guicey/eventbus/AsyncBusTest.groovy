@@ -0,0 +1,103 @@
+package ru.vyarus.guicey.eventbus
+
+import com.codahale.metrics.MetricRegistry
+import com.google.common.eventbus.EventBus
+import com.google.common.eventbus.Subscribe
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.eventbus.async.RejectionPolicy
+import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo
+import ru.vyarus.guicey.eventbus.support.Event1
+import ru.vyarus.guicey.eventbus.support.HasEvents
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import jakarta.inject.Inject
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class AsyncBusTest extends Specification {
+
+    @Inject
+    EventBus bus
+    @Inject
+    Service service // trigger JIT binding
+    @Inject
+    EventSubscribersInfo info
+    @Inject
+    Environment environment
+
+    def "Check async processing"() {
+
+        expect: "listeners registered"
+        info.getListenerTypes(Event1) == [Service] as Set
+
+        when: "publish events with blocked subscriber"
+        MetricRegistry metrics = environment.metrics()
+        String name = "eventbus.bus.${Service.name}"
+        bus.post(new Event1())
+        assert service.started.await(1, TimeUnit.SECONDS)
+        // queued
+        bus.post(new Event1())
+        // rejected
+        bus.post(new Event1())
+        then: "publisher not blocked"
+        metrics.counter('eventbus.bus.pending').count == 1
+        metrics.meter('eventbus.bus.rejected').count == 1
+        metrics.gauges['eventbus.bus.queue'].value == 1
+
+        when: "subscriber released"
+        service.release.countDown()
+        assert service.processed.await(1, TimeUnit.SECONDS)
+        then: "queued event processed"
+        service.calls == 2
+        metrics.counter('eventbus.bus.pending').count == 0
+        // latency recorded after subscriber call
+        new PollingConditions(timeout: 1).eventually {
+            assert metrics.timer("${name}.latency").count == 2
+            assert metrics.timer('eventbus.bus.latency').count == 2
+        }
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new EventBusBundle()
+                            .async(1, 1)
+                            .withRejectionPolicy(RejectionPolicy.DISCARD))
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @HasEvents
+    static class Service {
+
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        CountDownLatch processed = new CountDownLatch(2)
+        volatile int calls
+
+        @Subscribe
+        void onEvent1(Event1 event) {
+            calls++
+            started.countDown()
+            release.await()
+            processed.countDown()
+        }
+    }
+}
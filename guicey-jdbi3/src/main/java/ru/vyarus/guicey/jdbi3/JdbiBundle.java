@@ -52,6 +52,9 @@ import java.util.function.Consumer;
  * automatically.</li>
  * </ul>
  * <p>
+ * Read replica could be configured with {@link #withReadReplica(ConfigAwareProvider)}: read-only transactions
+ * would be executed on replica, and all other transactions on the main database.
+ * <p>
  *  Only one bundle instance will be actually used (in case of multiple registrations).
  *
  * @author Vyacheslav Rusakov
@@ -65,6 +68,7 @@ import java.util.function.Consumer;
 public final class JdbiBundle extends UniqueGuiceyBundle {
 
     private final ConfigAwareProvider<Jdbi, ?> jdbi;
+    private ConfigAwareProvider<Jdbi, ?> replica;
     private List<Class<? extends Annotation>> txAnnotations = ImmutableList
             .<Class<? extends Annotation>>builder()
             .add(InTransaction.class)
@@ -104,7 +108,7 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
 
     /**
      * Manual jdbi instance configuration. Configuration will be called just after jdbi object creation
-     * (on run dropwizard phase), but before guice injector creation.
+     * (on run dropwizard phase), but before guice injector creation. Also applied to read replica jdbi (if configured).
      *
      * @param configurer configuration action
      * @return bundle instance for chained calls
@@ -114,6 +118,36 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
         return this;
     }
 
+    /**
+     * Register read replica database. Read-only transactions (e.g. {@code @InTransaction(readOnly = true)}) would
+     * be executed on replica and all other transactions on the main database. Jdbi plugins, configuration and
+     * row mappers are applied to both jdbi instances.
+     * <p>
+     * Note that read-only transaction could not be upgraded to write transaction (nested write transaction
+     * inside read-only transaction fails).
+     *
+     * @param replica replica jdbi provider
+     * @param <C>     configuration type
+     * @return bundle instance for chained calls
+     */
+    public <C extends Configuration> JdbiBundle withReadReplica(final ConfigAwareProvider<Jdbi, C> replica) {
+        this.replica = replica;
+        return this;
+    }
+
+    /**
+     * Shortcut for {@link #withReadReplica(ConfigAwareProvider)} for registration of replica with database
+     * configuration only (replica jdbi would be registered as "replica" in dropwizard health checks and metrics).
+     *
+     * @param db  replica database configuration provider
+     * @param <C> configuration type
+     * @return bundle instance for chained calls
+     */
+    public <C extends Configuration> JdbiBundle withReadReplicaDatabase(
+            final ConfigAwareProvider<PooledDataSourceFactory, C> db) {
+        return withReadReplica(new SimpleDbiProvider<>(db, "replica"));
+    }
+
     /**
      * By default, repository beans (annotated with {@link JdbiRepository}) are initialized on first method call.
      * Lazy initialization is required to properly add all registered jdbi extensions. Also, this slightly speed
@@ -139,13 +173,11 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
 
     @Override
     public void run(final GuiceyEnvironment environment) {
-        final Jdbi jdbi = this.jdbi.get(environment.configuration(), environment.environment());
-        plugins.forEach(jdbi::installPlugin);
-        if (configurer != null) {
-            configurer.accept(jdbi);
-        }
+        final Jdbi jdbi = configure(this.jdbi.get(environment.configuration(), environment.environment()));
+        final Jdbi replica = this.replica == null ? null
+                : configure(this.replica.get(environment.configuration(), environment.environment()));
 
-        environment.modules(new JdbiModule(jdbi, txAnnotations));
+        environment.modules(new JdbiModule(jdbi, replica, txAnnotations));
         if (eagerInit) {
             // eager repository proxies creation
             environment.onApplicationStartup(this::performEagerInitialization);
@@ -175,6 +207,14 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
         return forDbi(new SimpleDbiProvider<>(db));
     }
 
+    private Jdbi configure(final Jdbi jdbi) {
+        plugins.forEach(jdbi::installPlugin);
+        if (configurer != null) {
+            configurer.accept(jdbi);
+        }
+        return jdbi;
+    }
+
     @SuppressWarnings("PMD.UseDiamondOperator")
     private void performEagerInitialization(final Injector injector) {
         final Set<SqlObjectProvider> proxies = injector.getInstance(
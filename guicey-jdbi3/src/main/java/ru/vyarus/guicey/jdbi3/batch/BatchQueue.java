@@ -0,0 +1,160 @@
+package ru.vyarus.guicey.jdbi3.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue of batched repository calls (see {@link Batched}) of current unit of work. Queued calls are executed in
+ * order: sequential calls of the same method are grouped into one jdbc batch.
+ * <p>
+ * Queue is thread-safe because it is shared with tasks of propagated unit of work (see
+ * {@link ru.vyarus.guicey.jdbi3.unit.UnitManager#propagate(java.util.concurrent.Callable)}): calls are queued
+ * and flushed under the same lock (lock is used instead of synchronization to avoid virtual threads pinning).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BatchQueue {
+    private final Logger logger = LoggerFactory.getLogger(BatchQueue.class);
+
+    private final List<Call> calls = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Queue batched call.
+     *
+     * @param target jdbi proxy instance
+     * @param method batch method (annotated with {@link org.jdbi.v3.sqlobject.statement.SqlBatch})
+     * @param args   call arguments
+     * @return queue size
+     */
+    public int add(final Object target, final Method method, final Object... args) {
+        lock.lock();
+        try {
+            calls.add(new Call(target, method, args));
+            return calls.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return queued calls count
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return calls.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all queued calls.
+     *
+     * @return removed calls count
+     */
+    public int clear() {
+        lock.lock();
+        try {
+            final int res = calls.size();
+            calls.clear();
+            return res;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Execute all queued calls. Queue is cleared even in case of execution error.
+     *
+     * @return update counts for each queued call (in order of calls) or {@link Statement#SUCCESS_NO_INFO} when
+     * batch method does not return counts
+     * @throws Throwable batch execution error
+     */
+    public int[] flush() throws Throwable {
+        // calls executed under lock to preserve calls order between threads
+        lock.lock();
+        try {
+            return doFlush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int[] doFlush() throws Throwable {
+        if (calls.isEmpty()) {
+            return new int[0];
+        }
+        final List<Call> queue = new ArrayList<>(calls);
+        calls.clear();
+        final int[] res = new int[queue.size()];
+        int start = 0;
+        while (start < queue.size()) {
+            final Call first = queue.get(start);
+            int end = start + 1;
+            while (end < queue.size() && first.isSameBatch(queue.get(end))) {
+                end++;
+            }
+            final int[] counts = execute(first, queue.subList(start, end));
+            System.arraycopy(counts, 0, res, start, counts.length);
+            start = end;
+        }
+        return res;
+    }
+
+    private int[] execute(final Call first, final List<Call> batch) throws Throwable {
+        final Object[] args = new Object[first.args.length];
+        for (int i = 0; i < args.length; i++) {
+            final List<Object> values = new ArrayList<>(batch.size());
+            for (Call call : batch) {
+                values.add(call.args[i]);
+            }
+            args[i] = values;
+        }
+        logger.trace("Batch {} execution for {} calls", first.method, batch.size());
+        final Object res;
+        try {
+            res = first.method.invoke(first.target, args);
+        } catch (InvocationTargetException ex) {
+            // avoid exception wrapping (simpler to handle outside)
+            throw ex.getCause();
+        }
+        final int[] counts;
+        if (res instanceof int[] && ((int[]) res).length == batch.size()) {
+            counts = (int[]) res;
+        } else {
+            counts = new int[batch.size()];
+            Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+        }
+        return counts;
+    }
+
+    /**
+     * Queued call.
+     */
+    private static final class Call {
+        private final Object target;
+        private final Method method;
+        private final Object[] args;
+
+        Call(final Object target, final Method method, final Object... args) {
+            this.target = target;
+            this.method = method;
+            this.args = args;
+        }
+
+        boolean isSameBatch(final Call call) {
+            return target == call.target && method.equals(call.method);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ru.vyarus.guicey.jdbi3.batch;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables batched execution for repository method (in repository, annotated with
+ * {@link ru.vyarus.guicey.jdbi3.installer.repository.JdbiRepository}). Inside unit of work, annotated method is not
+ * executed immediately: call is queued and all queued calls are executed as jdbc batches (with referenced
+ * {@link org.jdbi.v3.sqlobject.statement.SqlBatch} method) before transaction commit.
+ * <p>
+ * Annotated method must return void: call is only queued, so there is no result to return (repository
+ * with non-void batched method fails on startup). Update counts of queued calls are available only as a result of
+ * manual {@link ru.vyarus.guicey.jdbi3.unit.UnitManager#flushBatch()} call. Referenced batch method must be
+ * declared in the same repository, have the same parameters count and accept lists (collected arguments of
+ * all queued calls):
+ * <pre><code>
+ *    {@literal @}Batched("saveAll")
+ *    {@literal @}SqlUpdate("insert into sample (name) values (:name)")
+ *     void save(@BindBean Sample sample);
+ *
+ *    {@literal @}SqlBatch("insert into sample (name) values (:name)")
+ *     int[] saveAll(@BindBean List&lt;Sample&gt; samples);
+ * </code></pre>
+ * Annotated method itself is called directly when used outside of unit of work.
+ * <p>
+ * Queued calls are also flushed when queue size reaches {@link #size()}, before any not batched repository method
+ * call or raw handle access (so queries would see all changes), on unit of work end (for manual units of work
+ * without transaction) and manually with {@link ru.vyarus.guicey.jdbi3.unit.UnitManager#flushBatch()}.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.guicey.jdbi3.unit.UnitManager#flushBatch()
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Batched {
+
+    /**
+     * @return name of repository method, annotated with {@link org.jdbi.v3.sqlobject.statement.SqlBatch}
+     */
+    String value();
+
+    /**
+     * @return queue size, causing immediate batch execution
+     */
+    int size() default 100;
+}
@@ -6,6 +6,7 @@ import com.google.inject.Stage;
 import com.google.inject.multibindings.Multibinder;
 import org.jdbi.v3.core.mapper.RowMapper;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
@@ -71,4 +72,9 @@ public class MapperInstaller implements FeatureInstaller, BindingInstaller {
     public List<String> getRecognizableSigns() {
         return Collections.singletonList("implements " + RowMapper.class.getSimpleName());
     }
+
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.types(RowMapper.class);
+    }
 }
@@ -9,10 +9,14 @@ import com.google.inject.multibindings.Multibinder;
 import com.google.inject.name.Names;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import ru.vyarus.dropwizard.guice.debug.report.guice.util.GuiceModelUtils;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.MatchHints;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
+import ru.vyarus.guicey.jdbi3.batch.BatchQueue;
+import ru.vyarus.guicey.jdbi3.batch.Batched;
 import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
 import ru.vyarus.guicey.jdbi3.installer.repository.sql.SqlObjectProvider;
 import ru.vyarus.guicey.jdbi3.module.NoSyntheticMatcher;
@@ -21,13 +25,18 @@ import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
 import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
 
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -42,6 +51,8 @@ import java.util.Set;
  * Manual guice bindings are not allowed, except one case: {@code bind(Base.class).to(Repo.class)} where
  * {@code Repo.class} is a recognizable (annotated) repository. This case useful for generifying repositories
  * (so implementation with exact queries could be pluggable).
+ * <p>
+ * Repository methods, annotated with {@link Batched}, are queued inside unit of work and executed as jdbc batches.
  *
  * @author Vyacheslav Rusakov
  * @see InTransaction default annotation
@@ -104,6 +115,11 @@ public class RepositoryInstaller implements FeatureInstaller, BindingInstaller {
         return Collections.singletonList("@" + JdbiRepository.class + " on class");
     }
 
+    @Override
+    public MatchHints getMatchHints() {
+        return MatchHints.annotations(JdbiRepository.class);
+    }
+
     @SuppressWarnings({"unchecked", "checkstyle:Indentation", "PMD.UseDiamondOperator"})
     private void generateRepository(final Binder binder, final Class<?> type) {
         // avoid duplicate bindings from classpath scan and binding
@@ -126,9 +142,11 @@ public class RepositoryInstaller implements FeatureInstaller, BindingInstaller {
 
         // interceptor registered for each dao and redirect calls to actual jdbi proxy
         // (at this point all guice interceptors are already involved)
+        final JdbiProxyRedirect redirect = new JdbiProxyRedirect(jdbiProxy, findBatchedMethods(type));
+        binder.requestInjection(redirect);
         binder.bindInterceptor(Matchers.subclassesOf(type), NoSyntheticMatcher.instance(),
                 // exact class instead of compact lambda to make AOP report more informative
-                new JdbiProxyRedirect(jdbiProxy));
+                redirect);
 
         // without it, on reporting phase binding would be cached and not generated on real run
         if (binder.currentStage() != Stage.TOOL) {
@@ -152,12 +170,51 @@ public class RepositoryInstaller implements FeatureInstaller, BindingInstaller {
         }
     }
 
+    private Map<Method, BatchTarget> findBatchedMethods(final Class<?> type) {
+        final Map<Method, BatchTarget> res = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            final Batched batched = method.getAnnotation(Batched.class);
+            if (batched == null) {
+                continue;
+            }
+            Preconditions.checkState(method.getReturnType() == void.class,
+                    "Batched repository method %s.%s must return void (call is queued and executed later, so "
+                            + "there is no result to return)", type.getSimpleName(), method.getName());
+            Preconditions.checkState(batched.size() > 0,
+                    "Batch size must be positive for repository method %s.%s",
+                    type.getSimpleName(), method.getName());
+            final Method target = findBatchMethod(type, batched.value(), method.getParameterCount());
+            Preconditions.checkState(target != null,
+                    "Batch method %s(%s lists) annotated with @%s not found in repository %s (referenced from "
+                            + "batched method %s)", batched.value(), method.getParameterCount(),
+                    SqlBatch.class.getSimpleName(), type.getSimpleName(), method.getName());
+            res.put(method, new BatchTarget(target, batched.size()));
+        }
+        return res;
+    }
+
+    private Method findBatchMethod(final Class<?> type, final String name, final int params) {
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == params
+                    && method.isAnnotationPresent(SqlBatch.class)
+                    && Arrays.stream(method.getParameterTypes()).allMatch(it -> it.isAssignableFrom(List.class))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
     /**
      * Guice interceptor redirects calls from guice repository bean into jdbi proxy instance.
+     * Batched methods (see {@link Batched}) calls are queued inside unit of work. Queued calls are flushed before
+     * any not batched method call (to let queries see all changes).
      */
     public static class JdbiProxyRedirect implements MethodInterceptor {
 
         private final Provider<Object> jdbiProxy;
+        private final Map<Method, BatchTarget> batched;
+        @Inject
+        private UnitManager manager;
 
         /**
          * Create jdbi proxy interceptor.
@@ -165,11 +222,36 @@ public class RepositoryInstaller implements FeatureInstaller, BindingInstaller {
          * @param jdbiProxy jdbi proxy provider
          */
         public JdbiProxyRedirect(final Provider<Object> jdbiProxy) {
+            this(jdbiProxy, Collections.emptyMap());
+        }
+
+        /**
+         * Create jdbi proxy interceptor.
+         *
+         * @param jdbiProxy jdbi proxy provider
+         * @param batched   batched methods
+         */
+        public JdbiProxyRedirect(final Provider<Object> jdbiProxy, final Map<Method, BatchTarget> batched) {
             this.jdbiProxy = jdbiProxy;
+            this.batched = batched;
         }
 
         @Override
         public Object invoke(final MethodInvocation invocation) throws Throwable {
+            if (manager != null && manager.isUnitStarted()) {
+                final BatchQueue batch = manager.getBatch();
+                final BatchTarget target = batched.get(invocation.getMethod());
+                if (target != null) {
+                    if (batch.add(jdbiProxy.get(), target.getMethod(), invocation.getArguments())
+                            >= target.getSize()) {
+                        batch.flush();
+                    }
+                    return null;
+                }
+                if (batch.size() > 0) {
+                    batch.flush();
+                }
+            }
             try {
                 return invocation.getMethod().invoke(jdbiProxy.get(), invocation.getArguments());
             } catch (InvocationTargetException th) {
@@ -178,4 +260,37 @@ public class RepositoryInstaller implements FeatureInstaller, BindingInstaller {
             }
         }
     }
+
+    /**
+     * Batch method of batched repository method.
+     */
+    public static class BatchTarget {
+        private final Method method;
+        private final int size;
+
+        /**
+         * Create batch target.
+         *
+         * @param method batch method
+         * @param size   queue size causing immediate execution
+         */
+        public BatchTarget(final Method method, final int size) {
+            this.method = method;
+            this.size = size;
+        }
+
+        /**
+         * @return batch method (annotated with {@link SqlBatch})
+         */
+        public Method getMethod() {
+            return method;
+        }
+
+        /**
+         * @return queue size causing immediate execution
+         */
+        public int getSize() {
+            return size;
+        }
+    }
 }
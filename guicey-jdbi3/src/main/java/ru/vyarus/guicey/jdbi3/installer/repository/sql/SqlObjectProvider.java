@@ -7,6 +7,7 @@ import org.jdbi.v3.core.extension.NoSuchExtensionException;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Factory re-implements {@code Jdbi.onDemand(Class)} in order to create proxy, using transactional handler
@@ -30,6 +31,7 @@ public class SqlObjectProvider<T> implements Provider<T> {
 
     private final Class<T> extensionType;
 
+    private final ReentrantLock lock = new ReentrantLock();
     private volatile T res;
 
     /**
@@ -45,10 +47,14 @@ public class SqlObjectProvider<T> implements Provider<T> {
     public T get() {
         // lazy sql proxy creation
         if (res == null) {
-            synchronized (this) {
+            // lock instead of synchronized block to avoid virtual thread pinning
+            lock.lock();
+            try {
                 if (res == null) {
                     res = create();
                 }
+            } finally {
+                lock.unlock();
             }
         }
         return res;
@@ -5,6 +5,7 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Stage;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Names;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.TransactionalHandleSupplier;
@@ -30,12 +31,23 @@ import java.util.List;
  * It is assumed that in most cases unit of work will be defined together with transaction using transaction
  * annotation (one or more). By default, only {@link InTransaction} annotation will be
  * recognized.
+ * <p>
+ * When read replica configured, read-only transactions are executed on replica (see {@link UnitManager}).
+ * Replica jdbi is available for injection as {@code @Named("jdbi3.replica") Jdbi} (bound to the main jdbi when
+ * replica is not configured).
  *
  * @author Vyacheslav Rusakov
  * @since 31.08.2018
  */
 public class JdbiModule extends AbstractModule {
+
+    /**
+     * Read replica jdbi binding name.
+     */
+    public static final String REPLICA = "jdbi3.replica";
+
     private final Jdbi jdbi;
+    private final Jdbi replica;
     private final List<Class<? extends Annotation>> txAnnotations;
 
     /**
@@ -45,9 +57,21 @@ public class JdbiModule extends AbstractModule {
      * @param txAnnotations transaction annotations
      */
     public JdbiModule(final Jdbi jdbi, final List<Class<? extends Annotation>> txAnnotations) {
+        this(jdbi, null, txAnnotations);
+    }
+
+    /**
+     * Create jdbi module.
+     *
+     * @param jdbi          jdbi instance
+     * @param replica       read replica jdbi instance (may be null)
+     * @param txAnnotations transaction annotations
+     */
+    public JdbiModule(final Jdbi jdbi, final Jdbi replica, final List<Class<? extends Annotation>> txAnnotations) {
         Preconditions.checkState(!txAnnotations.isEmpty(),
                 "Provide at least one transactional annotation");
         this.jdbi = jdbi;
+        this.replica = replica;
         this.txAnnotations = txAnnotations;
     }
 
@@ -59,9 +83,13 @@ public class JdbiModule extends AbstractModule {
             final InjectionHandlerFactory gettersInjector = new InjectionHandlerFactory();
             requestInjection(gettersInjector);
             jdbi.getConfig(Extensions.class).registerHandlerFactory(gettersInjector);
+            if (replica != null) {
+                replica.getConfig(Extensions.class).registerHandlerFactory(gettersInjector);
+            }
         }
 
         bind(Jdbi.class).toInstance(jdbi);
+        bind(Jdbi.class).annotatedWith(Names.named(REPLICA)).toInstance(replica != null ? replica : jdbi);
 
         // init empty collection for case when no mappers registered
         Multibinder.newSetBinder(binder(), RowMapper.class);
@@ -1,6 +1,7 @@
 package ru.vyarus.guicey.jdbi3.module;
 
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.mapper.RowMapper;
 
@@ -21,10 +22,16 @@ public class MapperBinder {
      * Create mapper binder.
      *
      * @param dbi     jdbi instance
+     * @param replica read replica jdbi instance (same as main instance if replica not configured)
      * @param mappers row mappers
      */
     @Inject
-    public MapperBinder(final Jdbi dbi, final Set<RowMapper> mappers) {
+    public MapperBinder(final Jdbi dbi,
+                        @Named(JdbiModule.REPLICA) final Jdbi replica,
+                        final Set<RowMapper> mappers) {
         mappers.forEach(dbi::registerRowMapper);
+        if (replica != dbi) {
+            mappers.forEach(replica::registerRowMapper);
+        }
     }
 }
@@ -76,9 +76,14 @@ public class TransactionTemplate {
                 throw new RuntimeException(th);
             }
         } else {
-            manager.beginUnit();
+            // read-only transaction would be started on read replica (if configured)
+            manager.beginUnit(config.isReadOnly());
             try {
                 return inNewTransaction(config, action);
+            } catch (RuntimeException ex) {
+                // batched calls are useless after rollback
+                manager.discardBatch();
+                throw ex;
             } finally {
                 manager.endUnit();
             }
@@ -108,7 +113,10 @@ public class TransactionTemplate {
         h.setReadOnly(config.isReadOnly());
         final HandleCallback<T, RuntimeException> callback = handle -> {
             try {
-                return action.execute(handle);
+                final T res = action.execute(handle);
+                // execute queued batched repository calls before commit
+                manager.flushBatch();
+                return res;
             } catch (Exception e) {
                 Throwables.throwIfUnchecked(e);
                 throw new RuntimeException(e);
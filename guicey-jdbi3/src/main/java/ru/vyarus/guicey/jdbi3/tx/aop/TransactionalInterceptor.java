@@ -17,7 +17,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Intercept transaction annotations usage and applies {@link TransactionTemplate} around method call.
@@ -28,12 +28,10 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public class TransactionalInterceptor implements MethodInterceptor {
 
-    private static final ReentrantLock LOCK = new ReentrantLock();
-
     private final Map<Class<? extends Annotation>, Class<? extends TxConfigFactory>> txConfigFactories
             = new HashMap<>();
     // cache used to avoid annotations introspection on each call
-    private final Map<String, TxConfig> methodCache = new HashMap<>();
+    private final Map<Method, TxConfig> methodCache = new ConcurrentHashMap<>();
 
     @Inject
     private TransactionTemplate template;
@@ -72,23 +70,9 @@ public class TransactionalInterceptor implements MethodInterceptor {
     }
 
     private TxConfig checkTxConfig(final Method method) {
-        final String methodIdentity = (method.getDeclaringClass().getName() + " " + method.toString()).intern();
-        TxConfig cfg = methodCache.get(methodIdentity);
-        if (cfg == null) {
-            LOCK.lock();
-            try {
-                if (methodCache.get(methodIdentity) != null) {
-                    // cfg could be stored while waiting for lock
-                    cfg = methodCache.get(methodIdentity);
-                } else {
-                    cfg = buildConfig(method);
-                    methodCache.put(methodIdentity, cfg);
-                }
-            } finally {
-                LOCK.unlock();
-            }
-        }
-        return cfg;
+        // plain get first: no allocations for already resolved methods
+        final TxConfig cfg = methodCache.get(method);
+        return cfg == null ? methodCache.computeIfAbsent(method, this::buildConfig) : cfg;
     }
 
     @SuppressWarnings("unchecked")
@@ -1,15 +1,22 @@
 package ru.vyarus.guicey.jdbi3.unit;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.batch.BatchQueue;
+import ru.vyarus.guicey.jdbi3.batch.Batched;
+import ru.vyarus.guicey.jdbi3.module.JdbiModule;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Manages JDBI {@link Handle} for current unit of work. This handle must be used by all JDBI proxies.
@@ -19,6 +26,25 @@ import jakarta.inject.Singleton;
  * <p>
  * Raw provider may be injected to obtain current handle: {@code @Inject Provider<Handle>}.
  * In all other cases transaction annotation must be used to wrap code into unit of work using guice aop.
+ * <p>
+ * Current unit of work could be propagated into child tasks (e.g. executed with executor service or as
+ * structured concurrency subtasks on virtual threads) with {@link #propagate(Callable)} and
+ * {@link #propagate(Runnable)}: task would use the same handle (and participate in the current transaction).
+ * Propagated unit can't be ended in child thread (unit is closed only by the thread started it). Parent must wait
+ * for subtasks completion (before unit end).
+ * <p>
+ * Handle (and jdbc connection) is not thread-safe, so handle usage is serialized with unit lock: propagated task
+ * acquires lock on first handle (or batch queue) access and holds it until task end (other propagated tasks wait).
+ * Parent thread can't use handle while it is used by propagated task (error thrown).
+ * <p>
+ * Unit of work also holds queue of batched repository calls (see {@link Batched}). Queue is flushed by transaction
+ * template before commit, before handle access (handle provider call, so raw handle queries see all changes)
+ * and on unit end (for manual units of work without transaction). Queue could be also flushed manually with
+ * {@link #flushBatch()}.
+ * <p>
+ * When read replica configured (see {@link ru.vyarus.guicey.jdbi3.JdbiBundle#withReadReplica(
+ * ru.vyarus.guicey.jdbi3.dbi.ConfigAwareProvider)}), read-only units of work (read-only transactions) are
+ * opened on replica and all other units on the main database.
  *
  * @author Vyacheslav Rusakov
  * @see TransactionTemplate for manual transaction definition
@@ -30,22 +56,45 @@ public class UnitManager implements Provider<Handle> {
     private final Logger logger = LoggerFactory.getLogger(UnitManager.class);
 
     private final Jdbi jdbi;
-    private final ThreadLocal<Handle> unit = new ThreadLocal<>();
+    private final Jdbi replica;
+    private final ThreadLocal<Unit> unit = new ThreadLocal<>();
 
     /**
      * Create a unit manager.
      *
      * @param jdbi jdbi instance
      */
-    @Inject
     public UnitManager(final Jdbi jdbi) {
+        this(jdbi, jdbi);
+    }
+
+    /**
+     * Create a unit manager.
+     *
+     * @param jdbi    jdbi instance
+     * @param replica read replica jdbi instance (same as main instance if replica not configured)
+     */
+    @Inject
+    public UnitManager(final Jdbi jdbi, @Named(JdbiModule.REPLICA) final Jdbi replica) {
         this.jdbi = jdbi;
+        this.replica = replica;
     }
 
+    /**
+     * Returns current unit of work handle. Queued batched repository calls (see {@link Batched}) are executed
+     * before returning handle (so handle usage would see all changes). In propagated task, waits until handle
+     * is released by other propagated tasks.
+     *
+     * @return current unit of work handle
+     * @throws IllegalStateException if called outside of unit of work or handle is used by propagated task
+     */
     @Override
     public Handle get() {
-        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
-        return unit.get();
+        final Unit current = use();
+        if (current.batch.size() > 0) {
+            flushBatch();
+        }
+        return current.handle;
     }
 
     /**
@@ -56,27 +105,186 @@ public class UnitManager implements Provider<Handle> {
     }
 
     /**
-     * Starts unit of work.
+     * @return true if read replica configured, false otherwise
+     */
+    public boolean isReplicaConfigured() {
+        return replica != jdbi;
+    }
+
+    /**
+     * Starts unit of work (on the main database).
      *
      * @throws IllegalStateException if unit of work already started
      */
     public void beginUnit() {
+        beginUnit(false);
+    }
+
+    /**
+     * Starts unit of work. Read-only unit is started on read replica (if configured).
+     *
+     * @param readOnly true to start unit for read-only operations
+     * @throws IllegalStateException if unit of work already started
+     */
+    public void beginUnit(final boolean readOnly) {
         Preconditions.checkState(!isUnitStarted(), "Unit of work already started");
-        final Handle handle = jdbi.open();
-        unit.set(handle);
-        logger.trace("Transaction start");
+        final boolean onReplica = readOnly && isReplicaConfigured();
+        final Handle handle = (onReplica ? replica : jdbi).open();
+        unit.set(new Unit(handle, new BatchQueue(), new ReentrantLock(), false));
+        logger.trace("Transaction start{}", onReplica ? " (replica)" : "");
     }
 
     /**
-     * Finish unit of work. Note: does not commit transaction, but only close context handle.
+     * Finish unit of work. Note: does not commit transaction, but only close context handle. Not executed batched
+     * repository calls (see {@link Batched}) are executed before handle close (possible for manual unit of work
+     * without transaction). Handle is closed even if batch execution fails (batch error is thrown after it).
      *
      * @throws IllegalStateException when no opened unit of work
      */
     public void endUnit() {
-        Preconditions.checkState(isUnitStarted(), "Stop called outside of unit of work");
-        final Handle handle = unit.get();
-        // first remove handle to avoid stale handles in any case
+        final Unit current = unit.get();
+        Preconditions.checkState(current != null, "Stop called outside of unit of work");
+        Preconditions.checkState(!current.propagated,
+                "Propagated unit of work could be stopped only in the thread started it");
+        final Handle handle = current.handle;
+        try {
+            if (current.batch.size() > 0) {
+                logger.trace("Executing {} not flushed batched calls on unit end", current.batch.size());
+                flushBatch();
+            }
+        } finally {
+            // remove handle to avoid stale handles in any case
+            unit.remove();
+            current.batch.clear();
+            closeHandle(handle);
+        }
+        logger.trace("Transaction end");
+    }
+
+    /**
+     * Wrap task to execute it within current unit of work (in another thread). Must be called inside unit of work.
+     * Task would use the same handle (and so participate in current transaction). If task executed in the
+     * same thread (e.g. with caller-runs executor policy), it is simply called.
+     * <p>
+     * Handle is not thread-safe, so task locks unit handle on first access and releases it on task end: concurrent
+     * tasks, using handle, are executed one after another (only their handle usage parts).
+     *
+     * @param task task to wrap
+     * @param <T>  result type
+     * @return task, executed within current unit of work
+     * @throws IllegalStateException if called outside of unit of work
+     */
+    public <T> Callable<T> propagate(final Callable<T> task) {
+        final Unit parent = getUnit();
+        return () -> {
+            final boolean bound = bind(parent);
+            try {
+                return task.call();
+            } finally {
+                if (bound) {
+                    release();
+                }
+            }
+        };
+    }
+
+    /**
+     * Wrap task to execute it within current unit of work (in another thread). Must be called inside unit of work.
+     *
+     * @param task task to wrap
+     * @return task, executed within current unit of work
+     * @throws IllegalStateException if called outside of unit of work
+     * @see #propagate(Callable)
+     */
+    public Runnable propagate(final Runnable task) {
+        final Unit parent = getUnit();
+        return () -> {
+            final boolean bound = bind(parent);
+            try {
+                task.run();
+            } finally {
+                if (bound) {
+                    release();
+                }
+            }
+        };
+    }
+
+    /**
+     * Execute all queued batched repository calls (see {@link Batched}) of current unit of work. Called
+     * automatically by transaction template before transaction commit, before handle access and on unit end.
+     * Manual call is required only to obtain update counts.
+     *
+     * @return update counts for each queued call (in order of calls)
+     * @throws IllegalStateException if called outside of unit of work
+     */
+    @SuppressWarnings({"PMD.AvoidThrowingRawExceptionTypes", "PMD.AvoidCatchingThrowable"})
+    public int[] flushBatch() {
+        final BatchQueue batch = getBatch();
+        try {
+            return batch.flush();
+        } catch (Throwable th) {
+            Throwables.throwIfUnchecked(th);
+            throw new RuntimeException(th);
+        }
+    }
+
+    /**
+     * Remove all queued batched repository calls (see {@link Batched}) of current unit of work.
+     *
+     * @return discarded calls count
+     * @throws IllegalStateException if called outside of unit of work
+     */
+    public int discardBatch() {
+        return getBatch().clear();
+    }
+
+    /**
+     * @return queue of batched repository calls of current unit of work
+     * @throws IllegalStateException if called outside of unit of work or handle is used by propagated task
+     */
+    public BatchQueue getBatch() {
+        return use().batch;
+    }
+
+    private Unit getUnit() {
+        final Unit current = unit.get();
+        Preconditions.checkState(current != null, "Unit of work not started yet");
+        return current;
+    }
+
+    /**
+     * Propagated task locks unit handle until task end (handle is not thread-safe). Parent thread could use handle
+     * only when it is not locked by propagated task.
+     *
+     * @return current unit
+     * @throws IllegalStateException if called outside of unit of work or handle is used by propagated task
+     */
+    private Unit use() {
+        final Unit current = getUnit();
+        if (!current.lock.isHeldByCurrentThread()) {
+            if (current.propagated) {
+                current.lock.lock();
+            } else {
+                Preconditions.checkState(!current.lock.isLocked(), "Unit of work handle is used by propagated task "
+                        + "and can't be used concurrently (handle is not thread-safe)");
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Unbind propagated unit from current thread and release unit handle (if locked).
+     */
+    private void release() {
+        final Unit current = unit.get();
         unit.remove();
+        if (current.lock.isHeldByCurrentThread()) {
+            current.lock.unlock();
+        }
+    }
+
+    private void closeHandle(final Handle handle) {
         try {
             handle.close();
         } catch (Exception ex) {
@@ -84,6 +292,40 @@ public class UnitManager implements Provider<Handle> {
             // and so there will already be logged traces indicating connection problem
             logger.warn("JDBI handle close error ({})", ex.getMessage());
         }
-        logger.trace("Transaction end");
+    }
+
+    /**
+     * @param parent propagated unit
+     * @return true if unit bound to current thread, false if already bound
+     * @throws IllegalStateException if another unit of work started in current thread
+     */
+    private boolean bind(final Unit parent) {
+        final Unit current = unit.get();
+        if (current != null) {
+            Preconditions.checkState(current.handle == parent.handle,
+                    "Can't propagate unit of work: another unit of work already started in current thread");
+            return false;
+        }
+        unit.set(new Unit(parent.handle, parent.batch, parent.lock, true));
+        return true;
+    }
+
+    /**
+     * Thread-bound unit of work.
+     */
+    private static final class Unit {
+        private final Handle handle;
+        private final BatchQueue batch;
+        // shared between unit thread and propagated tasks
+        private final ReentrantLock lock;
+        // unit started in another thread
+        private final boolean propagated;
+
+        Unit(final Handle handle, final BatchQueue batch, final ReentrantLock lock, final boolean propagated) {
+            this.handle = handle;
+            this.batch = batch;
+            this.lock = lock;
+            this.propagated = propagated;
+        }
     }
 }
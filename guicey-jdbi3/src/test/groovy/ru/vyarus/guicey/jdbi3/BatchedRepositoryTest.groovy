@@ -0,0 +1,149 @@
+package ru.vyarus.guicey.jdbi3
+
+import org.jdbi.v3.core.Handle
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.BatchedRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import jakarta.inject.Inject
+import jakarta.inject.Provider
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class BatchedRepositoryTest extends AbstractAppTest {
+
+    @Inject
+    BatchedRepository repo
+    @Inject
+    TransactionTemplate template
+    @Inject
+    UnitManager manager
+    @Inject
+    Provider<Handle> handle
+
+    void cleanup() {
+        template.inTransaction { Handle h -> h.execute("delete from sample") }
+    }
+
+    def "Check batched calls"() {
+
+        when: "calling batched method in transaction"
+        template.inTransaction { Handle h ->
+            repo.save(new Sample(name: 'test'))
+            repo.save(new Sample(name: 'test2'))
+            assert manager.batch.size() == 2
+            assert count(h) == 0
+        }
+        then: "calls executed before commit"
+        repo.all().size() == 2
+    }
+
+    def "Check batch flushed on size"() {
+
+        when: "calling batched method more times then batch size"
+        template.inTransaction { Handle h ->
+            3.times { repo.save(new Sample(name: "test$it")) }
+            assert manager.batch.size() == 0
+            assert count(h) == 3
+            repo.save(new Sample(name: 'test4'))
+            assert count(h) == 3
+        }
+        then: "all calls executed"
+        repo.all().size() == 4
+    }
+
+    def "Check batch flushed before query"() {
+
+        when: "calling query after batched calls"
+        int res = template.inTransaction {
+            repo.save(new Sample(name: 'test'))
+            repo.all().size()
+        }
+        then: "query see changes"
+        res == 1
+    }
+
+    def "Check manual flush"() {
+
+        when: "flushing in manual unit"
+        manager.beginUnit()
+        int[] res
+        try {
+            repo.save(new Sample(name: 'test'))
+            repo.save(new Sample(name: 'test2'))
+            res = manager.flushBatch()
+        } finally {
+            manager.endUnit()
+        }
+        then: "executed"
+        res == [1, 1] as int[]
+        repo.all().size() == 2
+    }
+
+    def "Check batch flushed before handle access"() {
+
+        when: "calling raw query after batched calls"
+        int res = template.inTransaction {
+            repo.save(new Sample(name: 'test'))
+            count(handle.get())
+        }
+        then: "query see changes"
+        res == 1
+    }
+
+    def "Check batch flushed on manual unit end"() {
+
+        when: "not flushing in manual unit"
+        manager.beginUnit()
+        try {
+            repo.save(new Sample(name: 'test'))
+            repo.save(new Sample(name: 'test2'))
+        } finally {
+            manager.endUnit()
+        }
+        then: "executed on unit end"
+        repo.all().size() == 2
+    }
+
+    def "Check rollback"() {
+
+        when: "fail tx"
+        template.inTransaction {
+            repo.save(new Sample(name: 'test'))
+            throw new IllegalStateException("ups")
+        }
+        then: "calls not executed"
+        thrown(IllegalStateException)
+        repo.all().isEmpty()
+    }
+
+    def "Check batched calls in propagated subtasks"() {
+
+        setup:
+        ExecutorService pool = Executors.newFixedThreadPool(2)
+
+        when: "calling batched method in two concurrent subtasks"
+        template.inTransaction {
+            def tasks = (1..2).collect { int task ->
+                pool.submit(manager.propagate({
+                    10.times { repo.save(new Sample(name: "task$task-$it")) }
+                } as Runnable))
+            }
+            tasks*.get()
+        }
+        then: "no calls lost"
+        repo.all().size() == 20
+
+        cleanup:
+        pool.shutdown()
+    }
+
+    private int count(Handle handle) {
+        handle.createQuery("select count(*) from sample").mapTo(Integer).one()
+    }
+}
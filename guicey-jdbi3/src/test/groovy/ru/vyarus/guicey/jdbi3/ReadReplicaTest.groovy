@@ -0,0 +1,102 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import io.dropwizard.db.DataSourceFactory
+import org.jdbi.v3.core.Handle
+import org.jdbi.v3.core.Jdbi
+import org.jdbi.v3.core.transaction.TransactionException
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.jdbi3.module.JdbiModule
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.CustTxRepository
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.tx.TxConfig
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import jakarta.inject.Inject
+import jakarta.inject.Named
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class ReadReplicaTest extends AbstractTest {
+
+    @Inject
+    @Named(JdbiModule.REPLICA)
+    Jdbi replica
+    @Inject
+    Jdbi jdbi
+    @Inject
+    UnitManager manager
+    @Inject
+    TransactionTemplate template
+    @Inject
+    SampleRepository repo
+    // repository without transactional annotation
+    @Inject
+    CustTxRepository notxrepo
+
+    void setup() {
+        replica.useHandle { Handle h ->
+            h.execute("create table if not exists sample (id IDENTITY NOT NULL, name VARCHAR, " +
+                    "CONSTRAINT sample_id PRIMARY KEY (id))")
+            h.execute("delete from sample")
+            h.execute("insert into sample (name) values ('replica')")
+        }
+    }
+
+    def "Check read-only transactions routed to replica"() {
+
+        expect: "replica configured"
+        !replica.is(jdbi)
+        manager.isReplicaConfigured()
+
+        when: "write transaction"
+        template.inTransaction { repo.save(new Sample(name: 'primary')) }
+        List<Sample> res = template.inTransaction { notxrepo.all() }
+        then: "main database used"
+        res*.name == ['primary']
+
+        when: "read-only transaction"
+        res = template.inTransaction(new TxConfig().readOnly(true)) { notxrepo.all() }
+        then: "replica used"
+        res*.name == ['replica']
+
+        when: "write inside read-only transaction"
+        template.inTransaction(new TxConfig().readOnly(true)) {
+            repo.save(new Sample(name: 'fail'))
+        }
+        then: "not allowed"
+        thrown(TransactionException)
+
+        cleanup:
+        template.inTransaction { Handle h -> h.execute("delete from sample") }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withReadReplicaDatabase { conf, env ->
+                                new DataSourceFactory(driverClass: 'org.h2.Driver', user: 'sa',
+                                        url: 'jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1')
+                            })
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
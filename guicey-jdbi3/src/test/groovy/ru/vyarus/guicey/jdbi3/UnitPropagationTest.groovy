@@ -0,0 +1,134 @@
+package ru.vyarus.guicey.jdbi3
+
+import org.jdbi.v3.core.Handle
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import jakarta.inject.Inject
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class UnitPropagationTest extends AbstractAppTest {
+
+    @Inject
+    UnitManager manager
+    @Inject
+    SampleRepository repo
+    @Inject
+    TransactionTemplate template
+
+    ExecutorService executor = Executors.newSingleThreadExecutor()
+
+    void cleanup() {
+        executor.shutdown()
+    }
+
+    def "Check unit propagation"() {
+
+        when: "propagating unit into another thread"
+        def res = template.inTransaction { Handle handle ->
+            [handle, executor.submit(manager.propagate({ manager.get() } as Callable)).get()]
+        }
+        then: "same handle used"
+        res[0].is(res[1])
+
+        when: "using repository in propagated unit"
+        template.inTransaction {
+            executor.submit(manager.propagate({ repo.all() } as Callable)).get()
+        }
+        then: "ok"
+        true
+
+        when: "unit not propagated"
+        boolean started = template.inTransaction {
+            executor.submit({ manager.isUnitStarted() } as Callable).get()
+        }
+        then: "unit not started in child thread"
+        !started
+
+        and: "unit not leaked after propagated task"
+        !executor.submit({ manager.isUnitStarted() } as Callable).get()
+    }
+
+    def "Check concurrent subtasks handle usage serialized"() {
+
+        setup:
+        ExecutorService pool = Executors.newFixedThreadPool(2)
+        CountDownLatch used = new CountDownLatch(1)
+        List<String> events = Collections.synchronizedList([])
+
+        when: "two subtasks use repository concurrently"
+        template.inTransaction {
+            def first = pool.submit(manager.propagate({
+                repo.all()
+                events << 'first used'
+                used.countDown()
+                sleep(200)
+                events << 'first done'
+            } as Runnable))
+            def second = pool.submit(manager.propagate({
+                used.await()
+                repo.all()
+                events << 'second used'
+            } as Runnable))
+            first.get()
+            second.get()
+        }
+        then: "second subtask waits for the first one"
+        events == ['first used', 'first done', 'second used']
+
+        cleanup:
+        pool.shutdown()
+    }
+
+    def "Check parent can't use handle used by subtask"() {
+
+        when: "using handle in parent while subtask holds it"
+        CountDownLatch used = new CountDownLatch(1)
+        CountDownLatch done = new CountDownLatch(1)
+        template.inTransaction {
+            def task = executor.submit(manager.propagate({
+                repo.all()
+                used.countDown()
+                done.await()
+            } as Runnable))
+            used.await()
+            try {
+                repo.all()
+            } finally {
+                done.countDown()
+                task.get()
+            }
+        }
+        then: "error"
+        def ex = thrown(IllegalStateException)
+        ex.message.startsWith('Unit of work handle is used by propagated task')
+    }
+
+    def "Check propagated unit can't be ended"() {
+
+        when: "ending propagated unit"
+        template.inTransaction {
+            executor.submit(manager.propagate({ manager.endUnit() } as Runnable)).get()
+        }
+        then: "error"
+        def ex = thrown(ExecutionException)
+        ex.cause instanceof IllegalStateException
+    }
+
+    def "Check propagation outside of unit"() {
+
+        when: "propagating without unit"
+        manager.propagate({} as Runnable)
+        then: "error"
+        thrown(IllegalStateException)
+    }
+}
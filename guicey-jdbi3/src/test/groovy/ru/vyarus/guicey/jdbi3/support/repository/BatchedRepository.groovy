@@ -0,0 +1,29 @@
+package ru.vyarus.guicey.jdbi3.support.repository
+
+import org.jdbi.v3.sqlobject.customizer.BindBean
+import org.jdbi.v3.sqlobject.statement.SqlBatch
+import org.jdbi.v3.sqlobject.statement.SqlQuery
+import org.jdbi.v3.sqlobject.statement.SqlUpdate
+import ru.vyarus.guicey.jdbi3.batch.Batched
+import ru.vyarus.guicey.jdbi3.installer.repository.JdbiRepository
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@JdbiRepository
+@InTransaction
+interface BatchedRepository {
+
+    @SqlQuery("select * from sample")
+    List<Sample> all()
+
+    @Batched(value = "saveAll", size = 3)
+    @SqlUpdate("insert into sample (name) values (:name)")
+    void save(@BindBean Sample sample)
+
+    @SqlBatch("insert into sample (name) values (:name)")
+    int[] saveAll(@BindBean List<Sample> samples)
+}
@@ -1,5 +1,6 @@
 package ru.vyarus.guicey.annotations.lifecycle;
 
+import com.google.common.base.Preconditions;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
@@ -8,6 +9,9 @@ import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
 import ru.vyarus.guice.ext.core.util.ObjectPackageMatcher;
 import ru.vyarus.guicey.annotations.lifecycle.module.DropwizardLifecycleListener;
 import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector;
+
+import java.time.Duration;
 
 /**
  * Bundle enabled usage of lifecycle annotations in guice beans. Supported annotations:
@@ -33,6 +37,10 @@ import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
  *      builder.bundles(new LifecycleAnnotationsBundle("package.to.apply"))
  * }</pre>
  * (only one instance of bundle will be used)
+ * <p>
+ * By default, annotated methods are called one after another. Methods of one phase could be called concurrently
+ * with {@link #parallel(int)} (methods, which must not be called concurrently, could be annotated with
+ * {@link Sequential}). Method execution time could be limited with {@link #methodTimeout(Duration)}.
  *
  * @author Vyacheslav Rusakov
  * @since 08.11.2018
@@ -40,6 +48,9 @@ import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
 public class LifecycleAnnotationsBundle extends UniqueGuiceyBundle {
 
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
+    private int threads;
+    private Duration timeout;
+    private boolean printTimes;
 
     /**
      * Default module constructor to check annotations on all beans.
@@ -68,9 +79,46 @@ public class LifecycleAnnotationsBundle extends UniqueGuiceyBundle {
         this.typeMatcher = typeMatcher;
     }
 
+    /**
+     * Execute methods of one lifecycle phase concurrently. This way, for example, shutdown would not take
+     * the sum of all {@link jakarta.annotation.PreDestroy} methods durations. Methods annotated with
+     * {@link Sequential} are called one by one before concurrent methods.
+     *
+     * @param threads threads count
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle parallel(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive: %s", threads);
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Limit execution time of each lifecycle method. On startup, timed out method fails application startup.
+     * On shutdown, timed out method is logged and not waited anymore. Method thread is interrupted on timeout.
+     *
+     * @param timeout method execution timeout
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle methodTimeout(final Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Log execution time of each lifecycle method after each lifecycle phase.
+     *
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle printTimes() {
+        this.printTimes = true;
+        return this;
+    }
+
     @Override
     public void run(final GuiceyEnvironment environment) {
-        final LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(typeMatcher);
+        final LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(typeMatcher,
+                new MethodsCollector(threads, timeout, printTimes));
         final DropwizardLifecycleListener lifecycle = new DropwizardLifecycleListener(module.getCollector());
 
         environment
@@ -0,0 +1,28 @@
+package ru.vyarus.guicey.annotations.lifecycle;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks lifecycle methods which must not be executed concurrently with other lifecycle methods (when parallel
+ * execution is enabled with {@link LifecycleAnnotationsBundle#parallel(int)}). When declared on class, affects
+ * all lifecycle methods of the class.
+ * <p>
+ * Sequential methods are called one by one (in registration order) before concurrent methods of the same phase.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @see LifecycleAnnotationsBundle
+ */
+@Documented
+@Inherited
+@Retention(RUNTIME)
+@Target({METHOD, TYPE})
+public @interface Sequential {
+}
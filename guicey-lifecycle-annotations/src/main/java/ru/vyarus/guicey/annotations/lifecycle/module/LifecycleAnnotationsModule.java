@@ -24,7 +24,7 @@ import java.lang.annotation.Annotation;
 public class LifecycleAnnotationsModule extends AbstractModule {
 
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
-    private final MethodsCollector collector = new MethodsCollector();
+    private final MethodsCollector collector;
 
     /**
      * Create lifecycle annotations module.
@@ -32,7 +32,19 @@ public class LifecycleAnnotationsModule extends AbstractModule {
      * @param typeMatcher target types matcher
      */
     public LifecycleAnnotationsModule(final Matcher<? super TypeLiteral<?>> typeMatcher) {
+        this(typeMatcher, new MethodsCollector());
+    }
+
+    /**
+     * Create lifecycle annotations module with custom methods execution.
+     *
+     * @param typeMatcher target types matcher
+     * @param collector   methods collector
+     */
+    public LifecycleAnnotationsModule(final Matcher<? super TypeLiteral<?>> typeMatcher,
+                                      final MethodsCollector collector) {
         this.typeMatcher = typeMatcher;
+        this.collector = collector;
     }
 
     /**
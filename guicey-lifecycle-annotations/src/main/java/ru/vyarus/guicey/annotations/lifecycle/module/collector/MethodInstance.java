@@ -2,6 +2,7 @@ package ru.vyarus.guicey.annotations.lifecycle.module.collector;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.annotations.lifecycle.Sequential;
 
 import java.lang.reflect.Method;
 
@@ -28,6 +29,15 @@ public class MethodInstance {
         this.method = method;
     }
 
+    /**
+     * @return true if method must not be executed concurrently with other methods
+     */
+    public boolean isSequential() {
+        return method.isAnnotationPresent(Sequential.class)
+                || method.getDeclaringClass().isAnnotationPresent(Sequential.class)
+                || instance.getClass().isAnnotationPresent(Sequential.class);
+    }
+
     /**
      * Calls method on instance.
      * <p>
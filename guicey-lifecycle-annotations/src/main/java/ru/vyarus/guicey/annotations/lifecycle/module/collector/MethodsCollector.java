@@ -1,19 +1,43 @@
 package ru.vyarus.guicey.annotations.lifecycle.module.collector;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Registry for detected annotated methods. Used to collect and then process all found methods by annotation.
+ * <p>
+ * By default, methods are called one after another in registration order. When threads count specified,
+ * methods of one phase are called concurrently (except methods annotated with
+ * {@link ru.vyarus.guicey.annotations.lifecycle.Sequential}, which are called one by one before concurrent
+ * methods). Optional timeout limits each method execution time (counted from method submission): for not safe
+ * calls timeout is a failure, for safe calls (shutdown) timed out method is just logged and not waited anymore.
+ * Thread of timed out method is interrupted and abandoned: other methods are executed in new threads (so method,
+ * ignoring interruption, could not block other methods or shutdown).
+ * <p>
+ * Execution time of each method is recorded (see {@link #getTimes(Class)}).
  *
  * @author Vyacheslav Rusakov
  * @since 27.11.2018
@@ -27,6 +51,34 @@ public class MethodsCollector {
     // second it used to detect late registrations for immediate execution
     private final List<Class<? extends Annotation>> processed = new ArrayList<>();
 
+    private final int threads;
+    private final Duration timeout;
+    private final boolean printTimes;
+    private final Map<Class<? extends Annotation>, Map<MethodInstance, Duration>> times = new LinkedHashMap<>();
+
+    /**
+     * Create collector with sequential methods execution.
+     */
+    public MethodsCollector() {
+        this(0, null, false);
+    }
+
+    /**
+     * Create collector.
+     *
+     * @param threads    threads count for concurrent methods execution (0 for sequential execution)
+     * @param timeout    method execution timeout (null for no timeout)
+     * @param printTimes true to log methods execution time after each phase
+     */
+    public MethodsCollector(final int threads, final Duration timeout, final boolean printTimes) {
+        Preconditions.checkArgument(threads >= 0, "Threads count can't be negative: %s", threads);
+        Preconditions.checkArgument(timeout == null || !timeout.isNegative() && !timeout.isZero(),
+                "Timeout must be positive: %s", timeout);
+        this.threads = threads;
+        this.timeout = timeout;
+        this.printTimes = printTimes;
+    }
+
     /**
      * Register lifecycle method.
      *
@@ -72,6 +124,19 @@ public class MethodsCollector {
         doCall(annotation, true);
     }
 
+    /**
+     * Execution time of failed methods is also recorded. Timed out methods are not recorded.
+     *
+     * @param annotation lifecycle annotation
+     * @return execution times of annotated methods (in completion order)
+     */
+    public Map<MethodInstance, Duration> getTimes(final Class<? extends Annotation> annotation) {
+        synchronized (times) {
+            final Map<MethodInstance, Duration> res = times.get(annotation);
+            return res == null ? Collections.emptyMap() : new LinkedHashMap<>(res);
+        }
+    }
+
     private void doCall(final Class<? extends Annotation> annotation, final boolean safe) {
         Preconditions.checkState(!processed.contains(annotation),
                 "Lifecycle @%s methods were already processed", annotation.getSimpleName());
@@ -80,8 +145,17 @@ public class MethodsCollector {
         final Collection<MethodInstance> methods = listeners.get(annotation);
         if (!methods.isEmpty()) {
             logger.debug("Executing @{} lifecycle methods", annotation.getSimpleName());
-            for (MethodInstance method : methods) {
-                callInstance(annotation, method, safe);
+            final Stopwatch timer = Stopwatch.createStarted();
+            if (threads == 0 && timeout == null) {
+                for (MethodInstance method : methods) {
+                    callInstance(annotation, method, safe);
+                }
+            } else {
+                callConcurrently(annotation, new ArrayList<>(methods), safe);
+            }
+            if (printTimes) {
+                logger.info("@{} lifecycle methods executed in {}{}", annotation.getSimpleName(),
+                        timer.stop(), renderTimes(annotation));
             }
         }
     }
@@ -89,6 +163,7 @@ public class MethodsCollector {
     private void callInstance(final Class<? extends Annotation> annotation,
                               final MethodInstance method,
                               final boolean safe) {
+        final Stopwatch timer = Stopwatch.createStarted();
         try {
             method.call();
         } catch (Exception ex) {
@@ -98,6 +173,125 @@ public class MethodsCollector {
             } else {
                 throw ex;
             }
+        } finally {
+            recordTime(annotation, method, timer.stop().elapsed());
+        }
+    }
+
+    private void callConcurrently(final Class<? extends Annotation> annotation,
+                                  final List<MethodInstance> methods,
+                                  final boolean safe) {
+        final String name = "lifecycle-" + annotation.getSimpleName().toLowerCase(Locale.ENGLISH);
+        // each method is called in new thread, so thread, blocked by timed out method, would not block other
+        // methods (permits limit concurrently executed methods, excluding timed out)
+        final ThreadFactory factory = new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build();
+        final Semaphore permits = new Semaphore(Math.max(threads, 1));
+        final List<MethodInstance> concurrent = new ArrayList<>();
+        for (MethodInstance method : methods) {
+            if (threads == 0 || method.isSequential()) {
+                await(annotation, method, submit(annotation, method, factory, permits), safe);
+            } else {
+                concurrent.add(method);
+            }
         }
+        final Map<MethodInstance, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        concurrent.forEach(method -> futures.put(method, submit(annotation, method, factory, permits)));
+        RuntimeException error = null;
+        for (Map.Entry<MethodInstance, CompletableFuture<Void>> entry : futures.entrySet()) {
+            try {
+                await(annotation, entry.getKey(), entry.getValue(), safe);
+            } catch (RuntimeException ex) {
+                // wait for all methods completion and throw first error
+                if (error == null) {
+                    error = ex;
+                } else {
+                    error.addSuppressed(ex);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private CompletableFuture<Void> submit(final Class<? extends Annotation> annotation,
+                                           final MethodInstance method,
+                                           final ThreadFactory factory,
+                                           final Semaphore permits) {
+        // wait for free slot (bounded by timeout of already running methods)
+        permits.acquireUninterruptibly();
+        final CompletableFuture<Void> res = new CompletableFuture<>();
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        if (timeout != null) {
+            // timeout counted from submission
+            res.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        res.whenComplete((ignored, ex) -> {
+            // slot released immediately for timed out method (even if method is still running)
+            permits.release();
+            final Thread running = thread.get();
+            if (ex instanceof TimeoutException && running != null) {
+                running.interrupt();
+            }
+        });
+        factory.newThread(() -> {
+            thread.set(Thread.currentThread());
+            if (res.isDone()) {
+                // timed out before start
+                return;
+            }
+            final Stopwatch timer = Stopwatch.createStarted();
+            try {
+                method.call();
+                if (res.complete(null)) {
+                    recordTime(annotation, method, timer.stop().elapsed());
+                }
+            } catch (Exception ex) {
+                if (res.completeExceptionally(ex)) {
+                    recordTime(annotation, method, timer.stop().elapsed());
+                }
+            } finally {
+                // no-op if already completed (required for errors, not caught above)
+                res.completeExceptionally(new IllegalStateException("Failed to execute method " + method));
+            }
+        }).start();
+        return res;
+    }
+
+    private void await(final Class<? extends Annotation> annotation,
+                       final MethodInstance method,
+                       final CompletableFuture<Void> future,
+                       final boolean safe) {
+        try {
+            future.join();
+        } catch (CompletionException ex) {
+            final Throwable cause = ex.getCause();
+            final RuntimeException error;
+            if (cause instanceof TimeoutException) {
+                error = new IllegalStateException("Method " + method + " did not complete in " + timeout);
+            } else {
+                error = cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+            }
+            if (safe) {
+                logger.error("Failed to process @" + annotation.getSimpleName() + " annotated method", error);
+            } else {
+                throw error;
+            }
+        }
+    }
+
+    private void recordTime(final Class<? extends Annotation> annotation,
+                            final MethodInstance method,
+                            final Duration time) {
+        synchronized (times) {
+            times.computeIfAbsent(annotation, ann -> new LinkedHashMap<>()).put(method, time);
+        }
+    }
+
+    private String renderTimes(final Class<? extends Annotation> annotation) {
+        final StringBuilder res = new StringBuilder();
+        getTimes(annotation).forEach((method, time) ->
+                res.append(String.format("%n\t%-10s %s", time.toMillis() + " ms", method)));
+        return res.toString();
     }
 }
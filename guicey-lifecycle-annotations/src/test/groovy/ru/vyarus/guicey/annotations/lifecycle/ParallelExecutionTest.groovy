@@ -0,0 +1,173 @@
+package ru.vyarus.guicey.annotations.lifecycle
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ParallelExecutionTest extends Specification {
+
+    def "Check parallel methods execution"() {
+
+        setup:
+        App.calls.clear()
+
+        when: "application started and stopped"
+        TestSupport.runCoreApp(App)
+        then: "all methods called"
+        App.calls.findAll { it.endsWith('start') }.size() == 3
+        App.calls.findAll { it.endsWith('stop') }.size() == 3
+        and: "sequential methods called first"
+        App.calls[0] == 'Seq.start'
+        and: "methods called concurrently"
+        App.calls.findAll { it.startsWith('lifecycle-') }.size() == 4
+    }
+
+    def "Check method timeout"() {
+
+        when: "start method not completed in time"
+        MethodsCollector collector = new MethodsCollector(2, Duration.ofMillis(100), false)
+        collector.register(PostConstruct, new Slow(), Slow.getMethod('start'))
+        collector.call(PostConstruct)
+        then: "failed"
+        def ex = thrown(IllegalStateException)
+        ex.message.startsWith('Method Slow.start of instance')
+        ex.message.endsWith('did not complete in PT0.1S')
+
+        when: "stop method not completed in time"
+        collector = new MethodsCollector(2, Duration.ofMillis(100), false)
+        Slow slow = new Slow()
+        collector.register(PreDestroy, slow, Slow.getMethod('stop'))
+        collector.register(PreDestroy, new Bean1(), Bean1.getMethod('stop'))
+        collector.safeCall(PreDestroy)
+        then: "not waited and other methods called"
+        collector.getTimes(PreDestroy).keySet()*.toString().every { it.startsWith('Bean1.stop') }
+    }
+
+    def "Check timed out method ignoring interruption"() {
+
+        when: "sequential stop method ignores interruption"
+        MethodsCollector collector = new MethodsCollector(0, Duration.ofMillis(100), false)
+        Stubborn stubborn = new Stubborn()
+        collector.register(PreDestroy, stubborn, Stubborn.getMethod('stop'))
+        collector.register(PreDestroy, new Bean1(), Bean1.getMethod('stop'))
+        long start = System.currentTimeMillis()
+        collector.safeCall(PreDestroy)
+        long time = System.currentTimeMillis() - start
+        then: "next method not blocked by stuck thread"
+        collector.getTimes(PreDestroy).keySet()*.toString().every { it.startsWith('Bean1.stop') }
+        collector.getTimes(PreDestroy).size() == 1
+        time < 1500
+        stubborn.interrupted
+
+        when: "start methods ignore interruption"
+        collector = new MethodsCollector(1, Duration.ofMillis(100), false)
+        collector.register(PostConstruct, new Stubborn(), Stubborn.getMethod('start'))
+        collector.register(PostConstruct, new Stubborn(), Stubborn.getMethod('start'))
+        start = System.currentTimeMillis()
+        collector.call(PostConstruct)
+        time = System.currentTimeMillis() - start
+        then: "failed without waiting for stuck threads"
+        def ex = thrown(IllegalStateException)
+        ex.message.endsWith('did not complete in PT0.1S')
+        time < 1500
+    }
+
+    static class App extends Application<Configuration> {
+
+        static List<String> calls = new CopyOnWriteArrayList<>()
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Bean1, Bean2, Seq)
+                    .bundles(new LifecycleAnnotationsBundle()
+                            .parallel(2)
+                            .methodTimeout(Duration.ofSeconds(5))
+                            .printTimes())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static abstract class Base {
+
+        void call(String method) {
+            sleep(50)
+            App.calls.add(getClass().simpleName + '.' + method)
+            if (!(this instanceof Seq)) {
+                App.calls.add(Thread.currentThread().name)
+            }
+        }
+
+        @PostConstruct
+        void start() {
+            call('start')
+        }
+
+        @PreDestroy
+        void stop() {
+            call('stop')
+        }
+    }
+
+    @EagerSingleton
+    static class Bean1 extends Base {}
+
+    @EagerSingleton
+    static class Bean2 extends Base {}
+
+    @EagerSingleton
+    @Sequential
+    static class Seq extends Base {}
+
+    static class Slow {
+        void start() {
+            sleep(2000)
+        }
+
+        void stop() {
+            sleep(2000)
+        }
+    }
+
+    static class Stubborn {
+        volatile boolean interrupted
+
+        void start() {
+            work()
+        }
+
+        void stop() {
+            work()
+        }
+
+        private void work() {
+            long end = System.currentTimeMillis() + 2000
+            while (System.currentTimeMillis() < end) {
+                try {
+                    Thread.sleep(10)
+                } catch (InterruptedException ignored) {
+                    interrupted = true
+                }
+            }
+        }
+    }
+}
@@ -514,6 +514,74 @@ public class ServerPagesBundle extends UniqueGuiceyBundle {
                             FreemarkerTemplateLoader.class.getName()));
         }
 
+        /**
+         * Enables development mode: caches are disabled for all applications so changed resources (e.g. in
+         * exploded classpath directory) are visible without application restart. Must not be used in production.
+         *
+         * @return builder instance for chained calls
+         */
+        public ViewsBuilder devMode() {
+            config.devMode();
+            return this;
+        }
+
+        /**
+         * Resolved assets locations (including not found assets) are cached in order to avoid classpath lookup
+         * on each request. Cache is bounded (per application) with
+         * {@link ServerPagesGlobalState#DEFAULT_ASSETS_CACHE_SIZE} entries by default. Cache is not used in
+         * dev mode ({@link #devMode()}). Cache statistics are available in
+         * {@link ru.vyarus.guicey.gsp.info.GspInfoService}.
+         *
+         * @param size maximum cached resolutions count per application (0 to disable cache)
+         * @return builder instance for chained calls
+         */
+        public ViewsBuilder assetsCacheSize(final int size) {
+            config.setAssetsCacheSize(size);
+            return this;
+        }
+
+        /**
+         * Serve assets from memory: assets are read on first access and stored in memory with precompressed
+         * variants (gzip for text assets; brotli if precompressed file with ".br" extension exists near the asset).
+         * Variant is selected according to Accept-Encoding header. Strong ETags are derived from asset content hash.
+         * Store is bounded by total size (per application), larger assets are served from classpath. Range
+         * requests, audio and video are also served from classpath. Not used in dev mode ({@link #devMode()}).
+         *
+         * @param maxSize maximum in-memory assets size per application in bytes (0 to disable)
+         * @return builder instance for chained calls
+         */
+        public ViewsBuilder inMemoryAssets(final long maxSize) {
+            config.setInMemoryAssetsSize(maxSize);
+            return this;
+        }
+
+        /**
+         * Pins compiled templates: template engines would not check templates modification (templates compiled
+         * once). For freemarker, "template_update_delay" is set to maximum value (freemarker checks templates
+         * modification every 5 seconds by default). Mustache caches templates by default. Explicit views
+         * configuration values are not overridden. In dev mode ({@link #devMode()}), templates modification is
+         * checked on each rendering instead (freemarker "template_update_delay" is 0 and mustache "cache" is false).
+         *
+         * @return builder instance for chained calls
+         */
+        public ViewsBuilder pinTemplates() {
+            config.pinTemplates();
+            return this;
+        }
+
+        /**
+         * Resolve locations of all templates (files recognized by view renderers) in application locations
+         * at startup in order to avoid resolution on the first template request. Templates are searched in
+         * directories and jars. Warmup results are shown in application report. Not performed in dev mode
+         * ({@link #devMode()}) or when assets cache is disabled ({@link #assetsCacheSize(int)}).
+         *
+         * @return builder instance for chained calls
+         */
+        public ViewsBuilder warmupTemplates() {
+            config.warmupTemplates();
+            return this;
+        }
+
         /**
          * @return configured bundle instance
          */
@@ -41,6 +41,7 @@ public final class AppReportBuilder {
                 app.name, app.fullUriPath + '*', app.mainContext ? "main" : "admin"));
 
         reportStaticResources(res, app);
+        reportTemplatesWarmup(res, app);
         if (!app.viewPaths.isEmpty()) {
             final Map<String, String> idx = reportViewMappings(res, app);
             reportRestPaths(res, app, idx);
@@ -65,6 +66,17 @@ public final class AppReportBuilder {
         }
     }
 
+    private static void reportTemplatesWarmup(final StringBuilder res, final ServerPagesApp app) {
+        if (app.warmedTemplates != null) {
+            res.append(TAB).append(String.format("Templates warmup: %s templates resolved in %s ms",
+                    app.warmedTemplates.size(), app.warmupTime)).append(NEWLINE);
+            for (String template : app.warmedTemplates) {
+                res.append(TAB).append(TAB).append(template).append(NEWLINE);
+            }
+            res.append(NEWLINE);
+        }
+    }
+
     @SuppressWarnings("PMD.UnusedAssignment")
     private static Map<String, String> reportViewMappings(final StringBuilder res, final ServerPagesApp app) {
         final Map<String, String> idx = new HashMap<>();
@@ -1,6 +1,7 @@
 package ru.vyarus.guicey.gsp.app;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.*;
 import io.dropwizard.jetty.setup.ServletEnvironment;
 import io.dropwizard.core.setup.Environment;
@@ -12,6 +13,7 @@ import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 import ru.vyarus.guicey.gsp.ServerPagesBundle;
 import ru.vyarus.guicey.gsp.app.asset.AssetLookup;
 import ru.vyarus.guicey.gsp.app.asset.AssetSources;
+import ru.vyarus.guicey.gsp.app.asset.memory.InMemoryAssets;
 import ru.vyarus.guicey.gsp.app.asset.servlet.AssetResolutionServlet;
 import ru.vyarus.guicey.gsp.app.filter.ServerPagesFilter;
 import ru.vyarus.guicey.gsp.app.filter.redirect.ErrorRedirect;
@@ -23,6 +25,7 @@ import ru.vyarus.guicey.gsp.app.rest.log.RestPathsAnalyzer;
 import ru.vyarus.guicey.gsp.app.rest.log.ViewPath;
 import ru.vyarus.guicey.gsp.app.rest.mapping.ViewRestLookup;
 import ru.vyarus.guicey.gsp.app.rest.mapping.ViewRestSources;
+import ru.vyarus.guicey.gsp.app.util.TemplatesWarmup;
 import ru.vyarus.guicey.gsp.info.model.GspApp;
 import ru.vyarus.guicey.gsp.views.ViewRendererConfigurationModifier;
 import ru.vyarus.guicey.spa.SpaBundle;
@@ -31,6 +34,7 @@ import jakarta.servlet.DispatcherType;
 
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Server pages application initialization logic.
@@ -119,6 +123,18 @@ public class ServerPagesApp {
      * All locations, including all extensions.
      */
     protected AssetLookup assets;
+    /**
+     * In-memory assets (null if disabled).
+     */
+    protected InMemoryAssets memoryAssets;
+    /**
+     * Templates resolved on warmup (null if warmup disabled).
+     */
+    protected List<String> warmedTemplates;
+    /**
+     * Templates warmup time (ms).
+     */
+    protected long warmupTime;
     /**
      * Views lookup.
      */
@@ -160,7 +176,14 @@ public class ServerPagesApp {
         fullUriPath = PathUtils.path(contextMapping, uriPath);
 
         assets = collectAssets(config);
+        memoryAssets = config.getInMemoryAssetsSize() > 0
+                ? new InMemoryAssets(assets, config.getInMemoryAssetsSize()) : null;
         installAssetsServlet(context);
+        if (config.isWarmupTemplates() && assets.isCacheEnabled()) {
+            final Stopwatch timer = Stopwatch.createStarted();
+            warmedTemplates = TemplatesWarmup.warmup(assets, config.getRenderers());
+            warmupTime = timer.elapsed(TimeUnit.MILLISECONDS);
+        }
         views = collectViews(config);
 
         // templates support
@@ -205,6 +228,9 @@ public class ServerPagesApp {
         res.setAssets(assets.getLocations());
         final AssetSources assetExtensions = config.getAssetExtensions(name);
         res.setAssetExtensions(assetExtensions == null ? HashMultimap.create() : assetExtensions.getLocations());
+        res.setAssetsCacheStats(assets.getCacheStats());
+        res.setInMemoryAssetsStats(memoryAssets == null ? null : memoryAssets.getStats());
+        res.setInMemoryAssetsSize(memoryAssets == null ? 0 : memoryAssets.getSize());
         res.setViews(views.getPrefixes());
         final ViewRestSources viewExtensions = config.getViewExtensions(name);
         res.setViewExtensions(viewExtensions == null ? Collections.emptyMap() : viewExtensions.getPrefixes());
@@ -263,7 +289,8 @@ public class ServerPagesApp {
         }
 
         // process paths the same way as assets servlet does
-        return new AssetLookup(mainAssetsPath, urlsBuilder.build(), loadersBuilder.build());
+        return new AssetLookup(mainAssetsPath, urlsBuilder.build(), loadersBuilder.build(),
+                config.getAssetsCacheSize());
     }
 
     private ViewRestLookup collectViews(final ServerPagesGlobalState config) {
@@ -296,7 +323,8 @@ public class ServerPagesApp {
     private void installAssetsServlet(final ServletEnvironment context) {
         final Set<String> clash = context.addServlet(name,
                         // note: if index file is template, it will be handled by filter
-                        new AssetResolutionServlet(assets, uriPath, indexFile, StandardCharsets.UTF_8))
+                        new AssetResolutionServlet(assets, memoryAssets, uriPath, indexFile,
+                                StandardCharsets.UTF_8))
                 .addMapping(uriPath + '*');
 
         if (clash != null && !clash.isEmpty()) {
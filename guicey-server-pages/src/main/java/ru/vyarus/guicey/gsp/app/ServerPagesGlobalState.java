@@ -28,6 +28,11 @@ import static com.google.common.base.Preconditions.checkState;
  */
 public class ServerPagesGlobalState {
 
+    /**
+     * Default assets resolution cache size (per application).
+     */
+    public static final int DEFAULT_ASSETS_CACHE_SIZE = 1000;
+
     private final List<String> names = new ArrayList<>();
     private final List<ServerPagesApp> apps = new ArrayList<>();
     private final List<ViewRenderer> renderers = new ArrayList<>();
@@ -40,6 +45,11 @@ public class ServerPagesGlobalState {
     private final List<ExtendedConfiguration> delayedExtensions = new ArrayList<>();
     private ViewConfigurable<Configuration> configurable;
     private boolean printConfig;
+    private boolean dev;
+    private int assetsCacheSize = DEFAULT_ASSETS_CACHE_SIZE;
+    private long inMemoryAssetsSize;
+    private boolean pinTemplates;
+    private boolean warmupTemplates;
     @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
     private Map<String, Map<String, String>> viewsConfig;
 
@@ -169,6 +179,83 @@ public class ServerPagesGlobalState {
         this.printConfig = true;
     }
 
+    /**
+     * @return true if development mode enabled (all caches disabled)
+     */
+    public boolean isDevMode() {
+        return dev;
+    }
+
+    /**
+     * Enable development mode.
+     */
+    public void devMode() {
+        checkLocked();
+        this.dev = true;
+    }
+
+    /**
+     * @return assets resolution cache size (0 when cache disabled)
+     */
+    public int getAssetsCacheSize() {
+        return dev ? 0 : assetsCacheSize;
+    }
+
+    /**
+     * @param size assets resolution cache size (0 to disable cache)
+     */
+    public void setAssetsCacheSize(final int size) {
+        checkLocked();
+        checkArgument(size >= 0, "Assets cache size can't be negative: %s", size);
+        this.assetsCacheSize = size;
+    }
+
+    /**
+     * @return in-memory assets store size in bytes (0 when disabled)
+     */
+    public long getInMemoryAssetsSize() {
+        return dev ? 0 : inMemoryAssetsSize;
+    }
+
+    /**
+     * @param size in-memory assets store size in bytes (0 to disable)
+     */
+    public void setInMemoryAssetsSize(final long size) {
+        checkLocked();
+        checkArgument(size >= 0, "In-memory assets size can't be negative: %s", size);
+        this.inMemoryAssetsSize = size;
+    }
+
+    /**
+     * @return true to disable templates modification checks (always false in dev mode)
+     */
+    public boolean isPinTemplates() {
+        return !dev && pinTemplates;
+    }
+
+    /**
+     * Disable templates modification checks.
+     */
+    public void pinTemplates() {
+        checkLocked();
+        this.pinTemplates = true;
+    }
+
+    /**
+     * @return true to resolve all templates on startup (always false in dev mode)
+     */
+    public boolean isWarmupTemplates() {
+        return !dev && warmupTemplates;
+    }
+
+    /**
+     * Enable templates warmup.
+     */
+    public void warmupTemplates() {
+        checkLocked();
+        this.warmupTemplates = true;
+    }
+
     /**
      * Called after dropwizard views initialization to prevent configuration after initialization.
      */
@@ -1,6 +1,9 @@
 package ru.vyarus.guicey.gsp.app.asset;
 
 import com.google.common.base.CharMatcher;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Multimap;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 
@@ -9,6 +12,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static ru.vyarus.dropwizard.guice.module.installer.util.PathUtils.SLASH;
@@ -35,6 +39,9 @@ import static ru.vyarus.dropwizard.guice.module.installer.util.PathUtils.SLASH;
  * Overall, lookup performs two operations: lookup classpath path by url (probably using extra mapping) and
  * resource loading itself. First phase obviously performs lookup too (duplicates second phase), but separate
  * phases are still required to be able to lookup templates directly (using proper class loader).
+ * <p>
+ * When cache enabled (not enabled in dev mode), resolution results (including not found assets) are cached
+ * (bounded cache), so repeated lookups (for the same path) do not access classpath.
  *
  * @author Vyacheslav Rusakov
  * @since 26.11.2019
@@ -53,9 +60,17 @@ public class AssetLookup implements Serializable {
      * Mapping of package to class loader (implicitly sorted by keys).
      */
     private final Multimap<String, ClassLoader> loaders;
+    /**
+     * Relative path resolution cache (null when cache disabled). Empty optional for not found assets.
+     */
+    private final transient Cache<String, Optional<AssetLocation>> lookupCache;
+    /**
+     * Absolute path resolution cache (null when cache disabled). Empty optional for not found assets.
+     */
+    private final transient Cache<String, Optional<URL>> loadCache;
 
     /**
-     * Create an assets lookup object.
+     * Create an assets lookup object without resolution cache.
      *
      * @param primaryLocation primary location
      * @param locations       other locations
@@ -64,6 +79,21 @@ public class AssetLookup implements Serializable {
     public AssetLookup(final String primaryLocation,
                        final Multimap<String, String> locations,
                        final Multimap<String, ClassLoader> loaders) {
+        this(primaryLocation, locations, loaders, 0);
+    }
+
+    /**
+     * Create an assets lookup object.
+     *
+     * @param primaryLocation primary location
+     * @param locations       other locations
+     * @param loaders         asset loaders
+     * @param cacheSize       maximum cached resolutions count (0 to disable cache)
+     */
+    public AssetLookup(final String primaryLocation,
+                       final Multimap<String, String> locations,
+                       final Multimap<String, ClassLoader> loaders,
+                       final int cacheSize) {
         // primary location without leading slash!
         this.primaryLocation = primaryLocation;
         // assume immutable map, properly built: keys sorted from longest to smaller (root locations last),
@@ -72,6 +102,10 @@ public class AssetLookup implements Serializable {
         this.locations = locations;
         // assume keys sorted the same, also immutable
         this.loaders = loaders;
+        this.lookupCache = cacheSize > 0 ? CacheBuilder.newBuilder()
+                .maximumSize(cacheSize).recordStats().build() : null;
+        this.loadCache = cacheSize > 0 ? CacheBuilder.newBuilder()
+                .maximumSize(cacheSize).recordStats().build() : null;
     }
 
     /**
@@ -170,6 +204,86 @@ public class AssetLookup implements Serializable {
      * @return found resource or null
      */
     public URL load(final String assetPath) {
+        if (loadCache != null) {
+            Optional<URL> res = loadCache.getIfPresent(assetPath);
+            if (res == null) {
+                res = Optional.ofNullable(doLoad(assetPath));
+                loadCache.put(assetPath, res);
+            }
+            return res.orElse(null);
+        }
+        return doLoad(assetPath);
+    }
+
+    /**
+     * General lookup mechanism (used by {@link #lookupUrl(String)} and {@link #lookupPath(String)} shortcuts.
+     * <p>
+     * Lookup asset in classpath by path (relative to application root).
+     * Assets, registered to exact path processed in priority. For example, if assets registered for '/foo/bar/'
+     * path then path '/foo/bar/sample.css' will be checked first in path-specific assets. Multiple asset packages
+     * could be configured on each path: assets checked in registration-reverse order to grant regitstration
+     * order priority (resources from package, registered later are prioritized).
+     * <p>
+     * Resolution result is cached (when cache enabled).
+     *
+     * @param path path to find asset for
+     * @return matched location or null if not found
+     */
+    public AssetLocation lookup(final String path) {
+        final String assetPath = CharMatcher.is('/').trimLeadingFrom(getRelativePath(path));
+        if (lookupCache != null) {
+            Optional<AssetLocation> res = lookupCache.getIfPresent(assetPath);
+            if (res == null) {
+                res = Optional.ofNullable(doLookup(assetPath));
+                lookupCache.put(assetPath, res);
+            }
+            return res.orElse(null);
+        }
+        return doLookup(assetPath);
+    }
+
+    /**
+     * Used to avoid repeated processing of not existing assets (e.g. bots probing for files).
+     *
+     * @param path path to check (same as for {@link #lookup(String)})
+     * @return true if asset was already searched and not found (always false when cache disabled)
+     */
+    public boolean isKnownMissing(final String path) {
+        if (lookupCache == null) {
+            return false;
+        }
+        // map view used to not affect cache stats (probe is not a resolution)
+        final Optional<AssetLocation> res = lookupCache.asMap().get(
+                CharMatcher.is('/').trimLeadingFrom(getRelativePath(path)));
+        return res != null && res.isEmpty();
+    }
+
+    /**
+     * @return true if resolution cache enabled
+     */
+    public boolean isCacheEnabled() {
+        return lookupCache != null;
+    }
+
+    /**
+     * Hits count shows avoided classpath lookups. Misses count shows actual lookups (resolutions): each asset
+     * (existing or not) is counted as miss only once (until evicted). Known missing assets checks
+     * ({@link #isKnownMissing(String)}) are not counted.
+     *
+     * @return resolution cache stats (both relative and absolute paths resolution) or null if cache disabled
+     */
+    public CacheStats getCacheStats() {
+        return lookupCache == null ? null : lookupCache.stats().plus(loadCache.stats());
+    }
+
+    /**
+     * @return currently cached resolutions (including not found assets) or 0 if cache disabled
+     */
+    public long getCacheSize() {
+        return lookupCache == null ? 0 : lookupCache.size() + loadCache.size();
+    }
+
+    private URL doLoad(final String assetPath) {
         URL res;
 
         // first, assume absolute path search (assumed to be already resolved to correct absolute classpath path)
@@ -200,41 +314,6 @@ public class AssetLookup implements Serializable {
         return res;
     }
 
-    /**
-     * General lookup mechanism (used by {@link #lookupUrl(String)} and {@link #lookupPath(String)} shortcuts.
-     * <p>
-     * Lookup asset in classpath by path (relative to application root).
-     * Assets, registered to exact path processed in priority. For example, if assets registered for '/foo/bar/'
-     * path then path '/foo/bar/sample.css' will be checked first in path-specific assets. Multiple asset packages
-     * could be configured on each path: assets checked in registration-reverse order to grant regitstration
-     * order priority (resources from package, registered later are prioritized).
-     *
-     * @param path path to find asset for
-     * @return matched location or null if not found
-     */
-    public AssetLocation lookup(final String path) {
-        final String relativePath = getRelativePath(path);
-        AssetLocation res = null;
-        final String assetPath = CharMatcher.is('/').trimLeadingFrom(relativePath);
-        for (String subUrl : locations.keySet()) {
-            if (assetPath.startsWith(subUrl)) {
-                // root locations path will go last and will be ''
-                final String targetPath = subUrl.length() > 0 ? assetPath.substring(subUrl.length()) : assetPath;
-                for (String pkg : locations.get(subUrl)) {
-                    // class loaders registered by root package so we can get all registered by the known root package
-                    res = find(pkg + targetPath, loaders.get(pkg));
-                    if (res != null) {
-                        break;
-                    }
-                }
-                if (res != null) {
-                    break;
-                }
-            }
-        }
-        return res;
-    }
-
     /**
      * Supposed to be used for error reporting. Return locations in package notion.
      *
@@ -279,6 +358,27 @@ public class AssetLookup implements Serializable {
         return res;
     }
 
+    private AssetLocation doLookup(final String assetPath) {
+        AssetLocation res = null;
+        for (String subUrl : locations.keySet()) {
+            if (assetPath.startsWith(subUrl)) {
+                // root locations path will go last and will be ''
+                final String targetPath = subUrl.length() > 0 ? assetPath.substring(subUrl.length()) : assetPath;
+                for (String pkg : locations.get(subUrl)) {
+                    // class loaders registered by root package so we can get all registered by the known root package
+                    res = find(pkg + targetPath, loaders.get(pkg));
+                    if (res != null) {
+                        break;
+                    }
+                }
+                if (res != null) {
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
     private AssetLocation find(final String path, final Iterable<ClassLoader> loaders) {
         AssetLocation res = null;
         for (ClassLoader loader : loaders) {
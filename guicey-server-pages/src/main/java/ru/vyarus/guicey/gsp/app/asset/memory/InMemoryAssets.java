@@ -0,0 +1,145 @@
+package ru.vyarus.guicey.gsp.app.asset.memory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.io.ByteStreams;
+import com.google.common.net.MediaType;
+import io.dropwizard.servlets.assets.ResourceURL;
+import ru.vyarus.guicey.gsp.app.asset.AssetLookup;
+import ru.vyarus.guicey.spa.filter.InMemoryAsset;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+
+/**
+ * In-memory assets store. Assets are read from classpath on first access and kept in memory together with
+ * precompressed variants: gzip variant is computed for compressible (text) assets and brotli variant is used if
+ * precompressed file exists near the asset (e.g. {@code style.css.br} near {@code style.css}). Store is bounded
+ * by total memory size (all variants): least used assets are evicted first.
+ * <p>
+ * Assets larger than store size, directories and not found assets are not stored (served from classpath).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class InMemoryAssets {
+
+    private static final String BROTLI_EXTENSION = ".br";
+
+    private final AssetLookup assets;
+    private final long maxSize;
+    private final Cache<String, InMemoryAsset> cache;
+
+    /**
+     * Create assets store.
+     *
+     * @param assets  assets lookup
+     * @param maxSize maximum store size in bytes
+     */
+    public InMemoryAssets(final AssetLookup assets, final long maxSize) {
+        this.assets = assets;
+        this.maxSize = maxSize;
+        this.cache = CacheBuilder.newBuilder()
+                // with default concurrency, weight is split between segments and any asset larger than
+                // segment weight (maxSize/4) would be evicted immediately
+                .concurrencyLevel(1)
+                .maximumWeight(maxSize)
+                .weigher((String path, InMemoryAsset asset) -> asset.getSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Loads asset into memory on first access.
+     *
+     * @param path      absolute classpath path (the same as used by assets servlet)
+     * @param mediaType asset media type
+     * @return in-memory asset or null if asset can't be stored (not found, directory or too large)
+     * @throws IOException on asset reading error
+     */
+    public InMemoryAsset get(final String path, final MediaType mediaType) throws IOException {
+        InMemoryAsset res = cache.getIfPresent(path);
+        if (res == null) {
+            // not synchronized: in worst case asset would be loaded few times
+            res = load(path, mediaType);
+            if (res != null) {
+                cache.put(path, res);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Hits count shows requests served from memory. Misses count shows assets loading (from classpath).
+     *
+     * @return store stats
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return memory occupied by stored assets (all variants) in bytes
+     */
+    public long getSize() {
+        long res = 0;
+        for (InMemoryAsset asset : cache.asMap().values()) {
+            res += asset.getSize();
+        }
+        return res;
+    }
+
+    private InMemoryAsset load(final String path, final MediaType mediaType) throws IOException {
+        final URL url = assets.lookupUrl(path);
+        if (url == null || isDirectory(url)) {
+            return null;
+        }
+        final URLConnection connection = url.openConnection();
+        final URL brotliUrl = assets.lookupUrl(path + BROTLI_EXTENSION);
+        final URLConnection brotliConnection = brotliUrl == null ? null : brotliUrl.openConnection();
+        // avoid reading assets which could not be stored anyway (length could be unknown)
+        if (Math.max(connection.getContentLengthLong(), 0)
+                + (brotliConnection == null ? 0 : Math.max(brotliConnection.getContentLengthLong(), 0)) > maxSize) {
+            return null;
+        }
+        final byte[] content = read(connection);
+        final byte[] brotli = brotliConnection == null ? null : read(brotliConnection);
+        // check actual size before compression and hashing (gzip variant is stored only if smaller than content)
+        if (content.length + (brotli == null ? 0 : brotli.length) > maxSize) {
+            return null;
+        }
+        final InMemoryAsset res = InMemoryAsset.create(content, brotli, isCompressible(mediaType),
+                // http dates precision is seconds
+                (ResourceURL.getLastModified(url) / 1000) * 1000,
+                mediaType);
+        return res.getSize() > maxSize ? null : res;
+    }
+
+    private static byte[] read(final URLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream()) {
+            return ByteStreams.toByteArray(in);
+        }
+    }
+
+    private static boolean isDirectory(final URL url) {
+        try {
+            return ResourceURL.isDirectory(url);
+        } catch (URISyntaxException ex) {
+            // let assets servlet deal with it
+            return true;
+        }
+    }
+
+    private static boolean isCompressible(final MediaType type) {
+        final String subtype = type.subtype();
+        return type.is(MediaType.ANY_TEXT_TYPE)
+                || subtype.contains("javascript")
+                || subtype.contains("json")
+                || subtype.contains("xml")
+                || subtype.contains("svg");
+    }
+}
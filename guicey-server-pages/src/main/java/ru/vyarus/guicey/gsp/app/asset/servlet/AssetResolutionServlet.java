@@ -1,17 +1,29 @@
 package ru.vyarus.guicey.gsp.app.asset.servlet;
 
+import com.google.common.base.CharMatcher;
+import com.google.common.net.HttpHeaders;
+import com.google.common.net.MediaType;
 import io.dropwizard.servlets.assets.AssetServlet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guicey.gsp.app.asset.AssetLookup;
+import ru.vyarus.guicey.gsp.app.asset.memory.InMemoryAssets;
+import ru.vyarus.guicey.spa.filter.InMemoryAsset;
 
 import jakarta.annotation.Nullable;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
+import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.Charset;
 
 /**
  * Customized dropwizard {@link AssetServlet} which is able to search assets in multiple classpath locations.
+ * <p>
+ * When in-memory assets enabled, assets are served from memory (with precompressed variant, selected according
+ * to Accept-Encoding header). Range requests, audio and video are always served by dropwizard servlet.
  *
  * @author Vyacheslav Rusakov
  * @since 04.12.2018
@@ -25,16 +37,40 @@ public class AssetResolutionServlet extends AssetServlet {
      * Assets lookup.
      */
     private final AssetLookup assets;
+    /**
+     * In-memory assets (null if disabled).
+     */
+    private final transient InMemoryAssets memory;
+    private final String uriPath;
+    private final String primaryLocation;
+    private final Charset defaultCharset;
+
+    /**
+     * Create an asset resolution servlet.
+     *
+     * @param assets         asset lookup
+     * @param uriPath        path
+     * @param indexFile      index file
+     * @param defaultCharset default charset
+     */
+    public AssetResolutionServlet(final AssetLookup assets,
+                                  final String uriPath,
+                                  @Nullable final String indexFile,
+                                  @Nullable final Charset defaultCharset) {
+        this(assets, null, uriPath, indexFile, defaultCharset);
+    }
 
     /**
      * Create an asset resolution servlet.
      *
      * @param assets         asset lookup
+     * @param memory         in-memory assets (null to disable)
      * @param uriPath        path
      * @param indexFile      index file
      * @param defaultCharset default charset
      */
     public AssetResolutionServlet(final AssetLookup assets,
+                                  @Nullable final InMemoryAssets memory,
                                   final String uriPath,
                                   @Nullable final String indexFile,
                                   @Nullable final Charset defaultCharset) {
@@ -43,10 +79,32 @@ public class AssetResolutionServlet extends AssetServlet {
         //resourceLocations.get(resourceLocations.size() - 1)
         super(assets.getPrimaryLocation(), uriPath, indexFile, defaultCharset);
         this.assets = assets;
+        this.memory = memory;
+        // the same way as in dropwizard servlet
+        this.uriPath = CharMatcher.is('/').trimTrailingFrom(uriPath);
+        final String location = CharMatcher.is('/').trimFrom(assets.getPrimaryLocation());
+        this.primaryLocation = location.isEmpty() ? location : location + '/';
+        this.defaultCharset = defaultCharset;
+    }
+
+    @Override
+    protected void doGet(final HttpServletRequest req, final HttpServletResponse resp)
+            throws ServletException, IOException {
+        final InMemoryAsset asset = memory == null || req.getHeader(HttpHeaders.RANGE) != null
+                ? null : getInMemoryAsset(req);
+        if (asset == null) {
+            super.doGet(req, resp);
+        } else {
+            asset.write(req, resp);
+        }
     }
 
     @Override
     protected URL getResourceURL(final String absolutePath) {
+        if (assets.isKnownMissing(absolutePath)) {
+            // already searched: avoid repeated lookup and logging (e.g. bots probing for files)
+            throw new IllegalArgumentException("resource " + absolutePath + " not found");
+        }
         // do lookup even if directory requested: assets servlet will detect it and ask for index file
         final URL res = assets.lookupUrl(absolutePath);
         if (res == null) {
@@ -61,4 +119,37 @@ public class AssetResolutionServlet extends AssetServlet {
         }
         return res;
     }
+
+    private InMemoryAsset getInMemoryAsset(final HttpServletRequest req) throws IOException {
+        final String key = req.getPathInfo() == null ? req.getServletPath() : req.getServletPath() + req.getPathInfo();
+        if (!key.startsWith(uriPath) || key.endsWith("/")) {
+            // directory (index file) requests handled by dropwizard servlet
+            return null;
+        }
+        final String path = CharMatcher.is('/').trimFrom(primaryLocation
+                + CharMatcher.is('/').trimFrom(key.substring(uriPath.length())));
+        if (assets.isKnownMissing(path)) {
+            return null;
+        }
+        final MediaType type = getMediaType(req);
+        return type.is(MediaType.ANY_AUDIO_TYPE) || type.is(MediaType.ANY_VIDEO_TYPE)
+                ? null : memory.get(path, type);
+    }
+
+    private MediaType getMediaType(final HttpServletRequest req) {
+        // the same way as in dropwizard servlet
+        final String mime = req.getServletContext().getMimeType(req.getRequestURI());
+        MediaType res = MediaType.HTML_UTF_8;
+        if (mime != null) {
+            try {
+                res = MediaType.parse(mime);
+                if (defaultCharset != null && res.is(MediaType.ANY_TEXT_TYPE)) {
+                    res = res.withCharset(defaultCharset);
+                }
+            } catch (IllegalArgumentException ignore) {
+                // use default
+            }
+        }
+        return res;
+    }
 }
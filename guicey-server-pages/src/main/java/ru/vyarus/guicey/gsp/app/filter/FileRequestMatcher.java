@@ -0,0 +1,80 @@
+package ru.vyarus.guicey.gsp.app.filter;
+
+import com.google.common.base.Preconditions;
+import ru.vyarus.guicey.gsp.ServerPagesBundle;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * File requests detection. For default pattern ({@link ServerPagesBundle#FILE_REQUEST_PATTERN}) precompiled
+ * matcher is used instead of regex: last path segment is checked to end with an extension (dot followed by
+ * letters or digits). Custom patterns (and paths with query part) are always processed with regex.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class FileRequestMatcher {
+
+    private final Pattern pattern;
+    private final boolean fast;
+
+    /**
+     * Create matcher.
+     *
+     * @param pattern file detection regex (must contain file capture group)
+     */
+    public FileRequestMatcher(final String pattern) {
+        this.pattern = Pattern.compile(pattern);
+        this.fast = ServerPagesBundle.FILE_REQUEST_PATTERN.equals(pattern);
+    }
+
+    /**
+     * @return file detection pattern
+     */
+    public String getPattern() {
+        return pattern.pattern();
+    }
+
+    /**
+     * Searches file name in path. For example, "/some/url/file.txt" -&gt; "file.txt".
+     *
+     * @param path path to check
+     * @return detected file name or null if path is not a file
+     */
+    public String find(final String path) {
+        return fast && path.indexOf('?') < 0 ? findFast(path) : findRegex(path);
+    }
+
+    private String findRegex(final String path) {
+        final Matcher matcher = pattern.matcher(path);
+        final boolean detected = matcher.find();
+        Preconditions.checkState(!detected || matcher.groupCount() > 0,
+                "File detection pattern %s did not contain file capture group (1)",
+                pattern.pattern());
+        // extracting template name
+        return detected ? matcher.group(1) : null;
+    }
+
+    /**
+     * Equivalent of default pattern for paths without query part.
+     *
+     * @param path path to check
+     * @return last path segment if it ends with extension or null
+     */
+    private String findFast(final String path) {
+        final int segment = path.lastIndexOf('/') + 1;
+        final int dot = path.lastIndexOf('.');
+        // at least one character before dot and one after
+        if (dot <= segment || dot == path.length() - 1) {
+            return null;
+        }
+        for (int i = dot + 1; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9')) {
+                return null;
+            }
+        }
+        return path.substring(segment);
+    }
+}
@@ -1,11 +1,11 @@
 package ru.vyarus.guicey.gsp.app.filter;
 
-import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.dropwizard.views.common.View;
 import io.dropwizard.views.common.ViewRenderer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 import ru.vyarus.guicey.gsp.app.filter.redirect.ErrorRedirect;
 import ru.vyarus.guicey.gsp.app.filter.redirect.SpaSupport;
 import ru.vyarus.guicey.gsp.app.filter.redirect.TemplateRedirect;
@@ -21,15 +21,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.core.Response;
 
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 /**
  * The main filter, implementing server pages support. Filter is applied above assets servlet. For each request,
  * file call detected using pre-defined regexp (by default, looking if request end with en extensions - most
  * likely it's a file). Detected file extension checked if it's a template file. If not template then redirected to
- * assets servlet (normal dropwizard assets processing). In all other cases, request is redirected into
- * rest (with "{app name}" prefix) to be handled by rest resource (dropwizard views).
+ * assets servlet (normal dropwizard assets processing). Template detection result is cached by file extension
+ * (everything after the first dot in file name) so renderers are not checked for each request. In all other
+ * cases, request is redirected into rest (with "{app name}" prefix) to be handled by rest resource
+ * (dropwizard views).
  * <p>
  * Such logic is required in order to merge assets and views worlds so overall it could be used as good old JSP.
  * <p>
@@ -50,18 +51,22 @@ import java.util.regex.Pattern;
  * @since 22.10.2018
  */
 public class ServerPagesFilter implements Filter {
+    private static final int MAX_CACHED_EXTENSIONS = 1000;
     private final Logger logger = LoggerFactory.getLogger(ServerPagesFilter.class);
 
     // server app mapping
     private final String uriPath;
-    // file requets detection regexp
-    private final Pattern filePattern;
+    // file requets detection
+    private final FileRequestMatcher fileMatcher;
     // index page
     private final String index;
 
     private final TemplateRedirect redirect;
     private final SpaSupport spa;
     private final Iterable<ViewRenderer> renderers;
+    // file extension -- renderer (empty for asset)
+    private final Cache<String, Optional<ViewRenderer>> renderersCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_EXTENSIONS).build();
 
     /**
      * Create filter.
@@ -80,7 +85,7 @@ public class ServerPagesFilter implements Filter {
                              final SpaSupport spa,
                              final Iterable<ViewRenderer> renderers) {
         this.uriPath = uriPath;
-        this.filePattern = Pattern.compile(filePattern);
+        this.fileMatcher = new FileRequestMatcher(filePattern);
         this.index = index;
         this.redirect = redirect;
         this.spa = spa;
@@ -118,7 +123,7 @@ public class ServerPagesFilter implements Filter {
         // cut of application mapping prefix to get page url (same as in rest url, but without app prefix)
         // (it may be direct path to template file under classpath)
         String page;
-        if (PathUtils.trailingSlash(requestURI).equals(uriPath)) {
+        if (isRoot(requestURI)) {
             // special case when root called without trailing slash (page instead of page/)
             // uriPath will always end with slash
             page = "";
@@ -140,31 +145,37 @@ public class ServerPagesFilter implements Filter {
     }
 
     private String findFileInPath(final HttpServletRequest req) {
-        if (isRoot(req)) {
+        if (isRoot(req.getRequestURI())) {
             // check if index page is a file (and not some path)
-            return filePattern.matcher(index).find() ? index : null;
+            return fileMatcher.find(index) != null ? index : null;
         }
-
-        final Matcher matcher = filePattern.matcher(req.getRequestURI());
-        final boolean detected = matcher.find();
-        Preconditions.checkState(!detected || matcher.groupCount() > 0,
-                "File detection pattern %s did not contain file capture group (1)",
-                filePattern.pattern());
-        // extracting template name
-        return detected ? matcher.group(1) : null;
+        return fileMatcher.find(req.getRequestURI());
     }
 
-    private boolean isRoot(final HttpServletRequest req) {
-        final String uri = req.getRequestURI();
-        final String path = PathUtils.trailingSlash(uri);
-        return path.equals(uriPath);
+    private boolean isRoot(final String uri) {
+        // same as PathUtils.trailingSlash(uri).equals(uriPath), but without string creation
+        // (uriPath will always end with slash)
+        return uri.equals(uriPath) || uri.length() == uriPath.length() - 1 && uriPath.startsWith(uri);
     }
 
     private ViewRenderer findRenderer(final String file) {
+        final int dot = file.indexOf('.');
+        final String ext = dot < 0 ? file : file.substring(dot);
+        Optional<ViewRenderer> res = renderersCache.getIfPresent(ext);
+        if (res == null) {
+            res = Optional.ofNullable(detectRenderer(file));
+            renderersCache.put(ext, res);
+        }
+        if (res.isPresent()) {
+            logger.debug("Possible direct {} template {} request", res.get().getConfigurationKey(), file);
+        }
+        return res.orElse(null);
+    }
+
+    private ViewRenderer detectRenderer(final String file) {
         final View view = new DummyView(file);
         for (ViewRenderer renderer : renderers) {
             if (renderer.isRenderable(view)) {
-                logger.debug("Possible direct {} template {} request", renderer.getConfigurationKey(), file);
                 return renderer;
             }
         }
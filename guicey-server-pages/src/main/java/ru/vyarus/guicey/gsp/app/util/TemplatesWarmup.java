@@ -0,0 +1,134 @@
+package ru.vyarus.guicey.gsp.app.util;
+
+import io.dropwizard.views.common.View;
+import io.dropwizard.views.common.ViewRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
+import ru.vyarus.guicey.gsp.app.asset.AssetLookup;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Templates warmup: all templates (files recognized by view renderers) in application locations are resolved
+ * at startup so template locations are cached before the first request (assets resolution cache must be enabled).
+ * Only directories and jar files are searched.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class TemplatesWarmup {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TemplatesWarmup.class);
+
+    private TemplatesWarmup() {
+    }
+
+    /**
+     * Resolve all application templates.
+     *
+     * @param assets    application assets
+     * @param renderers view renderers
+     * @return resolved templates (absolute classpath paths)
+     */
+    public static List<String> warmup(final AssetLookup assets, final Iterable<ViewRenderer> renderers) {
+        final Set<String> res = new LinkedHashSet<>();
+        for (Map.Entry<String, String> entry : assets.getLocations().entries()) {
+            final String url = entry.getKey();
+            final String pkg = entry.getValue();
+            for (ClassLoader loader : assets.getLoaders().get(pkg)) {
+                for (String file : findFiles(pkg, loader)) {
+                    if (!isTemplate(file, renderers)) {
+                        continue;
+                    }
+                    // resolve the same way as templates resolved on request (with overrides)
+                    final String path = assets.lookupPath(url + file);
+                    if (path != null && assets.load(PathUtils.leadingSlash(path)) != null) {
+                        // freemarker loads templates without leading slash
+                        assets.load(PathUtils.trimLeadingSlash(path));
+                        res.add(PathUtils.leadingSlash(path));
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(res);
+    }
+
+    private static boolean isTemplate(final String file, final Iterable<ViewRenderer> renderers) {
+        final View view = new WarmupView(file);
+        for (ViewRenderer renderer : renderers) {
+            if (renderer.isRenderable(view)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param pkg    package path (with trailing slash)
+     * @param loader class loader
+     * @return all files in package (paths relative to package)
+     */
+    private static Set<String> findFiles(final String pkg, final ClassLoader loader) {
+        final Set<String> res = new LinkedHashSet<>();
+        try {
+            final Enumeration<URL> urls = loader.getResources(pkg);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    scanDirectory(Paths.get(url.toURI()), res);
+                } else if ("jar".equals(url.getProtocol())) {
+                    scanJar((JarURLConnection) url.openConnection(), res);
+                }
+            }
+        } catch (IOException | URISyntaxException ex) {
+            LOGGER.warn("Failed to search templates in {}", pkg, ex);
+        }
+        return res;
+    }
+
+    private static void scanDirectory(final Path dir, final Set<String> res) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.filter(Files::isRegularFile)
+                    .forEach(file -> res.add(dir.relativize(file).toString().replace('\\', '/')));
+        }
+    }
+
+    private static void scanJar(final JarURLConnection connection, final Set<String> res) throws IOException {
+        // avoid closing shared (cached) jar file
+        connection.setUseCaches(false);
+        final String prefix = PathUtils.trailingSlash(connection.getEntryName());
+        try (JarFile jar = connection.getJarFile()) {
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().startsWith(prefix)) {
+                    res.add(entry.getName().substring(prefix.length()));
+                }
+            }
+        }
+    }
+
+    /**
+     * View used to re-use dropwizard renderer selection logic.
+     */
+    private static class WarmupView extends View {
+        WarmupView(final String templateName) {
+            super(templateName);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ru.vyarus.guicey.gsp.info.model;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Multimap;
 import ru.vyarus.guicey.gsp.app.filter.redirect.ErrorRedirect;
 import ru.vyarus.guicey.gsp.app.rest.log.HiddenViewPath;
@@ -35,6 +36,9 @@ public class GspApp {
     private Multimap<String, String> assetExtensions;
     private Map<String, String> viewExtensions;
     private String restRootUrl;
+    private CacheStats assetsCacheStats;
+    private CacheStats inMemoryAssetsStats;
+    private long inMemoryAssetsSize;
 
     private String indexFile;
     private String filesRegex;
@@ -226,6 +230,52 @@ public class GspApp {
         this.restRootUrl = restRootUrl;
     }
 
+    /**
+     * Hits count shows requests resolved without classpath access. Misses count shows actual classpath lookups.
+     *
+     * @return assets resolution cache stats or null if cache disabled (or dev mode enabled)
+     */
+    public CacheStats getAssetsCacheStats() {
+        return assetsCacheStats;
+    }
+
+    /**
+     * @param assetsCacheStats assets resolution cache stats
+     */
+    public void setAssetsCacheStats(final CacheStats assetsCacheStats) {
+        this.assetsCacheStats = assetsCacheStats;
+    }
+
+    /**
+     * Hits count shows requests served from memory. Misses count shows assets loading into memory.
+     *
+     * @return in-memory assets stats or null if in-memory assets disabled
+     */
+    public CacheStats getInMemoryAssetsStats() {
+        return inMemoryAssetsStats;
+    }
+
+    /**
+     * @param inMemoryAssetsStats in-memory assets stats
+     */
+    public void setInMemoryAssetsStats(final CacheStats inMemoryAssetsStats) {
+        this.inMemoryAssetsStats = inMemoryAssetsStats;
+    }
+
+    /**
+     * @return memory occupied by in-memory assets (all variants) in bytes
+     */
+    public long getInMemoryAssetsSize() {
+        return inMemoryAssetsSize;
+    }
+
+    /**
+     * @param inMemoryAssetsSize memory occupied by in-memory assets
+     */
+    public void setInMemoryAssetsSize(final long inMemoryAssetsSize) {
+        this.inMemoryAssetsSize = inMemoryAssetsSize;
+    }
+
     /**
      * @return configured index file (empty string by default, meaning index.html)
      */
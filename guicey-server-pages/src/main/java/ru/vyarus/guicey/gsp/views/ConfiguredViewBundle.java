@@ -19,6 +19,10 @@ import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.TAB;
  * @since 11.01.2019
  */
 public class ConfiguredViewBundle extends ViewBundle<Configuration> {
+    private static final String FREEMARKER = "freemarker";
+    private static final String MUSTACHE = "mustache";
+    private static final String MUSTACHE_CACHE = "cache";
+
     private final Logger logger = LoggerFactory.getLogger(ConfiguredViewBundle.class);
     private final ServerPagesGlobalState globalConfig;
 
@@ -57,12 +61,31 @@ public class ConfiguredViewBundle extends ViewBundle<Configuration> {
                 modifier.modify(cfg);
             }
         }
+        applyTemplatesCache(config);
         if (globalConfig.isPrintConfiguration()) {
             logger.info("Views configuration: {}{}", NEWLINE, renderConfig(config));
         }
         return globalConfig.viewsConfig(config);
     }
 
+    /**
+     * Applies templates cache configuration (without overriding explicit values).
+     *
+     * @param config views configuration
+     */
+    private void applyTemplatesCache(final Map<String, Map<String, String>> config) {
+        if (globalConfig.isDevMode()) {
+            config.computeIfAbsent(FREEMARKER, key -> new HashMap<>())
+                    .putIfAbsent(freemarker.template.Configuration.TEMPLATE_UPDATE_DELAY_KEY, "0");
+            config.computeIfAbsent(MUSTACHE, key -> new HashMap<>())
+                    .putIfAbsent(MUSTACHE_CACHE, "false");
+        } else if (globalConfig.isPinTemplates()) {
+            config.computeIfAbsent(FREEMARKER, key -> new HashMap<>())
+                    .putIfAbsent(freemarker.template.Configuration.TEMPLATE_UPDATE_DELAY_KEY,
+                            String.valueOf(Integer.MAX_VALUE));
+        }
+    }
+
     /**
      * Render views configuration.
      *
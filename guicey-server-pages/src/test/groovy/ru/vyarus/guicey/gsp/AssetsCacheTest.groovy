@@ -0,0 +1,94 @@
+package ru.vyarus.guicey.gsp
+
+import com.google.common.cache.CacheStats
+import com.google.common.collect.ImmutableMultimap
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.gsp.app.asset.AssetLookup
+import ru.vyarus.guicey.gsp.info.GspInfoService
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class AssetsCacheTest extends AbstractTest {
+
+    @Inject
+    GspInfoService info
+
+    def "Check assets resolution cache"() {
+
+        when: "accessing resource twice"
+        get("/css/style.css")
+        String res = get("/css/style.css")
+        then: "resolved from cache"
+        res.contains("/* sample page css */")
+        CacheStats stats = info.getApplication("app").assetsCacheStats
+        stats.hitCount() > 0
+
+        when: "accessing missing resource"
+        long misses = stats.missCount()
+        get("/css/missing.css")
+        then: "not found"
+        thrown(FileNotFoundException)
+        and: "single resolution counted"
+        info.getApplication("app").assetsCacheStats.missCount() == misses + 1
+
+        when: "accessing missing resource again"
+        stats = info.getApplication("app").assetsCacheStats
+        get("/css/missing.css")
+        then: "not found resolution cached"
+        thrown(FileNotFoundException)
+        and: "known missing check is not counted"
+        info.getApplication("app").assetsCacheStats.missCount() == stats.missCount()
+        info.getApplication("app").assetsCacheStats.hitCount() == stats.hitCount()
+    }
+
+    def "Check cache disabled"() {
+
+        when: "creating lookup without cache"
+        AssetLookup lookup = new AssetLookup("app/", ImmutableMultimap.of("", "app/"), ImmutableMultimap.of(), 0)
+        then: "no cache"
+        !lookup.cacheEnabled
+        lookup.cacheStats == null
+        lookup.lookup("css/missing.css") == null
+        !lookup.isKnownMissing("css/missing.css")
+
+        when: "creating lookup with cache"
+        lookup = new AssetLookup("app/", ImmutableMultimap.of("", "app/"), ImmutableMultimap.of(), 10)
+        then: "misses cached"
+        lookup.cacheEnabled
+        lookup.lookup("css/missing.css") == null
+        lookup.isKnownMissing("css/missing.css")
+        lookup.cacheSize == 1
+        lookup.cacheStats.missCount() == 1
+        lookup.cacheStats.hitCount() == 0
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(
+                            ServerPagesBundle.builder()
+                                    .assetsCacheSize(100)
+                                    .build(),
+                            ServerPagesBundle.app("app", "/app", "/")
+                                    .indexPage("index.html")
+                                    .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
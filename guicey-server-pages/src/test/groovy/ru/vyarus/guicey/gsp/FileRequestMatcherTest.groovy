@@ -0,0 +1,55 @@
+package ru.vyarus.guicey.gsp
+
+import ru.vyarus.guicey.gsp.app.filter.FileRequestMatcher
+import spock.lang.Specification
+
+import java.util.regex.Matcher
+import java.util.regex.Pattern
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class FileRequestMatcherTest extends Specification {
+
+    def "Check default pattern matching"() {
+
+        setup:
+        FileRequestMatcher matcher = new FileRequestMatcher(ServerPagesBundle.FILE_REQUEST_PATTERN)
+
+        expect: "same result as regex"
+        matcher.find(path) == res
+        regex(path) == res
+
+        where:
+        path                  | res
+        "/app/css/style.css"  | "style.css"
+        "index.html"          | "index.html"
+        "/app/some.min.js"    | "some.min.js"
+        "/app/"               | null
+        "/app/page"           | null
+        "/app/.htaccess"      | null
+        "/app/file."          | null
+        "/app/file.t-t"       | null
+        "/app/file.txt?a=1"   | "file.txt"
+        "/app.dir/page"       | null
+    }
+
+    def "Check custom pattern"() {
+
+        when: "custom pattern without capture group"
+        new FileRequestMatcher("\\.txt").find("/app/file.txt")
+        then: "error"
+        thrown(IllegalStateException)
+
+        when: "custom pattern"
+        String res = new FileRequestMatcher("(?:^|/)([^/]+\\.(?:txt))\$").find("/app/file.txt")
+        then: "detected"
+        res == "file.txt"
+    }
+
+    private String regex(String path) {
+        Matcher matcher = Pattern.compile(ServerPagesBundle.FILE_REQUEST_PATTERN).matcher(path)
+        return matcher.find() ? matcher.group(1) : null
+    }
+}
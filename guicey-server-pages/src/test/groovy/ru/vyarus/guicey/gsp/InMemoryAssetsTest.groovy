@@ -0,0 +1,113 @@
+package ru.vyarus.guicey.gsp
+
+import com.google.common.collect.ImmutableMultimap
+import com.google.common.net.MediaType
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.ClientSupport
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.gsp.app.asset.AssetLookup
+import ru.vyarus.guicey.gsp.app.asset.memory.InMemoryAssets
+import ru.vyarus.guicey.gsp.info.GspInfoService
+import ru.vyarus.guicey.spa.filter.InMemoryAsset
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import jakarta.ws.rs.core.Response
+import java.util.zip.GZIPInputStream
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class InMemoryAssetsTest extends Specification {
+
+    @Inject
+    GspInfoService info
+
+    def "Check in-memory assets"(ClientSupport client) {
+
+        when: "accessing asset with gzip support"
+        Response res = client.target('http://localhost:8080/index.html').request()
+                .header('Accept-Encoding', 'gzip').get()
+        String etag = res.getHeaderString('ETag')
+        then: "gzip variant served"
+        res.status == 200
+        res.getHeaderString('Content-Encoding') == 'gzip'
+        res.getHeaderString('Vary') == 'Accept-Encoding'
+        etag.endsWith('-gzip"')
+        new GZIPInputStream(res.readEntity(InputStream)).text.contains('Sample page')
+
+        when: "accessing asset without gzip support"
+        res = client.target('http://localhost:8080/index.html').request().get()
+        then: "not compressed variant served"
+        res.status == 200
+        res.getHeaderString('Content-Encoding') == null
+        res.getHeaderString('ETag') != etag
+        res.readEntity(String).contains('Sample page')
+
+        when: "accessing with etag"
+        res = client.target('http://localhost:8080/index.html').request()
+                .header('Accept-Encoding', 'gzip')
+                .header('If-None-Match', etag).get()
+        then: "not modified"
+        res.status == 304
+
+        when: "accessing missing asset"
+        res = client.target('http://localhost:8080/missing.css').request().get()
+        then: "not found"
+        res.status == 404
+
+        and: "asset served from memory"
+        with(info.getApplication("app")) {
+            inMemoryAssetsStats.hitCount() >= 2
+            inMemoryAssetsStats.missCount() >= 1
+            inMemoryAssetsSize > 0
+        }
+    }
+
+    def "Check large asset stays in memory"() {
+
+        setup: "store slightly larger than index page with gzip variant"
+        InMemoryAssets store = new InMemoryAssets(
+                new AssetLookup("app/", ImmutableMultimap.of("", "app/"),
+                        ImmutableMultimap.of("app/", getClass().getClassLoader()), 0), 600)
+
+        when: "loading asset larger than quarter of store size"
+        InMemoryAsset asset = store.get("app/index.html", MediaType.HTML_UTF_8)
+        then: "asset loaded"
+        asset != null
+        asset.size > 600 / 4
+
+        when: "accessing asset again"
+        InMemoryAsset res = store.get("app/index.html", MediaType.HTML_UTF_8)
+        then: "asset not evicted"
+        res.is(asset)
+        store.stats.hitCount() == 1
+        store.size == asset.size
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(
+                            ServerPagesBundle.builder()
+                                    .inMemoryAssets(1024 * 1024)
+                                    .build(),
+                            ServerPagesBundle.app("app", "/app", "/")
+                                    .indexPage("index.html")
+                                    .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package ru.vyarus.guicey.gsp
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.gsp.info.GspInfoService
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class TemplatesCacheTest extends AbstractTest {
+
+    @Inject
+    GspInfoService info
+
+    def "Check templates pinning and warmup"() {
+
+        expect: "templates pinned"
+        App.bundle.viewsConfig['freemarker']['template_update_delay'] == String.valueOf(Integer.MAX_VALUE)
+
+        and: "templates resolved on startup"
+        long misses = info.getApplication("app").assetsCacheStats.missCount()
+        misses > 0
+
+        when: "rendering template"
+        String res = getHtml("/template.ftl")
+        then: "template location resolved from cache"
+        res.contains("page: /template.ftl")
+        info.getApplication("app").assetsCacheStats.hitCount() > 0
+    }
+
+    static class App extends Application<Configuration> {
+
+        static ServerPagesBundle bundle
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bundle = ServerPagesBundle.builder()
+                    .pinTemplates()
+                    .warmupTemplates()
+                    .build()
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(
+                            bundle,
+                            ServerPagesBundle.app("app", "/app", "/")
+                                    .indexPage("index.html")
+                                    .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -12,6 +12,7 @@ import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 import ru.vyarus.guicey.spa.filter.SpaBundleState;
+import ru.vyarus.guicey.spa.filter.SpaIndex;
 import ru.vyarus.guicey.spa.filter.SpaRoutingFilter;
 
 import java.nio.charset.StandardCharsets;
@@ -55,6 +56,7 @@ public class SpaBundle implements GuiceyBundle {
     private String uriPath;
     private String indexFile = "index.html";
     private String noRedirectRegex = DEFAULT_PATTERN;
+    private boolean inMemoryIndex;
 
     @Override
     public void initialize(final GuiceyBootstrap bootstrap) {
@@ -80,7 +82,8 @@ public class SpaBundle implements GuiceyBundle {
         }
 
         final EnumSet<DispatcherType> types = EnumSet.of(DispatcherType.REQUEST);
-        context.addFilter(assetName + "Routing", new SpaRoutingFilter(uriPath, noRedirectRegex))
+        context.addFilter(assetName + "Routing", new SpaRoutingFilter(uriPath, noRedirectRegex,
+                        inMemoryIndex ? new SpaIndex(resourcePath + indexFile) : null))
                 .addMappingForServletNames(types, false, assetName);
 
         logger.info("SPA '{}' for source '{}' registered on uri '{}' in {} context",
@@ -164,6 +167,22 @@ public class SpaBundle implements GuiceyBundle {
             return this;
         }
 
+        /**
+         * Serve index page from memory: index is loaded once (on first access) with precompressed variants
+         * (gzip and, if exists near the index, precompressed brotli file, e.g. "index.html.br") and strong ETag,
+         * derived from index content. Index is written directly for client routes (instead of request forward into
+         * assets servlet) and for application root requests. Variant is selected according to Accept-Encoding
+         * header.
+         * <p>
+         * Index modifications would not be visible without application restart!
+         *
+         * @return builder instance
+         */
+        public Builder inMemoryIndex() {
+            bundle.inMemoryIndex = true;
+            return this;
+        }
+
         /**
          * @return configured dropwizard bundle instance
          */
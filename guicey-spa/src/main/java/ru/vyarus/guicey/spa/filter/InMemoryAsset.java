@@ -0,0 +1,238 @@
+package ru.vyarus.guicey.spa.filter;
+
+import com.google.common.hash.Hashing;
+import com.google.common.net.HttpHeaders;
+import com.google.common.net.MediaType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Asset loaded into memory with precompressed variants. Strong ETag is derived from asset content hash
+ * (each encoding variant has its own ETag because variants are different representations).
+ * <p>
+ * Asset writes itself into response with encoding negotiation (Accept-Encoding) and conditional requests support
+ * (If-None-Match, If-Modified-Since). Used for SPA index ({@link SpaIndex}) and server pages in-memory assets.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class InMemoryAsset {
+
+    /**
+     * Gzip encoding name.
+     */
+    public static final String GZIP = "gzip";
+    /**
+     * Brotli encoding name.
+     */
+    public static final String BROTLI = "br";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private final byte[] content;
+    private final byte[] gzip;
+    private final byte[] brotli;
+    private final String hash;
+    private final long lastModified;
+    private final MediaType mediaType;
+
+    /**
+     * Create in-memory asset.
+     *
+     * @param content      asset content
+     * @param gzip         gzip variant or null
+     * @param brotli       brotli variant or null
+     * @param hash         content hash
+     * @param lastModified last modification time (seconds precision) or 0 if unknown
+     * @param mediaType    asset media type
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    public InMemoryAsset(final byte[] content,
+                         final byte[] gzip,
+                         final byte[] brotli,
+                         final String hash,
+                         final long lastModified,
+                         final MediaType mediaType) {
+        this.content = content;
+        this.gzip = gzip;
+        this.brotli = brotli;
+        this.hash = hash;
+        this.lastModified = lastModified;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Create asset with computed gzip variant (stored only if smaller than content) and content hash.
+     *
+     * @param content      asset content
+     * @param brotli       precompressed brotli variant or null
+     * @param compress     true to compute gzip variant
+     * @param lastModified last modification time (seconds precision) or 0 if unknown
+     * @param mediaType    asset media type
+     * @return in-memory asset
+     * @throws IOException on compression error
+     */
+    public static InMemoryAsset create(final byte[] content,
+                                       final byte[] brotli,
+                                       final boolean compress,
+                                       final long lastModified,
+                                       final MediaType mediaType) throws IOException {
+        final byte[] gzip = compress ? gzip(content) : null;
+        return new InMemoryAsset(content,
+                // no need to store compressed variant if it's not smaller
+                gzip != null && gzip.length < content.length ? gzip : null,
+                brotli,
+                Hashing.murmur3_128().hashBytes(content).toString(),
+                lastModified,
+                mediaType);
+    }
+
+    /**
+     * @param encoding encoding (null for not compressed content)
+     * @return content for encoding
+     */
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public byte[] getContent(final String encoding) {
+        final byte[] res;
+        if (GZIP.equals(encoding)) {
+            res = gzip;
+        } else if (BROTLI.equals(encoding)) {
+            res = brotli;
+        } else {
+            res = content;
+        }
+        return res;
+    }
+
+    /**
+     * @param encoding encoding (null for not compressed content)
+     * @return strong ETag (quoted) of encoding variant
+     */
+    public String getETag(final String encoding) {
+        return '"' + (encoding == null ? hash : hash + '-' + encoding) + '"';
+    }
+
+    /**
+     * @return last modification time (seconds precision) or 0 if unknown
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return asset media type
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return true if compressed variants available
+     */
+    public boolean isCompressed() {
+        return gzip != null || brotli != null;
+    }
+
+    /**
+     * @return occupied memory (all variants size)
+     */
+    public int getSize() {
+        return content.length + (gzip == null ? 0 : gzip.length) + (brotli == null ? 0 : brotli.length);
+    }
+
+    /**
+     * Select the best available encoding, accepted by client. Brotli is preferred over gzip.
+     *
+     * @param acceptEncoding Accept-Encoding header value (may be null)
+     * @return selected encoding or null to serve not compressed content
+     */
+    public String selectEncoding(final String acceptEncoding) {
+        String res = null;
+        if (acceptEncoding != null && isCompressed()) {
+            if (brotli != null && SpaUtils.isAccepted(acceptEncoding, BROTLI)) {
+                res = BROTLI;
+            } else if (gzip != null && SpaUtils.isAccepted(acceptEncoding, GZIP)) {
+                res = GZIP;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Write asset into response: selects variant by Accept-Encoding header and answers with 304 for matched
+     * conditional request. Range requests must be served by assets servlet.
+     *
+     * @param req  request
+     * @param resp response
+     * @throws IOException on write error
+     */
+    public void write(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+        final String encoding = selectEncoding(req.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        final String etag = getETag(encoding);
+        if (isCompressed()) {
+            resp.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        resp.setHeader(HttpHeaders.ETAG, etag);
+        if (lastModified > 0) {
+            resp.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        if (isNotModified(req, etag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        resp.setContentType(mediaType.type() + '/' + mediaType.subtype());
+        if (mediaType.charset().isPresent()) {
+            resp.setCharacterEncoding(mediaType.charset().get().toString());
+        }
+        if (encoding != null) {
+            resp.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        final byte[] body = getContent(encoding);
+        resp.setContentLength(body.length);
+        resp.getOutputStream().write(body);
+    }
+
+    private boolean isNotModified(final HttpServletRequest req, final String etag) {
+        final String ifNoneMatch = req.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // if-modified-since is ignored when if-none-match specified
+            return isMatched(ifNoneMatch, etag);
+        }
+        return lastModified > 0 && req.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE) >= lastModified;
+    }
+
+    /**
+     * If-None-Match uses weak comparison: weak and strong tags with the same value match.
+     *
+     * @param ifNoneMatch header value (tags list or "*")
+     * @param etag        current etag
+     * @return true if etag matched
+     */
+    private static boolean isMatched(final String ifNoneMatch, final String etag) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.trim();
+            if ("*".equals(value)) {
+                return true;
+            }
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(final byte[] content) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(content.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+}
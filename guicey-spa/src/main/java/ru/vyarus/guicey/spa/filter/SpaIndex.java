@@ -0,0 +1,113 @@
+package ru.vyarus.guicey.spa.filter;
+
+import com.google.common.io.Resources;
+import com.google.common.net.HttpHeaders;
+import com.google.common.net.MediaType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * In-memory SPA index page. Index is loaded on first access (once) together with precompressed variants: gzip
+ * variant is computed and brotli variant is used if precompressed file exists near the index (e.g.
+ * {@code index.html.br}). Variant is selected according to Accept-Encoding header. Strong ETag is derived from index
+ * content hash (see {@link InMemoryAsset}).
+ * <p>
+ * Used to write index directly into response instead of request forward into assets servlet. Only GET requests
+ * without Range header are served from memory (all other requests must be forwarded into assets servlet). Missing
+ * index is also remembered (warning logged once) and all requests are forwarded into assets servlet.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class SpaIndex {
+
+    private final Logger logger = LoggerFactory.getLogger(SpaIndex.class);
+
+    private final String path;
+    private volatile InMemoryAsset content;
+    private volatile boolean notFound;
+
+    /**
+     * Create index.
+     *
+     * @param path index classpath path
+     */
+    public SpaIndex(final String path) {
+        this.path = path;
+    }
+
+    /**
+     * Write index into response. Response must be reset before the call.
+     *
+     * @param req  request
+     * @param resp response
+     * @return true if index written, false if request can't be served from memory (not GET method, range request
+     * or index not found) and so forward must be used
+     * @throws IOException on write error
+     */
+    public boolean write(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+        // range (and not GET) requests are handled by assets servlet
+        if (!"GET".equals(req.getMethod()) || req.getHeader(HttpHeaders.RANGE) != null) {
+            return false;
+        }
+        final InMemoryAsset index = getContent(req);
+        if (index == null) {
+            return false;
+        }
+        index.write(req, resp);
+        return true;
+    }
+
+    private InMemoryAsset getContent(final HttpServletRequest req) throws IOException {
+        InMemoryAsset res = content;
+        if (res == null && !notFound) {
+            // not synchronized: in worst case index would be loaded (or warning logged) few times
+            final URL url = find(path);
+            if (url == null) {
+                notFound = true;
+                logger.warn("SPA index '{}' not found in classpath: index would be served by assets servlet", path);
+                return null;
+            }
+            final URL brotli = find(path + '.' + InMemoryAsset.BROTLI);
+            res = InMemoryAsset.create(Resources.toByteArray(url),
+                    brotli == null ? null : Resources.toByteArray(brotli),
+                    true,
+                    // index is not cached by browser (no-cache) so only etag is used
+                    0,
+                    getMediaType(req));
+            content = res;
+        }
+        return res;
+    }
+
+    private MediaType getMediaType(final HttpServletRequest req) {
+        // the same way as in dropwizard assets servlet
+        final String mime = req.getServletContext().getMimeType(path);
+        MediaType res = MediaType.HTML_UTF_8;
+        if (mime != null) {
+            try {
+                res = MediaType.parse(mime);
+                if (res.is(MediaType.ANY_TEXT_TYPE)) {
+                    res = res.withCharset(StandardCharsets.UTF_8);
+                }
+            } catch (IllegalArgumentException ignore) {
+                // use default
+            }
+        }
+        return res;
+    }
+
+    private static URL find(final String path) {
+        try {
+            return Resources.getResource(path);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
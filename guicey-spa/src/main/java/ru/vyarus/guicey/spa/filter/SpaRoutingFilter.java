@@ -21,6 +21,8 @@ import java.util.regex.Pattern;
  * In order to route, filter checks request accept header: if it's compatible with "text/html" - routing is performed.
  * If not, 404 error sent. Also, regex pattern is used to prevent routing (for example, for html templates).
  * This is important for all other assets, which absence must be indicated.
+ * <p>
+ * When in-memory index is used, index page is written directly (without forward into assets servlet).
  *
  * @author Vyacheslav Rusakov
  * @since 02.04.2017
@@ -29,6 +31,7 @@ public class SpaRoutingFilter implements Filter {
 
     private final String target;
     private final Pattern noRedirect;
+    private final SpaIndex index;
 
     /**
      * Create SPA filter.
@@ -37,8 +40,20 @@ public class SpaRoutingFilter implements Filter {
      * @param noRedirectRegex non-SPA routes detection regex
      */
     public SpaRoutingFilter(final String target, final String noRedirectRegex) {
+        this(target, noRedirectRegex, null);
+    }
+
+    /**
+     * Create SPA filter.
+     *
+     * @param target          application root
+     * @param noRedirectRegex non-SPA routes detection regex
+     * @param index           in-memory index (null to always forward into assets servlet)
+     */
+    public SpaRoutingFilter(final String target, final String noRedirectRegex, final SpaIndex index) {
         this.target = target;
         noRedirect = Pattern.compile(noRedirectRegex);
+        this.index = index;
     }
 
     @Override
@@ -57,7 +72,9 @@ public class SpaRoutingFilter implements Filter {
         if (SpaUtils.isRootPage(req.getRequestURI(), target)) {
             // direct call for index (no need to redirect)
             SpaUtils.noCache(resp);
-            chain.doFilter(req, resp);
+            if (!isIndexWritten(req, resp)) {
+                chain.doFilter(req, resp);
+            }
         } else {
             checkRedirect(req, resp, chain);
         }
@@ -83,7 +100,13 @@ public class SpaRoutingFilter implements Filter {
 
         if (SpaUtils.isSpaRoute(req, noRedirect)) {
             // redirect to root
-            SpaUtils.doRedirect(req, resp, target);
+            SpaUtils.doRedirect(req, resp, target, index);
         }
     }
+
+    private boolean isIndexWritten(final HttpServletRequest req,
+                                   final HttpServletResponse resp) throws IOException {
+        // not GET and range requests are handled by assets servlet
+        return index != null && index.write(req, resp);
+    }
 }
@@ -1,15 +1,11 @@
 package ru.vyarus.guicey.spa.filter;
 
-import com.google.common.base.Strings;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.core.HttpHeaders;
-import jakarta.ws.rs.core.MediaType;
 import java.io.IOException;
 import java.util.regex.Pattern;
 
@@ -20,7 +16,7 @@ import java.util.regex.Pattern;
  * @since 16.01.2019
  */
 public final class SpaUtils {
-    private static final Logger LOGGER = LoggerFactory.getLogger(SpaUtils.class);
+    private static final String TEXT_HTML = "text/html";
 
     private SpaUtils() {
     }
@@ -40,30 +36,63 @@ public final class SpaUtils {
     /**
      * Checks if provided request expects html response (by accept header). Did not consider wildcard type
      * ({@literal *}/{@literal *})) as html request, because browser request resources (like fonts) with such type.
-     * Only direct text/html type is recognized (assuming human request).
+     * Only direct text/html type (without parameters) is recognized (assuming human request).
+     * <p>
+     * Header is scanned without parsing (and allocations).
      *
      * @param req request instance
      * @return true if request expect html, false otherwise
      */
     public static boolean isHtmlRequest(final HttpServletRequest req) {
         final String accept = req.getHeader(HttpHeaders.ACCEPT);
-        if (Strings.emptyToNull(accept) != null) {
+        if (accept != null) {
             // accept header could contain multiple mime types
-            for (String type : accept.split(",")) {
-                try {
-                    // only exact accept, no wildcard
-                    if (MediaType.valueOf(type).equals(MediaType.TEXT_HTML_TYPE)) {
-                        return true;
-                    }
-                } catch (Exception ex) {
-                    // ignore errors for better behaviour
-                    LOGGER.debug("Failed to parse media type '" + type + "':", ex.getMessage());
+            int start = 0;
+            while (start < accept.length()) {
+                int end = accept.indexOf(',', start);
+                if (end < 0) {
+                    end = accept.length();
+                }
+                // only exact accept, no wildcard
+                if (isToken(accept, start, end, TEXT_HTML)) {
+                    return true;
                 }
+                start = end + 1;
             }
         }
         return false;
     }
 
+    /**
+     * Checks if encoding is accepted by Accept-Encoding header value (including wildcard). Encoding is not accepted
+     * when disabled with zero quality ("gzip;q=0"). Header is scanned without parsing (and allocations).
+     *
+     * @param acceptEncoding Accept-Encoding header value
+     * @param encoding       encoding name
+     * @return true if encoding accepted, false otherwise
+     */
+    public static boolean isAccepted(final String acceptEncoding, final String encoding) {
+        boolean res = false;
+        int start = 0;
+        while (start < acceptEncoding.length()) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = acceptEncoding.length();
+            }
+            final int params = acceptEncoding.indexOf(';', start);
+            final int nameEnd = params >= 0 && params < end ? params : end;
+            final boolean exact = isToken(acceptEncoding, start, nameEnd, encoding);
+            if (exact || isToken(acceptEncoding, start, nameEnd, "*")) {
+                res = nameEnd == end || !isZeroQuality(acceptEncoding, nameEnd + 1, end);
+                if (exact) {
+                    break;
+                }
+            }
+            start = end + 1;
+        }
+        return res;
+    }
+
     /**
      * Checks if request could be actually a client side route. SPA route should be a html request
      * (by accepted type) and not match to provided pattern (describing non-routing urls).
@@ -76,6 +105,48 @@ public final class SpaUtils {
         return isHtmlRequest(req) && !noRedirect.matcher(req.getRequestURI()).find();
     }
 
+    /**
+     * @param value  string
+     * @param start  region start
+     * @param end    region end
+     * @param target expected token
+     * @return true if region (ignoring leading and trailing spaces) equal to token (case-insensitive)
+     */
+    private static boolean isToken(final String value, final int start, final int end, final String target) {
+        int from = start;
+        int to = end;
+        while (from < to && Character.isWhitespace(value.charAt(from))) {
+            from++;
+        }
+        while (to > from && Character.isWhitespace(value.charAt(to - 1))) {
+            to--;
+        }
+        return to - from == target.length() && value.regionMatches(true, from, target, 0, target.length());
+    }
+
+    /**
+     * @param value string
+     * @param start parameters start
+     * @param end   parameters end
+     * @return true if parameters region is "q=0" (or "q=0.0")
+     */
+    private static boolean isZeroQuality(final String value, final int start, final int end) {
+        int from = start;
+        while (from < end && Character.isWhitespace(value.charAt(from))) {
+            from++;
+        }
+        if (end - from < 3 || !value.regionMatches(true, from, "q=0", 0, 3)) {
+            return false;
+        }
+        for (int i = from + 3; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c != '0' && c != '.' && !Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Applies response header to prevent caching (because SPA page should not be cached).
      *
@@ -100,10 +171,31 @@ public final class SpaUtils {
     public static void doRedirect(final HttpServletRequest req,
                                   final HttpServletResponse res,
                                   final String target) throws IOException, ServletException {
+        doRedirect(req, res, target, null);
+    }
+
+    /**
+     * Same as {@link #doRedirect(HttpServletRequest, HttpServletResponse, String)}, but index page is written
+     * directly from memory (without forward) when in-memory index provided (only for GET requests without Range
+     * header, other requests are forwarded).
+     *
+     * @param req    request instance
+     * @param res    response instance
+     * @param target spa root path
+     * @param index  in-memory index (may be null)
+     * @throws IOException      on error
+     * @throws ServletException on error
+     */
+    public static void doRedirect(final HttpServletRequest req,
+                                  final HttpServletResponse res,
+                                  final String target,
+                                  final SpaIndex index) throws IOException, ServletException {
         // remove previous error (404)
         res.reset();
         // redirect to root
         noCache(res);
-        req.getRequestDispatcher(target).forward(req, res);
+        if (index == null || !index.write(req, res)) {
+            req.getRequestDispatcher(target).forward(req, res);
+        }
     }
 }
@@ -0,0 +1,112 @@
+package ru.vyarus.guicey.spa
+
+import com.google.common.net.HttpHeaders
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.ClientSupport
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+
+import jakarta.ws.rs.core.MediaType
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class InMemoryIndexTest extends AbstractTest {
+
+    def "Check in-memory index"() {
+
+        when: "accessing app"
+        String res = get("/")
+        then: "index page"
+        res.contains("Sample page")
+
+        when: "accessing client route"
+        res = get("/some/")
+        then: "index page"
+        res.contains("Sample page")
+
+        when: "accessing not existing resource"
+        get("/some.html")
+        then: "error"
+        thrown(FileNotFoundException)
+    }
+
+    def "Check index headers"(ClientSupport client) {
+
+        when: "force redirect"
+        def res = client.targetApp('/some').request(MediaType.TEXT_HTML).get()
+        String etag = res.getHeaderString(HttpHeaders.ETAG)
+        then: "index served from memory"
+        res.status == 200
+        etag != null
+        res.getHeaderString(HttpHeaders.CACHE_CONTROL) == 'must-revalidate,no-cache,no-store'
+        res.getHeaderString(HttpHeaders.VARY) == HttpHeaders.ACCEPT_ENCODING
+
+        when: "revalidating index"
+        res = client.targetApp('/some').request(MediaType.TEXT_HTML)
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get()
+        then: "not modified"
+        res.status == 304
+
+        when: "revalidating with etags list"
+        res = client.targetApp('/some').request(MediaType.TEXT_HTML)
+                .header(HttpHeaders.IF_NONE_MATCH, '"other", ' + etag).get()
+        then: "not modified"
+        res.status == 304
+
+        when: "revalidating with weak etag"
+        res = client.targetApp('/some').request(MediaType.TEXT_HTML)
+                .header(HttpHeaders.IF_NONE_MATCH, 'W/' + etag).get()
+        then: "not modified"
+        res.status == 304
+
+        when: "revalidating with any etag"
+        res = client.targetApp('/some').request(MediaType.TEXT_HTML)
+                .header(HttpHeaders.IF_NONE_MATCH, '*').get()
+        then: "not modified"
+        res.status == 304
+
+        when: "revalidating with other etag"
+        res = client.targetApp('/some').request(MediaType.TEXT_HTML)
+                .header(HttpHeaders.IF_NONE_MATCH, '"other"').get()
+        then: "index sent"
+        res.status == 200
+
+        when: "range request for client route"
+        res = client.targetApp('/some').request(MediaType.TEXT_HTML)
+                .header(HttpHeaders.RANGE, 'bytes=0-9').get()
+        then: "forwarded into assets servlet"
+        res.status == 206
+        res.getHeaderString(HttpHeaders.CONTENT_LENGTH) == '10'
+
+        when: "accepting gzip"
+        res = client.targetApp('/').request(MediaType.TEXT_HTML)
+                .header(HttpHeaders.ACCEPT_ENCODING, 'gzip').get()
+        then: "compressed index"
+        res.status == 200
+        res.getHeaderString(HttpHeaders.CONTENT_ENCODING) == 'gzip'
+        res.getHeaderString(HttpHeaders.ETAG) == etag[0..-2] + '-gzip"'
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(SpaBundle
+                            .app("app", "/app", "/")
+                            .inMemoryIndex()
+                            .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.vyarus.guicey.spa
+
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import ru.vyarus.guicey.spa.filter.SpaIndex
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class MissingIndexTest extends Specification {
+
+    def "Check missing index warned once"() {
+
+        setup:
+        SpaIndex index = new SpaIndex("app/missing.html")
+        HttpServletRequest req = Stub(HttpServletRequest) {
+            getMethod() >> "GET"
+        }
+        HttpServletResponse resp = Stub(HttpServletResponse)
+
+        when: "accessing missing index few times"
+        List<Boolean> res = []
+        String out = TestSupport.captureOutput {
+            3.times { res << index.write(req, resp) }
+        }
+
+        then: "request forwarded and warning logged once"
+        res == [false, false, false]
+        out.count("SPA index 'app/missing.html' not found in classpath") == 1
+    }
+}